@@ -0,0 +1,127 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.generator.format.api.InvalidDataFormat;
+import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import com.endava.cats.generator.format.api.ValidDataFormatGenerator;
+import com.endava.cats.model.generator.OpenAPIModelGenerator;
+import com.endava.cats.openapi.OpenApiUtils;
+import com.google.common.reflect.ClassPath;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import jakarta.enterprise.inject.Instance;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Loads the synthetic contracts bundled with the benchmarks and builds the objects
+ * that are normally created by CDI when running CATS.
+ */
+final class BenchmarkSupport {
+    static final String APPLICATION_JSON = "application/json";
+    private static final String CONTRACTS_FOLDER = "/benchmark/contracts/";
+    private static final String GENERATORS_PACKAGE = "com.endava.cats.generator.format.impl";
+
+    private BenchmarkSupport() {
+        //ntd
+    }
+
+    /**
+     * Parses one of the bundled contracts: {@code small}, {@code medium} or {@code large}.
+     *
+     * @param size the contract size
+     * @return the parsed OpenAPI contract
+     */
+    static OpenAPI loadContract(String size) {
+        try (InputStream stream = BenchmarkSupport.class.getResourceAsStream(CONTRACTS_FOLDER + size + ".yml")) {
+            String contract = new String(Objects.requireNonNull(stream, "Unknown contract " + size).readAllBytes(), StandardCharsets.UTF_8);
+            ParseOptions options = new ParseOptions();
+            options.setResolve(true);
+            options.setFlatten(true);
+            return new OpenAPIParser().readContents(contract, null, options).getOpenAPI();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static CatsGlobalContext globalContext(OpenAPI openAPI) {
+        CatsGlobalContext globalContext = new CatsGlobalContext();
+        globalContext.getSchemaMap().putAll(OpenApiUtils.getSchemas(openAPI, List.of(APPLICATION_JSON)));
+        return globalContext;
+    }
+
+    static OpenAPIModelGenerator modelGenerator(CatsGlobalContext globalContext) {
+        return new OpenAPIModelGenerator(globalContext, validDataFormat(), true, 3, true);
+    }
+
+    /**
+     * Generates an example payload for the given schema in the given contract.
+     *
+     * @param size       the contract size
+     * @param schemaName the name of the schema
+     * @return a JSON payload
+     */
+    static String examplePayload(String size, String schemaName) {
+        return modelGenerator(globalContext(loadContract(size))).generate(schemaName).get("example");
+    }
+
+    static ValidDataFormat validDataFormat() {
+        return new ValidDataFormat(instanceOf(ValidDataFormatGenerator.class, GENERATORS_PACKAGE));
+    }
+
+    static InvalidDataFormat invalidDataFormat() {
+        return new InvalidDataFormat(instanceOf(InvalidDataFormatGenerator.class, GENERATORS_PACKAGE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Instance<T> instanceOf(Class<T> type, String packageName) {
+        List<T> beans = instantiateAll(type, packageName);
+        Instance<T> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.stream()).thenAnswer(invocation -> beans.stream());
+        return instance;
+    }
+
+    /**
+     * Creates an instance of each class from the given package implementing the given type.
+     * Classes without a no-args constructor are skipped as they need other beans injected.
+     *
+     * @param type        the implemented type
+     * @param packageName the package to scan
+     * @param <T>         the type of the instances
+     * @return a list of instances sorted by class name
+     */
+    static <T> List<T> instantiateAll(Class<T> type, String packageName) {
+        try {
+            return ClassPath.from(BenchmarkSupport.class.getClassLoader())
+                    .getTopLevelClasses(packageName)
+                    .stream()
+                    .map(ClassPath.ClassInfo::load)
+                    .filter(type::isAssignableFrom)
+                    .filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()))
+                    .sorted(Comparator.comparing(Class::getName))
+                    .map(clazz -> newInstanceOrNull(type, clazz))
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T newInstanceOrNull(Class<T> type, Class<?> clazz) {
+        try {
+            return type.cast(clazz.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
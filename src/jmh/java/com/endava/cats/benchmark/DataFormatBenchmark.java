@@ -0,0 +1,93 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.generator.format.api.InvalidDataFormat;
+import com.endava.cats.generator.format.api.InvalidDataFormatGenerator;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up the format generators for a field and generating a value with them.
+ * The lookup goes through {@code DataFormat.getGenerators} which uses an index of the generators applying to each
+ * format and property name. The {@code AllProperties} benchmarks look up generators for every property of the large
+ * contract, both using the index and by checking every generator for each property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataFormatBenchmark {
+    @Param({"email:email", "uuid:id", "date-time:createdAt", ":street", ":countryCode"})
+    public String formatAndField;
+
+    private ValidDataFormat validDataFormat;
+    private InvalidDataFormat invalidDataFormat;
+    private Schema<String> schema;
+    private String propertyName;
+    private List<InvalidDataFormatGenerator> allGenerators;
+    private List<Map.Entry<Schema<?>, String>> allProperties;
+
+    @Setup
+    public void setup() {
+        validDataFormat = BenchmarkSupport.validDataFormat();
+        invalidDataFormat = BenchmarkSupport.invalidDataFormat();
+        String[] parts = formatAndField.split(":", -1);
+        schema = new Schema<>();
+        schema.setType("string");
+        schema.setFormat(parts[0].isEmpty() ? null : parts[0]);
+        propertyName = parts[1];
+
+        allGenerators = BenchmarkSupport.instantiateAll(InvalidDataFormatGenerator.class, "com.endava.cats.generator.format.impl");
+        allProperties = new ArrayList<>();
+        OpenAPI openAPI = BenchmarkSupport.loadContract("large");
+        openAPI.getComponents().getSchemas().values().forEach(resource -> collectProperties(resource, allProperties));
+    }
+
+    private static void collectProperties(Schema<?> schema, List<Map.Entry<Schema<?>, String>> properties) {
+        Optional.ofNullable(schema.getProperties()).orElse(Map.of()).forEach((name, property) -> {
+            properties.add(Map.entry(property, name));
+            collectProperties(property, properties);
+        });
+    }
+
+    @Benchmark
+    public Object generateValid() {
+        return validDataFormat.generate(schema, propertyName);
+    }
+
+    @Benchmark
+    public InvalidDataFormatGenerator lookupInvalid() {
+        return invalidDataFormat.generator(schema, propertyName);
+    }
+
+    @Benchmark
+    public void indexedLookupAllProperties(Blackhole blackhole) {
+        for (Map.Entry<Schema<?>, String> property : allProperties) {
+            blackhole.consume(invalidDataFormat.generator(property.getKey(), property.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void linearScanAllProperties(Blackhole blackhole) {
+        for (Map.Entry<Schema<?>, String> property : allProperties) {
+            String format = Optional.ofNullable(property.getKey().getFormat()).orElse("");
+            blackhole.consume(allGenerators.stream()
+                    .filter(generator -> generator.appliesTo(format, property.getValue()))
+                    .findFirst());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.factory.NoMediaType;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import com.endava.cats.model.FuzzingData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating the fuzzing data for an operation whose request has deeply nested oneOf and anyOf schemas,
+ * including all the oneOf/anyOf payload combinations. The peak heap used during each iteration is reported as
+ * the {@code peakHeapMb} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FuzzingDataFactoryBenchmark {
+    private static final String PATH = "/orders";
+
+    @Param({"20", "1000"})
+    public int limitXxxOfCombinations;
+
+    private OpenAPI openAPI;
+    private PathItem pathItem;
+    private ValidDataFormat validDataFormat;
+    private FuzzingDataFactory fuzzingDataFactory;
+
+    @Setup
+    public void setup() {
+        openAPI = BenchmarkSupport.loadContract("polymorphic");
+        pathItem = openAPI.getPaths().get(PATH);
+        validDataFormat = BenchmarkSupport.validDataFormat();
+    }
+
+    @Setup(Level.Invocation)
+    public void newFactory() {
+        CatsGlobalContext globalContext = BenchmarkSupport.globalContext(openAPI);
+        globalContext.getSchemaMap().put(NoMediaType.EMPTY_BODY, NoMediaType.EMPTY_BODY_SCHEMA);
+        globalContext.setOpenAPI(openAPI);
+        ProcessingArguments processingArguments = new ProcessingArguments();
+        ReflectionTestUtils.setField(processingArguments, "limitXxxOfCombinations", limitXxxOfCombinations);
+        FilesArguments filesArguments = Mockito.mock(FilesArguments.class);
+        Mockito.when(filesArguments.isNotUrlParam(Mockito.anyString())).thenReturn(true);
+
+        fuzzingDataFactory = new FuzzingDataFactory(filesArguments, processingArguments, globalContext,
+                validDataFormat, Mockito.mock(FilterArguments.class));
+    }
+
+    @Benchmark
+    public List<FuzzingData> fromPathItem(HeapCounters heapCounters) {
+        return fuzzingDataFactory.fromPathItem(PATH, pathItem, openAPI);
+    }
+
+    /**
+     * Records the peak heap usage across all heap memory pools for each iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public double peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void resetPeakUsage() {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Iteration)
+        public void recordPeakUsage() {
+            peakHeapMb = heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024.0 * 1024);
+        }
+
+        private static List<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+        }
+    }
+}
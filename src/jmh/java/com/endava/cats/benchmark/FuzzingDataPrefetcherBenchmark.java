@@ -0,0 +1,91 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.factory.FuzzingDataPrefetcher;
+import com.endava.cats.factory.NoMediaType;
+import com.endava.cats.generator.format.api.ValidDataFormat;
+import com.endava.cats.model.FuzzingData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures preparing the fuzzing data for a contract with 1,200 operations, made of 4 versioned copies of the
+ * {@code large} contract, with and without prefetching. {@code timeToFirstPath} is the time until the fuzzing
+ * loop can send the first request, while {@code allPaths} is the total preparation time for all the paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FuzzingDataPrefetcherBenchmark {
+    private static final int CONTRACT_COPIES = 4;
+
+    @Param({"0", "4", "16"})
+    public int prefetchPaths;
+
+    private OpenAPI openAPI;
+    private List<Map.Entry<String, PathItem>> paths;
+    private ValidDataFormat validDataFormat;
+    private FuzzingDataFactory fuzzingDataFactory;
+
+    @Setup
+    public void setup() {
+        OpenAPI large = BenchmarkSupport.loadContract("large");
+        Paths versionedPaths = new Paths();
+        for (int version = 1; version <= CONTRACT_COPIES; version++) {
+            String prefix = "/v" + version;
+            large.getPaths().forEach((path, item) -> versionedPaths.addPathItem(prefix + path, item));
+        }
+        large.setPaths(versionedPaths);
+        openAPI = large;
+        paths = openAPI.getPaths().entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+        validDataFormat = BenchmarkSupport.validDataFormat();
+    }
+
+    @Setup(Level.Invocation)
+    public void newFactory() {
+        CatsGlobalContext globalContext = BenchmarkSupport.globalContext(openAPI);
+        globalContext.getSchemaMap().put(NoMediaType.EMPTY_BODY, NoMediaType.EMPTY_BODY_SCHEMA);
+        globalContext.setOpenAPI(openAPI);
+        FilesArguments filesArguments = Mockito.mock(FilesArguments.class);
+        Mockito.when(filesArguments.isNotUrlParam(Mockito.anyString())).thenReturn(true);
+
+        fuzzingDataFactory = new FuzzingDataFactory(filesArguments, new ProcessingArguments(), globalContext,
+                validDataFormat, Mockito.mock(FilterArguments.class));
+    }
+
+    @Benchmark
+    public List<FuzzingData> timeToFirstPath() {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, prefetchPaths)) {
+            return prefetcher.next();
+        }
+    }
+
+    @Benchmark
+    public void allPaths(Blackhole blackhole) {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, prefetchPaths)) {
+            for (int i = 0; i < paths.size(); i++) {
+                blackhole.consume(prefetcher.next());
+            }
+        }
+    }
+}
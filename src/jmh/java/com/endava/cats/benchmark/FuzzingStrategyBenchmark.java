@@ -0,0 +1,65 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.strategy.FuzzingStrategy;
+import com.endava.cats.util.FuzzingResult;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replacing a single field in a payload, which is done for each test case of the field fuzzers.
+ * With {@code source=fuzzingData} the replacement is done on the {@link FuzzingData}, like the field fuzzers do,
+ * so the payload is parsed once and each replacement works on a copy of the parsed document.
+ * With {@code source=payload} the replacement is done on the payload string, so the payload is parsed every time.
+ * Run with {@code -prof gc} (the default {@code jmh.args}) to compare allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzingStrategyBenchmark {
+    @Param({"address#street", "address#country"})
+    public String field;
+
+    @Param({"fuzzingData", "payload"})
+    public String source;
+
+    private String payload;
+    private FuzzingData data;
+    private FuzzingStrategy replace;
+    private FuzzingStrategy prefix;
+
+    @Setup
+    public void setup() {
+        payload = BenchmarkSupport.examplePayload("medium", "Resource9");
+        data = FuzzingData.builder().method(HttpMethod.POST).reqSchema(new ObjectSchema()).payload(payload).build();
+        replace = FuzzingStrategy.replace().withData("fuzzed value");
+        prefix = FuzzingStrategy.prefix().withData(" ");
+    }
+
+    @Benchmark
+    public FuzzingResult replaceField() {
+        return this.replaceField(replace);
+    }
+
+    @Benchmark
+    public FuzzingResult prefixField() {
+        return this.replaceField(prefix);
+    }
+
+    private FuzzingResult replaceField(FuzzingStrategy strategy) {
+        if ("payload".equals(source)) {
+            return FuzzingStrategy.replaceField(payload, field, strategy);
+        }
+        return FuzzingStrategy.replaceField(data, field, strategy);
+    }
+}
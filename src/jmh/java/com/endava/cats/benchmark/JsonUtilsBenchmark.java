@@ -0,0 +1,46 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON operations run for almost every fuzzed field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonUtilsBenchmark {
+    @Param({"Resource0", "Resource9"})
+    public String schemaName;
+
+    private String payload;
+
+    @Setup
+    public void setup() {
+        payload = BenchmarkSupport.examplePayload("medium", schemaName);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JsonUtils.parseAsJsonElement(payload);
+    }
+
+    @Benchmark
+    public String deleteNode() {
+        return JsonUtils.deleteNode(payload, "address#street");
+    }
+
+    @Benchmark
+    public Object getVariable() {
+        return JsonUtils.getVariableFromJson(payload, "address#street");
+    }
+}
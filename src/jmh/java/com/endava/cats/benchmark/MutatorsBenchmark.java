@@ -0,0 +1,58 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.fuzzer.special.mutators.api.Mutator;
+import com.endava.cats.model.CatsHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each of the mutators used by the RandomFuzzer, both for body fields and headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MutatorsBenchmark {
+    private static final String MUTATORS_PACKAGE = "com.endava.cats.fuzzer.special.mutators.impl";
+
+    @Param({"NullStringMutator", "RandomAbugidasMutator", "RandomAcceptHeaderMutator", "RandomAlphanumericStringMutator",
+            "RandomContentTypeHeaderMutator", "RandomControlCharsInFieldKeysMutator", "RandomControlCharsMutator", "RandomJsonMutator",
+            "RandomLanguageIdentifiersMutator", "RandomLargeDecimalsMutator", "RandomLargeIntegersMutator", "RandomMaxValuesMutator",
+            "RandomMinValuesMutator", "RandomMultiCodepointEmojisMutator", "RandomNumberMutator", "RandomPayloadSizeMutator",
+            "RandomSingleCodepointEmojisMutator", "RandomStringMutator", "RandomTransferEncodingHeaderMutator", "RandomWhitespaceCharsMutator",
+            "RandomWhitespacesInFieldKeysMutator", "RandomZalgoTextMutator", "RemoveFieldMutator"})
+    public String mutatorName;
+
+    private Mutator mutator;
+    private String payload;
+    private Collection<CatsHeader> headers;
+
+    @Setup
+    public void setup() {
+        mutator = BenchmarkSupport.instantiateAll(Mutator.class, MUTATORS_PACKAGE)
+                .stream()
+                .filter(candidate -> candidate.getClass().getSimpleName().equals(mutatorName))
+                .findFirst()
+                .orElseThrow();
+        payload = BenchmarkSupport.examplePayload("small", "Resource0");
+        headers = List.of(CatsHeader.builder().name("Accept").value(BenchmarkSupport.APPLICATION_JSON).build(),
+                CatsHeader.builder().name("Content-Type").value(BenchmarkSupport.APPLICATION_JSON).build(),
+                CatsHeader.builder().name("X-Request-Id").value("b5f1b8f4-7a34-4b84-9d0c-1b0f5c1f1a5e").build());
+    }
+
+    @Benchmark
+    public void mutate(Blackhole blackhole) {
+        blackhole.consume(mutator.mutate(payload, "name"));
+        blackhole.consume(mutator.mutate(headers));
+    }
+}
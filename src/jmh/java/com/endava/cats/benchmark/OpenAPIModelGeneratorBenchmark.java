@@ -0,0 +1,53 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.generator.OpenAPIModelGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating examples for all the request schemas of the bundled contracts.
+ * A new generator is created for each invocation so that examples cached by previous invocations are not reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenAPIModelGeneratorBenchmark {
+    @Param({"small", "medium", "large"})
+    public String contract;
+
+    private OpenAPI openAPI;
+    private List<String> schemaNames;
+    private OpenAPIModelGenerator generator;
+
+    @Setup
+    public void setup() {
+        openAPI = BenchmarkSupport.loadContract(contract);
+        schemaNames = openAPI.getComponents().getSchemas().keySet().stream().sorted().toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void newGenerator() {
+        CatsGlobalContext globalContext = BenchmarkSupport.globalContext(openAPI);
+        generator = BenchmarkSupport.modelGenerator(globalContext);
+    }
+
+    @Benchmark
+    public void generateExamples(Blackhole blackhole) {
+        for (String schemaName : schemaNames) {
+            blackhole.consume(generator.generate(schemaName));
+        }
+    }
+}
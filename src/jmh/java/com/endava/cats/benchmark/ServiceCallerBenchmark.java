@@ -0,0 +1,95 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.args.ApiArguments;
+import com.endava.cats.args.AuthArguments;
+import com.endava.cats.args.FilesArguments;
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.io.ServiceData;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.TestCaseListener;
+import com.sun.net.httpserver.HttpServer;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full request/response cycle of the ServiceCaller against an in-process HTTP stub on the loopback interface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceCallerBenchmark {
+    private static final byte[] RESPONSE = "{\"id\":\"b5f1b8f4-7a34-4b84-9d0c-1b0f5c1f1a5e\",\"name\":\"cats\"}".getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ServiceCaller serviceCaller;
+    private ServiceData serviceData;
+
+    @Setup
+    public void setup() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", BenchmarkSupport.APPLICATION_JSON);
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RESPONSE);
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        ApiArguments apiArguments = new ApiArguments();
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", Integer.MAX_VALUE);
+        FilesArguments filesArguments = new FilesArguments();
+        filesArguments.loadHeaders();
+        filesArguments.loadRefData();
+        filesArguments.loadURLParams();
+        filesArguments.loadQueryParams();
+
+        serviceCaller = new ServiceCaller(new CatsGlobalContext(), Mockito.mock(TestCaseListener.class),
+                Mockito.mock(ExecutionStatisticsListener.class), filesArguments,
+                new AuthArguments(), apiArguments, new ProcessingArguments());
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        serviceData = ServiceData.builder().relativePath("/resources0").httpMethod(HttpMethod.POST)
+                .payload(BenchmarkSupport.examplePayload("small", "Resource0"))
+                .headers(Set.of()).contentType(BenchmarkSupport.APPLICATION_JSON).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public CatsResponse call() {
+        return serviceCaller.call(serviceData);
+    }
+}
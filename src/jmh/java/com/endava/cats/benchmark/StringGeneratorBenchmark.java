@@ -0,0 +1,32 @@
+package com.endava.cats.benchmark;
+
+import com.endava.cats.generator.simple.StringGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating strings matching patterns commonly found in contracts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StringGeneratorBenchmark {
+    @Param({"[a-zA-Z0-9]+", "^[A-Z]{3}-[0-9]{4}$", "^\\+[0-9]{10,12}$",
+            "^[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}$", "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$"})
+    public String pattern;
+
+    @Param({"1", "50"})
+    public int minLength;
+
+    @Benchmark
+    public String generate() {
+        return StringGenerator.generate(pattern, minLength, 100);
+    }
+}
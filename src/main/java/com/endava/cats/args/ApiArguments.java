@@ -18,6 +18,24 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--adaptiveRateLimit"},
+            description = "Adjust the request rate based on the service responses. The rate is halved on @|bold 429|@ and @|bold 503|@ responses, reduced when response times increase, " +
+                    "and gradually increased back up to @|bold --maxRequestsPerMinute|@. Requests are paused for the duration in the @|bold Retry-After|@ header")
+    private boolean adaptiveRateLimit;
+
+    @CommandLine.Option(names = {"--minRequestsPerMinute"},
+            description = "Minimum number of requests per minute when @|bold --adaptiveRateLimit|@ is enabled. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "60")
+    private int minRequestsPerMinute = 60;
+
+    @CommandLine.Option(names = {"--noContractCache"},
+            description = "Always parse the contract instead of loading it from the contract cache. Parsed contracts are cached in @|bold ~/.cats/cache/contracts|@ based on the content of the contract and its referenced files. The last 20 contracts are kept. The cache is not used by native builds")
+    private boolean noContractCache;
+
+    @CommandLine.Option(names = {"--clearContractCache"},
+            description = "Delete all the cached contracts before parsing the contract")
+    private boolean clearContractCache;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds within which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -33,6 +51,26 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxRequestsInFlight"},
+            description = "Maximum number of HTTP requests executed at the same time across all hosts. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "64")
+    private int maxRequestsInFlight = 64;
+
+    @CommandLine.Option(names = {"--maxRequestsInFlightPerHost"},
+            description = "Maximum number of HTTP requests executed at the same time for a single host. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxRequestsInFlightPerHost = 10;
+
+    @CommandLine.Option(names = {"--maxIdleConnections"},
+            description = "Maximum number of idle connections kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
+    @CommandLine.Option(names = {"--keepAliveDuration"},
+            description = "Time in seconds an idle connection is kept in the HTTP connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "900")
+    private int keepAliveDuration = 900;
+
     @CommandLine.Option(names = {"--userAgent"},
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline cats/${app.version}|@")
     private String userAgent;
@@ -85,7 +123,7 @@ public class ApiArguments {
      * @param fuzzer the name of the fuzzer being run
      * @return a full name for the user agent containing both version data and testId and fuzzer name
      */
-    public String getUserAgent(int testId, String fuzzer) {
+    public String getUserAgent(String testId, String fuzzer) {
         if (userAgent == null) {
             userAgent = "cats/" + appVersion;
         }
@@ -129,6 +129,12 @@ public class FilesArguments {
     @Getter
     private File mutatorsFolder;
 
+    @CommandLine.Option(names = {"--corpus"},
+            description = "A folder where payloads producing new response codes, new response body structures, errors or latency outliers are stored and minimised. " +
+                    "Stored payloads are used as starting points for mutations in subsequent runs. This argument is taken in consideration only when using the `cats random` command")
+    @Setter
+    @Getter
+    private File corpusFolder;
 
     /**
      * Loads all supplied files for --securityFuzzerFile, --customFuzzerFile, --refData, --urlParams and --headers.
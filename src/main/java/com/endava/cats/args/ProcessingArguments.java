@@ -21,9 +21,13 @@ public class ProcessingArguments {
     private SetFuzzingStrategy fieldsFuzzingStrategy = SetFuzzingStrategy.ONEBYONE;
 
     @CommandLine.Option(names = {"--maxFieldsToRemove"},
-            description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ fieldsFuzzingStrategy")
+            description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ or @|bold,underline POWERSET|@ fieldsFuzzingStrategy")
     private int maxFieldsToRemove;
 
+    @CommandLine.Option(names = {"--fieldsSubsetsSampleSize"},
+            description = "When bigger than zero, only this number of randomly picked fields combinations will be removed from a request, instead of all combinations given by the fieldsFuzzingStrategy. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int fieldsSubsetsSampleSize;
+
     @CommandLine.Option(names = {"--edgeSpacesStrategy"},
             description = "This can be either @|bold,underline VALIDATE_AND_TRIM|@ or @|bold,underline TRIM_AND_VALIDATE|@. It can be used to specify what CATS should expect when sending trailing and leading spaces valid values within fields. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private TrimmingStrategy edgeSpacesStrategy = TrimmingStrategy.TRIM_AND_VALIDATE;
@@ -91,6 +95,22 @@ public class ProcessingArguments {
             description = "If set to @|bold true|@, it will use default values (if set) when generating examples. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean useDefaults = true;
 
+    @CommandLine.Option(names = {"--concurrency"},
+            description = "The number of workers used to run fuzzers in parallel for a given path. Test ids and reports are kept in the same order as a sequential run. " +
+                    "The @|bold User-Agent|@ header carries the temporary worker test id, which is also recorded in the request headers of the final test case. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int concurrency = 1;
+
+    @CommandLine.Option(names = {"--prefetchPaths"}, hidden = true,
+            description = "The number of upcoming paths for which fuzzing data is prepared in the background, one path at a time and in fuzzing order, while the current path is fuzzed. " +
+                    "When 0, fuzzing data is prepared just before fuzzing each path. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int prefetchPaths;
+
+    /**
+     * The strategy used by the RandomFuzzer to pick mutators and fields. This is set through the random sub-command.
+     */
+    @Setter
+    private MutatorsScheduling mutatorsScheduling = MutatorsScheduling.RANDOM;
+
     /**
      * Represents a wildcard pattern for JSON content type with optional parameters.
      */
@@ -117,6 +137,15 @@ public class ProcessingArguments {
         return true;
     }
 
+    /**
+     * Checks if fuzzers should be run in parallel.
+     *
+     * @return true if --concurrency is bigger than 1, false otherwise
+     */
+    public boolean isConcurrent() {
+        return concurrency > 1;
+    }
+
     /**
      * Gets the supplied content type of "application/json" and "application/x-www-form-urlencoded" if not supplied.
      *
@@ -167,12 +196,26 @@ public class ProcessingArguments {
         SANITIZE_AND_VALIDATE
     }
 
+    /**
+     * How mutators and fields are picked during continuous fuzzing.
+     */
+    public enum MutatorsScheduling {
+        /**
+         * Each mutator and field has the same chance of being picked. This is default.
+         */
+        RANDOM,
+        /**
+         * Mutators and fields that found new response codes, new response body shapes, errors or latency outliers are picked more often.
+         */
+        ADAPTIVE
+    }
+
     /**
      * Fuzzing strategy when removing fields.
      */
     public enum SetFuzzingStrategy {
         /**
-         * Use all possible combinations.
+         * Use all possible combinations, up to a size if supplied.
          */
         POWERSET,
 
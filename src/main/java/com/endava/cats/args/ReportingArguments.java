@@ -83,6 +83,40 @@ public class ReportingArguments {
             description = "A list of headers to mask when logging into console or in report files. Headers will be replaced with @|underline $$headerName|@ so that test cases can be replayed with environment variables", split = ",")
     private Set<String> maskHeaders;
 
+    @CommandLine.Option(names = {"--reportQueueSize"},
+            description = "The maximum number of test cases waiting to be written in the report folder. Test case files are written on a background thread and fuzzers wait only when the queue is full. " +
+                    "Setting this to 0 will write test cases synchronously. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int reportQueueSize = 256;
+
+    @CommandLine.Option(names = {"--reportFlushInterval"},
+            description = "The maximum time in milliseconds the background report writer waits to fill a batch before writing it. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int reportFlushInterval = 100;
+
+    @CommandLine.Option(names = {"--maxResponseBodyBytes"},
+            description = "Maximum number of bytes of each response body written in the test case files. Bigger bodies are truncated only in the test case files, " +
+                    "while checks, length, words and lines use the entire body. A value of 0 keeps the entire body. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private long maxResponseBodyBytes;
+
+    @CommandLine.Option(names = {"--clusterRepresentatives"},
+            description = "Group errors and warnings with the same result reason, response code, response body structure and error tokens (like exception names) into clusters. " +
+                    "Individual test case files are written only for the first N test cases in each cluster, while the others are listed in the summary and link to the first test case of the cluster. " +
+                    "Test cases without their own file cannot be replayed. Clustering is disabled when 0. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int clusterRepresentatives;
+
+    @CommandLine.Option(names = {"--metricsPort"},
+            description = "Port of a local HTTP listener exposing live run metrics at @|bold /metrics|@ in OpenMetrics/Prometheus text format. The listener is not started when 0. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int metricsPort;
+
+    @CommandLine.Option(names = {"--metricsHost"},
+            description = "The address the @|bold --metricsPort|@ listener binds to. Use 0.0.0.0 to allow scraping from other hosts. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private String metricsHost = "127.0.0.1";
+
+    @CommandLine.Option(names = {"--jfr"}, arity = "0..1", fallbackValue = "cats.jfr", paramLabel = "<file>",
+            description = "Record Java Flight Recorder events to the given file, using the JDK @|bold profile|@ settings. The recording includes CATS events for contract parsing, test cases, HTTP calls and report writing. " +
+                    "When no file is given, the recording is written to @|bold cats.jfr|@")
+    private String jfr;
+
     @CommandLine.Option(names = {"--printProgress"},
             description = "If set to true, it will print any URLs matching the given match arguments.  Default: @|bold,underline ${DEFAULT-VALUE}|@")
     boolean printProgress;
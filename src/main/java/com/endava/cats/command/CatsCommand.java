@@ -14,15 +14,22 @@ import com.endava.cats.context.CatsConfiguration;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.exception.CatsException;
 import com.endava.cats.factory.FuzzingDataFactory;
+import com.endava.cats.factory.FuzzingDataPrefetcher;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
+import com.endava.cats.fuzzer.special.SecurityFuzzer;
+import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.jfr.FlightRecording;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.openapi.OpenApiContractCache;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.report.ExecutionStatisticsListener;
+import com.endava.cats.report.OpenMetricsExporter;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -37,6 +44,7 @@ import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -153,6 +161,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     @Inject
     ExecutionStatisticsListener executionStatisticsListener;
 
+    @Inject
+    OpenMetricsExporter openMetricsExporter;
+
+    @Inject
+    FlightRecording flightRecording;
+
     @Inject
     CatsGlobalContext globalContext;
 
@@ -188,6 +202,9 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
             logger.fatal("Something went wrong while running CATS: {}", e.toString());
             logger.debug("Stacktrace: {}", e);
             exitCodeDueToErrors = 192;
+        } finally {
+            openMetricsExporter.stop();
+            flightRecording.stop();
         }
     }
 
@@ -221,6 +238,8 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     private void doLogic() throws IOException {
         this.doFirst();
+        flightRecording.start();
+        openMetricsExporter.start();
         OpenAPI openAPI = this.createOpenAPI();
         this.checkOpenAPI(openAPI);
         //reporting path is initialized only if OpenAPI spec is successfully parsed
@@ -230,6 +249,9 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         testCaseListener.renderFuzzingHeader();
         this.startFuzzing(openAPI);
         this.executeCustomFuzzer();
+        logger.debug("JsonPath cache statistics: {}", JsonUtils.getJsonPathCacheStats());
+        logger.debug("Pattern cache statistics: {}", StringGenerator.getPatternCacheStats());
+        logger.debug("Memoised examples for referenced schemas: {}", globalContext.getExampleMemo().size());
     }
 
     private void checkOpenAPI(OpenAPI openAPI) {
@@ -280,12 +302,18 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
+        LinkedHashSet<Map.Entry<String, PathItem>> sortedPaths = this.sortPathsAlphabetically(openAPI);
+        List<Map.Entry<String, PathItem>> pathsToFuzz = sortedPaths.stream()
+                .filter(entry -> suppliedPaths.contains(entry.getKey()))
+                .toList();
 
-        for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI)) {
-            if (suppliedPaths.contains(entry.getKey())) {
-                this.fuzzPath(entry, openAPI);
-            } else {
-                logger.skip("Skipping path {}", entry.getKey());
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, pathsToFuzz, processingArguments.getPrefetchPaths())) {
+            for (Map.Entry<String, PathItem> entry : sortedPaths) {
+                if (suppliedPaths.contains(entry.getKey())) {
+                    this.fuzzPath(entry, prefetcher);
+                } else {
+                    logger.skip("Skipping path {}", entry.getKey());
+                }
             }
         }
     }
@@ -306,8 +334,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     OpenAPI createOpenAPI() throws IOException {
         String finishMessage = ansi().fgGreen().a("Finished parsing the contract in {} ms").reset().toString();
         long t0 = System.currentTimeMillis();
-        OpenAPI openAPI = OpenApiUtils.readOpenApi(apiArguments.getContract());
+        OpenApiContractCache contractCache = OpenApiContractCache.create(!apiArguments.isNoContractCache(), apiArguments.isClearContractCache());
+        OpenAPI openAPI = contractCache.readOpenApi(apiArguments.getContract());
         logger.debug(finishMessage, (System.currentTimeMillis() - t0));
+        if (contractCache.getTimeSavedInMs() > 0) {
+            logger.config("Contract loaded from cache, saving {} ms of parsing", contractCache.getTimeSavedInMs());
+        }
         return openAPI;
     }
 
@@ -337,11 +369,11 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         logger.config(ansi().bold().a("Total number of OpenAPI operations: {}").reset().toString(), ansi().fg(Ansi.Color.BLUE).a(nofOfOperations));
     }
 
-    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+    private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, FuzzingDataPrefetcher prefetcher) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = ansi().bold().a("Start fuzzing path {}").reset().toString();
         logger.start(ansiString, pathItemEntry.getKey());
-        List<FuzzingData> fuzzingDataList = fuzzingDataFactory.fromPathItem(pathItemEntry.getKey(), pathItemEntry.getValue(), openAPI);
+        List<FuzzingData> fuzzingDataList = prefetcher.next();
 
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
@@ -366,15 +398,21 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     }
 
     private void runFuzzers(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers) {
+        if (processingArguments.isConcurrent()) {
+            List<String> sequentialOnlyFuzzers = configuredFuzzers.stream()
+                    .filter(fuzzer -> fuzzer instanceof FunctionalFuzzer || fuzzer instanceof SecurityFuzzer)
+                    .map(Fuzzer::toString)
+                    .toList();
+            if (sequentialOnlyFuzzers.isEmpty()) {
+                this.runFuzzersConcurrently(fuzzingDataListWithHttpMethodsFiltered, configuredFuzzers);
+                return;
+            }
+            logger.warning("--concurrency is ignored as {} share output variables between test cases and must run sequentially", sequentialOnlyFuzzers);
+        }
         /*We only run the fuzzers supplied and exclude those that do not apply for certain HTTP methods*/
 
         for (Fuzzer fuzzer : configuredFuzzers) {
-            List<FuzzingData> filteredData = CatsUtil.filterAndPrintNotMatching(
-                    fuzzingDataListWithHttpMethodsFiltered,
-                    data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
-                    logger,
-                    "HTTP method {} is not supported by {}",
-                    t -> t.getMethod().toString(), fuzzer.toString());
+            List<FuzzingData> filteredData = this.filterDataSupportedByFuzzer(fuzzingDataListWithHttpMethodsFiltered, fuzzer);
             filteredData.forEach(data -> {
                 logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
                 logger.debug("Fuzzing payload: {}", data.getPayload());
@@ -391,6 +429,70 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         }
     }
 
+    private List<FuzzingData> filterDataSupportedByFuzzer(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, Fuzzer fuzzer) {
+        return CatsUtil.filterAndPrintNotMatching(
+                fuzzingDataListWithHttpMethodsFiltered,
+                data -> !fuzzer.skipForHttpMethods().contains(data.getMethod()),
+                logger,
+                "HTTP method {} is not supported by {}",
+                t -> t.getMethod().toString(), fuzzer.toString());
+    }
+
+    /**
+     * Each fuzzer and http method pair is submitted as a separate unit to a pool of --concurrency workers.
+     * Test cases are buffered by each worker and committed in submission order, so test ids, reports and
+     * console progress are the same as in a sequential run, regardless of the number of workers.
+     * <p>
+     * Fuzzers are singletons shared by all workers, so they must not keep state between units. The ones that do are:
+     * <ul>
+     *     <li>{@code HttpMethodsFuzzer}, {@code NonRestHttpMethodsFuzzer}, {@code CustomHttpMethodsFuzzer} and
+     *     {@code BaseLinterFuzzer} subclasses, which keep the already fuzzed paths in concurrent sets</li>
+     *     <li>{@code FunctionalFuzzer} and {@code SecurityFuzzer}, which share output variables between test cases
+     *     through {@code CustomFuzzerUtil}; these are never run concurrently</li>
+     * </ul>
+     */
+    private void runFuzzersConcurrently(List<FuzzingData> fuzzingDataListWithHttpMethodsFiltered, List<Fuzzer> configuredFuzzers) {
+        /*lazy computed fields are populated here so that each worker gets an already initialized copy*/
+        fuzzingDataListWithHttpMethodsFiltered.forEach(data -> {
+            data.getPayload();
+            data.getAllFieldsByHttpMethod();
+            data.getAllRequiredFields();
+        });
+        List<Map.Entry<FuzzingData, Future<TestCaseListener.DeferredTestCases>>> units = new ArrayList<>();
+
+        try (ExecutorService workers = Executors.newFixedThreadPool(processingArguments.getConcurrency(), Thread.ofVirtual().name("cats-worker-", 0).factory())) {
+            for (Fuzzer fuzzer : configuredFuzzers) {
+                for (FuzzingData data : this.filterDataSupportedByFuzzer(fuzzingDataListWithHttpMethodsFiltered, fuzzer)) {
+                    FuzzingData workerData = data.toBuilder().build();
+                    units.add(Map.entry(data, workers.submit(() -> this.runDeferredFuzzer(fuzzer, workerData))));
+                }
+            }
+            for (Map.Entry<FuzzingData, Future<TestCaseListener.DeferredTestCases>> unit : units) {
+                testCaseListener.commitDeferredFuzz(unit.getValue().get());
+                testCaseListener.notifySummaryObservers(unit.getKey().getContractPath());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CatsException("Fuzzing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CatsException("Fuzzer execution failed", e);
+        }
+    }
+
+    private TestCaseListener.DeferredTestCases runDeferredFuzzer(Fuzzer fuzzer, FuzzingData data) {
+        testCaseListener.beforeDeferredFuzz(fuzzer.getClass(), data.getContractPath(), data.getMethod().name());
+        try {
+            logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+            fuzzer.fuzz(data);
+        } finally {
+            logger.complete("Finishing Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
+        }
+        return testCaseListener.afterDeferredFuzz();
+    }
+
     @Override
     public int getExitCode() {
         return exitCodeDueToErrors + executionStatisticsListener.getErrors();
@@ -4,7 +4,7 @@ import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
-import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.openapi.OpenApiContractCache;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.VersionProvider;
 import com.google.gson.JsonParser;
@@ -50,6 +50,10 @@ public class GenerateCommand implements Runnable, CommandLine.IExitCodeGenerator
             description = "The OpenAPI contract/spec", required = true)
     private String contract;
 
+    @CommandLine.Option(names = {"--noContractCache"},
+            description = "Always parse the contract instead of loading it from the contract cache")
+    private boolean noContractCache;
+
     @CommandLine.Option(names = {"--httpMethod", "-X"},
             description = "The HTTP method. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     HttpMethod httpMethod = HttpMethod.POST;
@@ -93,7 +97,7 @@ public class GenerateCommand implements Runnable, CommandLine.IExitCodeGenerator
                 PrettyLogger.enableLevels(PrettyLevel.CONFIG, PrettyLevel.FATAL);
             }
 
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(contract);
+            OpenAPI openAPI = OpenApiContractCache.create(!noContractCache, false).readOpenApi(contract);
             this.checkOpenAPI(openAPI);
             this.globalContext.init(openAPI, List.of(contentType), new Properties(), null);
 
@@ -16,6 +16,7 @@ import com.endava.cats.fuzzer.special.mutators.api.Mutator;
 import com.endava.cats.generator.format.api.OpenAPIFormat;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.openapi.OpenApiContractCache;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.JsonUtils;
@@ -150,7 +151,8 @@ public class ListCommand implements Runnable {
 
     void listContractPaths() {
         try {
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(listCommandGroups.listContractOptions.contract);
+            OpenAPI openAPI = OpenApiContractCache.create(!listCommandGroups.listContractOptions.noContractCache, false)
+                    .readOpenApi(listCommandGroups.listContractOptions.contract);
             if (listCommandGroups.listContractOptions.path == null) {
                 this.listAllPaths(openAPI);
             } else {
@@ -372,6 +374,10 @@ public class ListCommand implements Runnable {
                 description = "The OpenAPI contract/spec",
                 required = true)
         String contract;
+
+        @CommandLine.Option(names = {"--noContractCache"},
+                description = "Always parse the contract instead of loading it from the contract cache")
+        private boolean noContractCache;
     }
 
 }
@@ -4,6 +4,7 @@ import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.AuthArguments;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.MatchArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.args.StopArguments;
 import com.endava.cats.http.HttpMethod;
@@ -76,6 +77,10 @@ public class RandomCommand implements Runnable, CommandLine.IExitCodeGenerator {
                     " which result in multiple payloads for a single endpoint and http method")
     Map<String, String> xxxOfSelections;
 
+    @CommandLine.Option(names = {"--mutatorsScheduling"},
+            description = "How mutators and fields are picked. @|bold ADAPTIVE|@ picks more often the ones finding new response codes, new response body shapes, errors or latency outliers. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    ProcessingArguments.MutatorsScheduling mutatorsScheduling = ProcessingArguments.MutatorsScheduling.RANDOM;
+
     @CommandLine.Option(names = {"--path", "-p"}, required = true,
             description = "An API path for continuous fuzzing")
     String path;
@@ -96,6 +101,7 @@ public class RandomCommand implements Runnable, CommandLine.IExitCodeGenerator {
         catsCommand.filesArguments = filesArguments;
         catsCommand.processingArguments.setContentType(this.contentType);
         catsCommand.processingArguments.setXxxOfSelections(this.xxxOfSelections);
+        catsCommand.processingArguments.setMutatorsScheduling(this.mutatorsScheduling);
         catsCommand.filterArguments.setPaths(List.of(path));
         catsCommand.filterArguments.setHttpMethods(List.of(httpMethod));
         catsCommand.run();
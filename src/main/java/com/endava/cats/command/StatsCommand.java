@@ -1,6 +1,7 @@
 package com.endava.cats.command;
 
 import com.endava.cats.util.JsonUtils;
+import com.endava.cats.openapi.OpenApiContractCache;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.util.CatsModelUtils;
 import com.endava.cats.util.VersionProvider;
@@ -56,6 +57,10 @@ public class StatsCommand implements Runnable {
             description = "The OpenAPI contract/spec", required = true)
     private String contract;
 
+    @CommandLine.Option(names = {"--noContractCache"},
+            description = "Always parse the contract instead of loading it from the contract cache")
+    private boolean noContractCache;
+
     @CommandLine.Option(names = {"-s", "--skip"},
             description = "Details to skip printing on console. JSON output will still include them", split = ",")
     private List<Details> skip = Collections.emptyList();
@@ -103,7 +108,7 @@ public class StatsCommand implements Runnable {
     @Override
     public void run() {
         try {
-            OpenAPI openAPI = OpenApiUtils.readOpenApi(this.contract);
+            OpenAPI openAPI = OpenApiContractCache.create(!noContractCache, false).readOpenApi(this.contract);
             String pathSize = String.valueOf(openAPI.getPaths().size());
             String operationsSize = String.valueOf(OpenApiUtils.getNumberOfOperations(openAPI));
             Set<String> servers = OpenApiUtils.getServers(openAPI);
@@ -1,6 +1,7 @@
 package com.endava.cats.context;
 
 import com.endava.cats.factory.NoMediaType;
+import com.endava.cats.model.generator.ExampleMemo;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.util.CatsModelUtils;
 import io.swagger.v3.oas.models.Components;
@@ -19,7 +20,7 @@ import lombok.Setter;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,23 +29,27 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Holds global variables which should not be recomputed for each path.
+ * Collections written while generating examples are thread-safe, as fuzzing data can be prepared in the background while other threads read them.
  */
 @Singleton
 @Getter
 public class CatsGlobalContext {
     public static final String ORIGINAL = "Original";
-    private final Map<String, Schema> schemaMap = new HashMap<>();
+    private final Map<String, Schema> schemaMap = Collections.synchronizedMap(new HashMap<>());
     private final Map<String, Example> exampleMap = new HashMap<>();
-    private final Map<String, Schema> requestDataTypes = new HashMap<>();
-    private final List<String> additionalProperties = new ArrayList<>();
-    private final List<Discriminator> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    private final Map<String, Schema> requestDataTypes = Collections.synchronizedMap(new HashMap<>());
+    private final List<String> additionalProperties = new CopyOnWriteArrayList<>();
+    private final List<Discriminator> discriminators = new CopyOnWriteArrayList<>();
+    private final Map<String, Deque<String>> postSuccessfulResponses = Collections.synchronizedMap(new HashMap<>());
+    private final Set<String> successfulDeletes = Collections.synchronizedSet(new HashSet<>());
     private final Properties fuzzersConfiguration = new Properties();
-    private final Map<String, List<String>> generatedExamplesCache = new HashMap<>();
+    private final Map<String, List<String>> generatedExamplesCache = new ConcurrentHashMap<>();
+    private final ExampleMemo exampleMemo = new ExampleMemo();
 
     private CatsConfiguration catsConfiguration;
     @Setter
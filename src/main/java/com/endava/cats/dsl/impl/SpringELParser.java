@@ -1,11 +1,21 @@
 package com.endava.cats.dsl.impl;
 
 import com.endava.cats.dsl.api.Parser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import org.springframework.context.expression.MapAccessor;
+import org.springframework.expression.Expression;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeLocator;
 import org.springframework.integration.json.JsonPropertyAccessor;
 
 import java.util.List;
@@ -16,10 +26,24 @@ import java.util.Map;
  * The format of these expressions usually start with {@code T{....}}.
  * Expressions can also have access to the JSON elements supplied in request,
  * responses as well as global variables from the {@code FunctionalFuzzer}.
+ * <p>
+ * Parsed expressions are cached and run in {@link SpelCompilerMode#MIXED} mode, so expressions evaluated
+ * many times are compiled to bytecode when possible. Expressions reading from the context map are never compiled,
+ * as compiled map access returns null for missing keys instead of failing and falling back to the response.
+ * Evaluation contexts share the property accessors, method resolvers and type locator, which are thread-safe,
+ * and only get their own root object.
  */
 public class SpringELParser implements Parser {
+    private static final int MAX_CACHED_EXPRESSIONS = 2000;
+    private static final List<PropertyAccessor> PROPERTY_ACCESSORS = List.of(new InterpretedMapAccessor(), new JsonPropertyAccessor());
+    private static final List<MethodResolver> METHOD_RESOLVERS = List.of(new ReflectiveMethodResolver());
+    private static final TypeLocator TYPE_LOCATOR = new StandardTypeLocator();
+
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private final SpelExpressionParser spelExpressionParser;
+    private final Cache<String, Expression> parsedExpressions = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EXPRESSIONS)
+            .build();
 
     /**
      * Initializes a new instance of the {@code SpringELParser} class.
@@ -27,7 +51,7 @@ public class SpringELParser implements Parser {
      * to be used for parsing Spring Expression Language (SpEL) expressions.
      */
     public SpringELParser() {
-        spelExpressionParser = new SpelExpressionParser();
+        spelExpressionParser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, SpringELParser.class.getClassLoader()));
     }
 
     @Override
@@ -45,12 +69,33 @@ public class SpringELParser implements Parser {
     private Object parseExpressionWithContext(String expression, Object context) {
         try {
             StandardEvaluationContext evaluationContext = new StandardEvaluationContext(context);
-            evaluationContext.setPropertyAccessors(List.of(new MapAccessor(), new JsonPropertyAccessor()));
+            evaluationContext.setPropertyAccessors(PROPERTY_ACCESSORS);
+            evaluationContext.setMethodResolvers(METHOD_RESOLVERS);
+            evaluationContext.setTypeLocator(TYPE_LOCATOR);
 
-            return spelExpressionParser.parseExpression(expression).getValue(evaluationContext);
+            return this.getParsedExpression(expression).getValue(evaluationContext);
         } catch (Exception e) {
             log.trace("Something went wrong while parsing: {}", e.getMessage());
             return expression;
         }
     }
+
+    private Expression getParsedExpression(String expression) {
+        Expression parsedExpression = parsedExpressions.getIfPresent(expression);
+        if (parsedExpression == null) {
+            parsedExpression = spelExpressionParser.parseExpression(expression);
+            parsedExpressions.put(expression, parsedExpression);
+        }
+        return parsedExpression;
+    }
+
+    /**
+     * A {@link MapAccessor} which keeps expressions interpreted, so missing keys are reported as not readable.
+     */
+    private static final class InterpretedMapAccessor extends MapAccessor {
+        @Override
+        public boolean isCompilable() {
+            return false;
+        }
+    }
 }
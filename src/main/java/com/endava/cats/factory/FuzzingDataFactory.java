@@ -6,6 +6,7 @@ import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.generator.format.api.ValidDataFormat;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.jfr.FuzzingDataEvent;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.generator.OpenAPIModelGenerator;
@@ -101,6 +102,8 @@ public class FuzzingDataFactory {
      * @return a list of FuzzingData items representing a template that will be used to apply the Fuzzers on
      */
     public List<FuzzingData> fromPathItem(String path, PathItem item, OpenAPI openAPI) {
+        FuzzingDataEvent event = new FuzzingDataEvent();
+        event.begin();
         if (item.get$ref() != null) {
             item = globalContext.getPathItemFromReference(item.get$ref());
         }
@@ -130,6 +133,12 @@ public class FuzzingDataFactory {
             fuzzingDataList.addAll(this.getFuzzingDataForDelete(path, item, item.getDelete(), openAPI));
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.entries = fuzzingDataList.size();
+            event.commit();
+        }
         return fuzzingDataList;
     }
 
@@ -460,8 +469,7 @@ public class FuzzingDataFactory {
     }
 
     private List<String> getRequestPayloadsSamples(MediaType mediaType, String reqSchemaName) {
-        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(),
-                processingArguments.getSelfReferenceDepth(), processingArguments.isUseDefaults());
+        OpenAPIModelGenerator generator = this.createModelGenerator();
 
         List<String> result = this.generateSample(reqSchemaName, generator, true);
 
@@ -472,6 +480,15 @@ public class FuzzingDataFactory {
         return result;
     }
 
+    /**
+     * When payloads are cached, examples generated for referenced schemas are also reused across operations.
+     */
+    private OpenAPIModelGenerator createModelGenerator() {
+        return new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(),
+                processingArguments.getSelfReferenceDepth(), processingArguments.isUseDefaults(),
+                processingArguments.isCachePayloads() ? globalContext.getExampleMemo() : null);
+    }
+
     private List<String> generateSample(String reqSchemaName, OpenAPIModelGenerator generator, boolean createXxxOfCombinations) {
         String onlySchemaName = CatsModelUtils.getSimpleRef(reqSchemaName);
         if (globalContext.isExampleAlreadyGenerated(onlySchemaName) && processingArguments.isCachePayloads()) {
@@ -490,7 +507,7 @@ public class FuzzingDataFactory {
         String payloadSample = examples.get("example");
 
         payloadSample = this.squashAllOfElements(payloadSample);
-        List<String> payloadCombinationsBasedOnOneOfAndAnyOf = List.of(payloadSample);
+        Stream<String> payloadCombinationsBasedOnOneOfAndAnyOf = Stream.of(payloadSample);
 
         if (createXxxOfCombinations) {
             payloadCombinationsBasedOnOneOfAndAnyOf = this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample);
@@ -498,97 +515,108 @@ public class FuzzingDataFactory {
 
         if (processingArguments.isFilterXxxFromRequestPayloads()) {
             payloadCombinationsBasedOnOneOfAndAnyOf = payloadCombinationsBasedOnOneOfAndAnyOf
-                    .stream()
-                    .filter(payload -> !(payload.contains("ANY_OF") || payload.contains("ONE_OF")))
-                    .toList();
+                    .filter(payload -> !(payload.contains("ANY_OF") || payload.contains("ONE_OF")));
         }
 
         if (processingArguments.getLimitXxxOfCombinations() > 0) {
-            int maxCombinations = Math.min(processingArguments.getLimitXxxOfCombinations(), payloadCombinationsBasedOnOneOfAndAnyOf.size());
-            return payloadCombinationsBasedOnOneOfAndAnyOf.stream()
-                    .limit(maxCombinations)
+            return payloadCombinationsBasedOnOneOfAndAnyOf
+                    .limit(processingArguments.getLimitXxxOfCombinations())
                     .toList();
         }
+        List<String> allPayloadCombinations = payloadCombinationsBasedOnOneOfAndAnyOf.toList();
         logger.debug("Cached example for schema name {}", reqSchemaName);
-        globalContext.addGeneratedExample(reqSchemaName, payloadCombinationsBasedOnOneOfAndAnyOf);
-        return payloadCombinationsBasedOnOneOfAndAnyOf;
+        globalContext.addGeneratedExample(reqSchemaName, allPayloadCombinations);
+        return allPayloadCombinations;
     }
 
     /**
      * When we deal with AnyOf or OneOf data types, we need to create multiple payloads based on the number of subtypes defined within the contract. This method will return all these combinations
      * based on the keywords 'ANY_OF' and 'ONE_OF' generated by the OpenAPIModelGenerator.
+     * Root arrays are built lazily, only for the combinations that are consumed.
      *
      * @param initialPayload initial Payload including ONE_OF and ANY_OF information
-     * @return a list of Payload associated with each ANY_OF, ONE_OF combination
+     * @return a stream of Payloads associated with each ANY_OF, ONE_OF combination
      */
-    private List<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload) {
-        List<String> result = new ArrayList<>();
+    private Stream<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload) {
         JsonElement jsonElement = JsonParser.parseString(initialPayload);
+        List<String> result = List.of();
 
         if (jsonElement.isJsonArray()) {
-            result = this.buildArray(this.addNewCombination(jsonElement.getAsJsonArray().get(0)));
+            result = this.addNewCombination(jsonElement.getAsJsonArray().get(0));
+            if (!result.isEmpty()) {
+                return result.stream().map(this::buildArray);
+            }
         }
         if (jsonElement.isJsonObject()) {
             result = this.addNewCombination(jsonElement);
         }
         if (result.isEmpty()) {
-            result.add(initialPayload);
+            return Stream.of(initialPayload);
         }
 
-        return result;
+        return result.stream();
     }
 
-    private List<String> buildArray(List<String> singleElements) {
-        return singleElements
-                .stream()
-                .map(element -> {
-                    JsonElement jsonElement = JsonUtils.parseAsJsonElement(element);
-                    return JsonUtils.GSON.toJson(List.of(jsonElement, jsonElement));
-                })
-                .collect(Collectors.toCollection(ArrayList::new));
+    private String buildArray(String element) {
+        JsonElement jsonElement = JsonUtils.parseAsJsonElement(element);
+        return JsonUtils.GSON.toJson(List.of(jsonElement, jsonElement));
     }
 
     /**
      * This gets all possible ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
+     * <p>
+     * The same payloads and replacements are reached many times while walking the combinations. Payloads are kept
+     * as Strings and parsed only once, when they are first visited, and each ONE_OF/ANY_OF replacement is computed only once.
      *
      * @param jsonElement the initial JSON payload
      * @return a list with all possible ONE_OF and ANY_OF combinations based on the initial JSON payload
      */
     private List<String> addNewCombination(JsonElement jsonElement) {
         Set<String> result = new TreeSet<>();
-        Deque<JsonElement> stack = new ArrayDeque<>();
+        Deque<String> stack = new ArrayDeque<>();
         Set<String> visited = new HashSet<>();
+        Map<String, String> normalizedPayloads = new HashMap<>();
+        Map<XxxOfAlternative, Map<String, String>> replacements = new HashMap<>();
 
-        stack.push(jsonElement);
+        String rootJson = jsonElement.toString();
+        normalizedPayloads.put(rootJson, rootJson);
+        stack.push(rootJson);
 
         while (!stack.isEmpty()) {
-            JsonElement current = stack.pop();
-            String currentJson = current.toString();
+            String payload = stack.pop();
+            String normalizedPayload = normalizedPayloads.get(payload);
 
-            if (visited.contains(currentJson)) {
+            if (normalizedPayload != null && visited.contains(normalizedPayload)) {
                 continue; // Skip if already visited to avoid cycles
             }
+            JsonElement current = JsonParser.parseString(payload);
+            String currentJson = current.toString();
+            normalizedPayloads.put(payload, currentJson);
 
+            if (!visited.add(currentJson)) {
+                continue;
+            }
             result.add(currentJson);
-            visited.add(currentJson);
 
             Map<String, Map<String, JsonElement>> anyOfOrOneOfElements = getAnyOrOneOffElements("$", current);
             anyOfOrOneOfElements = joinCommonOneAndAnyOfs(anyOfOrOneOfElements);
 
             anyOfOrOneOfElements.forEach((pathKey, anyOfOrOneOf) -> {
-                List<String> interimCombinationList = new ArrayList<>(result).stream()
+                List<String> interimCombinationList = result.stream()
                         .limit(Math.min(processingArguments.getLimitXxxOfCombinations(), result.size()))
-                        .collect(Collectors.toCollection(ArrayList::new));
+                        .toList();
 
                 result.clear();
-                anyOfOrOneOf.forEach((key, value) ->
-                        interimCombinationList.forEach(payload ->
-                                result.add(JsonUtils.createValidOneOfAnyOfNode(payload, pathKey, key, String.valueOf(value), anyOfOrOneOf.keySet()))));
+                anyOfOrOneOf.forEach((key, value) -> {
+                    XxxOfAlternative alternative = new XxxOfAlternative(pathKey, key, String.valueOf(value), anyOfOrOneOf.keySet());
+                    Map<String, String> replacedPayloads = replacements.computeIfAbsent(alternative, newAlternative -> new HashMap<>());
+                    interimCombinationList.forEach(interimPayload ->
+                            result.add(replacedPayloads.computeIfAbsent(interimPayload, alternative::replaceIn)));
+                });
 
                 // Add elements to the stack for further processing
                 result.stream()
                         .filter(json -> json.contains(ANY_OF) || json.contains(ONE_OF))
-                        .map(JsonParser::parseString)
                         .forEach(stack::push);
             });
         }
@@ -875,8 +903,7 @@ public class FuzzingDataFactory {
      */
     private Map<String, List<String>> getResponsePayloads(Operation operation) {
         Map<String, List<String>> responses = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        OpenAPIModelGenerator generator = new OpenAPIModelGenerator(globalContext, validDataFormat, processingArguments.isUseExamples(),
-                processingArguments.getSelfReferenceDepth(), processingArguments.isUseDefaults());
+        OpenAPIModelGenerator generator = this.createModelGenerator();
 
         for (String responseCode : operation.getResponses().keySet()) {
             String responseSchemaRef = this.extractResponseSchemaRef(operation, responseCode);
@@ -944,4 +971,13 @@ public class FuzzingDataFactory {
 
         return headers;
     }
+
+    /**
+     * A ONE_OF/ANY_OF alternative replacing all the alternatives found at the given path.
+     */
+    private record XxxOfAlternative(String pathKey, String alternativeKey, String nodeValue, Set<String> alternatives) {
+        String replaceIn(String payload) {
+            return JsonUtils.createValidOneOfAnyOfNode(payload, pathKey, alternativeKey, nodeValue, alternatives);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.exception.CatsException;
+import com.endava.cats.model.FuzzingData;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Prepares the {@link FuzzingData} for the paths that will be fuzzed next while the current path is being fuzzed.
+ * At most {@code lookAhead} paths are prepared ahead of the fuzzing loop, on a single platform thread, in the order in which
+ * paths were supplied. Example generation changes contract schemas while it runs, like setting the enum values of discriminator
+ * properties or pointing {@code allOf} references to normalised schemas, and later paths depend on those changes.
+ * Preparing one path at a time keeps these changes single-threaded and in the same order as a sequential run.
+ * When {@code lookAhead} is 0, fuzzing data is created on the calling thread when it's requested.
+ * <p>
+ * Preparing a path still writes to the shared {@link com.endava.cats.context.CatsGlobalContext} and contract schemas
+ * while the previous path is being fuzzed, so the option enabling it is hidden until paths are prepared into a
+ * separate context which is merged into the global one when the path is returned by {@link #next()}.
+ */
+public class FuzzingDataPrefetcher implements AutoCloseable {
+    private final FuzzingDataFactory fuzzingDataFactory;
+    private final OpenAPI openAPI;
+    private final Iterator<Map.Entry<String, PathItem>> pendingPaths;
+    private final Deque<Future<List<FuzzingData>>> preparedPaths = new ArrayDeque<>();
+    private final ExecutorService workers;
+    private final int lookAhead;
+
+    /**
+     * Creates a new prefetcher and starts preparing the first {@code lookAhead} paths.
+     *
+     * @param fuzzingDataFactory the factory used to create the fuzzing data
+     * @param openAPI            the OpenAPI contract
+     * @param paths              the paths to be fuzzed, in fuzzing order
+     * @param lookAhead          the maximum number of paths prepared in advance
+     */
+    public FuzzingDataPrefetcher(FuzzingDataFactory fuzzingDataFactory, OpenAPI openAPI, List<Map.Entry<String, PathItem>> paths, int lookAhead) {
+        this.fuzzingDataFactory = fuzzingDataFactory;
+        this.openAPI = openAPI;
+        this.pendingPaths = paths.iterator();
+        this.lookAhead = Math.max(0, lookAhead);
+        this.workers = this.lookAhead == 0 ? null : Executors.newSingleThreadExecutor(Thread.ofPlatform().name("cats-prefetch").daemon().factory());
+        this.submitNextPaths();
+    }
+
+    /**
+     * Returns the fuzzing data for the next path, waiting for it to be prepared if needed.
+     * Before waiting, the preparation of the following path is started in order to keep {@code lookAhead} paths in flight.
+     *
+     * @return the list of FuzzingData for the next path
+     */
+    public List<FuzzingData> next() {
+        if (workers == null) {
+            Map.Entry<String, PathItem> entry = pendingPaths.next();
+            return fuzzingDataFactory.fromPathItem(entry.getKey(), entry.getValue(), openAPI);
+        }
+        Future<List<FuzzingData>> nextPath = preparedPaths.poll();
+        if (nextPath == null) {
+            throw new NoSuchElementException("No more paths to prepare");
+        }
+        this.submitNextPaths();
+
+        return this.await(nextPath);
+    }
+
+    private List<FuzzingData> await(Future<List<FuzzingData>> preparedPath) {
+        try {
+            return preparedPath.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CatsException("Preparing fuzzing data interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CatsException("Preparing fuzzing data failed", e);
+        }
+    }
+
+    private void submitNextPaths() {
+        while (workers != null && preparedPaths.size() < lookAhead && pendingPaths.hasNext()) {
+            Map.Entry<String, PathItem> entry = pendingPaths.next();
+            preparedPaths.add(workers.submit(() -> fuzzingDataFactory.fromPathItem(entry.getKey(), entry.getValue(), openAPI)));
+        }
+    }
+
+    /**
+     * Cancels the paths still being prepared and stops the workers.
+     */
+    @Override
+    public void close() {
+        if (workers != null) {
+            preparedPaths.forEach(future -> future.cancel(true));
+            preparedPaths.clear();
+            workers.shutdownNow();
+        }
+    }
+}
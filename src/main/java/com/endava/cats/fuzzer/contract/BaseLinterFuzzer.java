@@ -8,8 +8,8 @@ import com.endava.cats.util.ConsoleUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base class for all Contract Fuzzers. If you need additional behaviour please make sure you don't break existing Fuzzers.
@@ -24,7 +24,7 @@ public abstract class BaseLinterFuzzer implements Fuzzer {
      * The test case listener.
      */
     protected final TestCaseListener testCaseListener;
-    private final List<String> fuzzedPaths = new ArrayList<>();
+    private final Set<String> fuzzedPaths = ConcurrentHashMap.newKeySet();
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
 
     /**
@@ -38,12 +38,11 @@ public abstract class BaseLinterFuzzer implements Fuzzer {
 
     @Override
     public void fuzz(FuzzingData data) {
-        if (fuzzedPaths.contains(this.runKey(data))) {
+        if (!fuzzedPaths.add(this.runKey(data))) {
             return;
         }
 
         testCaseListener.createAndExecuteTest(log, this, () -> addDefaultsAndProcess(data), data);
-        fuzzedPaths.add(this.runKey(data));
     }
 
     /**
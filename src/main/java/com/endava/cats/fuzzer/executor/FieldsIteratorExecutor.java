@@ -133,9 +133,9 @@ public class FieldsIteratorExecutor {
 
     private FuzzingResult getFuzzingResult(FieldsIteratorExecutorContext context, String fuzzedField, FuzzingStrategy strategy) {
         if (context.isSimpleReplaceField()) {
-            return CatsUtil.justReplaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy.getData());
+            return CatsUtil.justReplaceField(context.getFuzzingData(), fuzzedField, strategy.getData());
         }
-        return FuzzingStrategy.replaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy);
+        return FuzzingStrategy.replaceField(context.getFuzzingData(), fuzzedField, strategy);
     }
 
     /**
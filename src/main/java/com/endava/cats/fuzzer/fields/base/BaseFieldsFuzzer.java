@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.fields.base;
 
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.fuzzer.api.Fuzzer;
+import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
@@ -99,7 +100,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             testCaseListener.addScenario(logger, "Send [{}] in request fields: field [{}], value [{}], is required [{}]",
                     this.typeOfDataSentToTheService(), fuzzedField, fuzzingStrategy.truncatedValue(), fuzzingConstraints.getRequiredString());
             logger.debug("Fuzzing possible...");
-            FuzzingResult fuzzingResult = FuzzingStrategy.replaceField(data.getPayload(), fuzzedField, fuzzingStrategy);
+            FuzzingResult fuzzingResult = FuzzingStrategy.replaceField(data, fuzzedField, fuzzingStrategy);
             boolean isFuzzedValueMatchingPattern = this.isFuzzedValueMatchingPattern(fuzzingResult.fuzzedValue(), data, fuzzedField);
 
             ServiceData serviceData = ServiceData.builder().relativePath(data.getPath())
@@ -190,7 +191,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             if (fieldSchema.getPattern() == null || CatsModelUtils.isByteArraySchema(fieldSchema)) {
                 return true;
             }
-            Pattern pattern = Pattern.compile(fieldSchema.getPattern());
+            Pattern pattern = StringGenerator.compilePattern(fieldSchema.getPattern());
 
             return fieldValue == null || pattern.matcher(this.sanitizeString(fieldValue)).matches();
         }
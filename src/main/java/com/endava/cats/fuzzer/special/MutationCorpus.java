@@ -0,0 +1,298 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.JsonUtils;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Stores the payloads which yielded while running the {@link RandomFuzzer}, so that subsequent runs can mutate them
+ * instead of always starting from the payload generated from the contract.
+ * <p>
+ * Each path and HTTP method has its own folder inside the corpus folder. Entries are stored as JSON files named after the
+ * hash of the payload, so the same payload is only stored once. Headers are not stored as they might contain credentials.
+ * Only the smallest payload is kept for each outcome, i.e. response code and response body structure, and each path keeps
+ * at most {@value #MAX_ENTRIES_PER_PATH} entries. Entries which were not minimised yet, including the ones stored by previous
+ * runs, are minimised at the end of the run: fields are removed one at a time, starting with the top level ones, as long as
+ * the service still responds with the same outcome.
+ */
+class MutationCorpus {
+    static final int MAX_MINIMISATION_REPLAYS = 200;
+    static final int MAX_ENTRIES_PER_PATH = 100;
+    private static final double SEED_FROM_CORPUS_PROBABILITY = 0.5;
+    private static final String ENTRY_EXTENSION = ".json";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(MutationCorpus.class);
+    private final Path folder;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Creates a corpus for the path and HTTP method of the given fuzzing data and loads the entries stored by previous runs.
+     *
+     * @param corpusFolder the corpus folder or null if the corpus is not enabled
+     * @param data         the current fuzzing data
+     */
+    MutationCorpus(File corpusFolder, FuzzingData data) {
+        this.folder = corpusFolder == null ? null : corpusFolder.toPath().resolve(folderName(data));
+        this.loadEntries();
+    }
+
+    private static String folderName(FuzzingData data) {
+        return data.getMethod() + "_" + data.getPath().replaceAll("[^a-zA-Z0-9_-]", "_");
+    }
+
+    private void loadEntries() {
+        if (folder == null || !Files.isDirectory(folder)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            files.filter(file -> file.getFileName().toString().endsWith(ENTRY_EXTENSION))
+                    .sorted()
+                    .forEach(this::loadEntry);
+        } catch (IOException e) {
+            logger.warn("There was a problem reading corpus folder {}: {}", folder, e.toString());
+        }
+        entries.values().stream()
+                .sorted(Comparator.comparingInt((Entry entry) -> entry.payload().length()).reversed())
+                .limit(Math.max(0, entries.size() - MAX_ENTRIES_PER_PATH))
+                .toList()
+                .forEach(this::remove);
+        logger.debug("Loaded {} corpus entries from {}", entries.size(), folder);
+    }
+
+    private void loadEntry(Path file) {
+        try {
+            Entry entry = GSON.fromJson(Files.readString(file, StandardCharsets.UTF_8), Entry.class);
+            if (entry != null && JsonUtils.isValidJson(entry.payload()) && !this.keepIfSmallest(entry)) {
+                Files.deleteIfExists(file);
+            }
+        } catch (Exception e) {
+            logger.warn("There was a problem parsing corpus entry {}: {}", file, e.toString());
+        }
+    }
+
+    /**
+     * Returns the payload to be mutated next. Half of the time, when there are entries containing the target field,
+     * it's a random corpus entry. Otherwise, it's the given payload.
+     *
+     * @param payload     the payload generated from the contract
+     * @param targetField the field which will be mutated
+     * @return the payload to be mutated
+     */
+    String selectSeed(String payload, String targetField) {
+        if (entries.isEmpty() || CatsUtil.random().nextDouble() >= SEED_FROM_CORPUS_PROBABILITY) {
+            return payload;
+        }
+        String seed = CatsUtil.selectRandom(entries.values()).payload();
+
+        return JsonUtils.isFieldInJson(seed, targetField) ? seed : payload;
+    }
+
+    /**
+     * Stores the given payload as a corpus entry, unless there is already a smaller entry with the same outcome or the path
+     * already has {@value #MAX_ENTRIES_PER_PATH} entries. Payloads which are not valid JSON or for which the service was not
+     * called are not stored.
+     *
+     * @param payload  the mutated payload
+     * @param response the service response
+     * @param mutator  the name of the mutator which produced the payload
+     * @param field    the mutated field
+     * @param yields   the reasons for which the mutation yielded
+     */
+    void add(String payload, CatsResponse response, String mutator, String field, Set<MutatorsScheduler.Yield> yields) {
+        if (folder == null || response == null || !JsonUtils.isValidJson(payload)) {
+            return;
+        }
+        Entry entry = new Entry(payload, response.getResponseCode(), JsonUtils.getJsonStructure(response.getJsonBody()), mutator, field, Set.copyOf(yields), false);
+        Entry existing = entries.get(entry.outcome());
+        if ((existing == null && entries.size() >= MAX_ENTRIES_PER_PATH) || (existing != null && existing.payload().length() <= payload.length())) {
+            return;
+        }
+        if (this.write(entry)) {
+            Optional.ofNullable(existing).ifPresent(this::remove);
+            entries.put(entry.outcome(), entry);
+        }
+    }
+
+    private boolean keepIfSmallest(Entry entry) {
+        Entry existing = entries.get(entry.outcome());
+        if (existing != null && existing.payload().length() <= entry.payload().length()) {
+            return false;
+        }
+        Optional.ofNullable(existing).ifPresent(this::remove);
+        entries.put(entry.outcome(), entry);
+        return true;
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.outcome());
+        this.delete(entry);
+    }
+
+    /**
+     * Returns the entries currently in the corpus, i.e. the smallest payload for each outcome.
+     *
+     * @return the corpus entries
+     */
+    Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * Shrinks the entries which were not minimised yet to the smallest payload for which the service still responds with the same
+     * response code and response body structure. Entries stored only for their response time are not minimised, as
+     * response time is not reproducible. At most {@link #MAX_MINIMISATION_REPLAYS} payloads are replayed, and entries not
+     * fully minimised within this budget are minimised further by the next runs.
+     *
+     * @param replay function sending the given payload to the service and returning the response or null if the service was not called
+     */
+    void minimise(Function<String, CatsResponse> replay) {
+        int replays = 0;
+        for (Entry entry : List.copyOf(entries.values())) {
+            if (entry.minimised() || !isReproducible(entry) || replays >= MAX_MINIMISATION_REPLAYS) {
+                continue;
+            }
+            String current = entry.payload();
+            Set<String> requiredFields = new HashSet<>();
+            boolean shrunk = true;
+            boolean exhausted = false;
+            while (shrunk && !exhausted) {
+                shrunk = false;
+                for (String field : shallowFirst(JsonUtils.getAllFieldsOf(current))) {
+                    if (requiredFields.contains(field)) {
+                        continue;
+                    }
+                    String candidate = deleteField(current, field);
+                    if (JsonUtils.equalAsJson(candidate, current)) {
+                        continue;
+                    }
+                    if (replays >= MAX_MINIMISATION_REPLAYS) {
+                        exhausted = true;
+                        break;
+                    }
+                    replays++;
+                    if (hasSameOutcome(entry, replay.apply(candidate))) {
+                        current = candidate;
+                        shrunk = true;
+                        break;
+                    }
+                    requiredFields.add(field);
+                }
+            }
+            this.replace(entry, current, !exhausted);
+        }
+        logger.debug("Corpus minimisation replayed {} payloads", replays);
+    }
+
+    private static boolean isReproducible(Entry entry) {
+        return entry.yields() != null && !Set.of(MutatorsScheduler.Yield.LATENCY_OUTLIER).equals(entry.yields());
+    }
+
+    private static List<String> shallowFirst(List<String> fields) {
+        return fields.stream()
+                .sorted(Comparator.comparingLong(field -> field.chars().filter(character -> character == '.' || character == '[').count()))
+                .toList();
+    }
+
+    private static String deleteField(String payload, String field) {
+        try {
+            return JsonUtils.deleteNode(payload, field);
+        } catch (RuntimeException e) {
+            return payload;
+        }
+    }
+
+    private static boolean hasSameOutcome(Entry entry, CatsResponse response) {
+        return response != null && response.getResponseCode() == entry.responseCode()
+                && JsonUtils.getJsonStructure(response.getJsonBody()).equals(entry.responseStructure());
+    }
+
+    private void replace(Entry entry, String minimisedPayload, boolean fullyMinimised) {
+        if (minimisedPayload.equals(entry.payload()) && !fullyMinimised) {
+            return;
+        }
+        Entry minimised = new Entry(minimisedPayload, entry.responseCode(), entry.responseStructure(), entry.mutator(), entry.field(), entry.yields(), fullyMinimised);
+        this.remove(entry);
+        if (this.write(minimised)) {
+            entries.put(minimised.outcome(), minimised);
+        }
+        logger.debug("Minimised corpus entry from {} to {} characters", entry.payload().length(), minimisedPayload.length());
+    }
+
+    private boolean write(Entry entry) {
+        try {
+            Files.createDirectories(folder);
+            Path file = folder.resolve(fileName(entry));
+            if (Files.exists(file)) {
+                return false;
+            }
+            Files.writeString(file, GSON.toJson(entry), StandardCharsets.UTF_8);
+            return true;
+        } catch (IOException e) {
+            logger.warn("There was a problem writing corpus entry in {}: {}", folder, e.toString());
+            return false;
+        }
+    }
+
+    private void delete(Entry entry) {
+        try {
+            Files.deleteIfExists(folder.resolve(fileName(entry)));
+        } catch (IOException e) {
+            logger.warn("There was a problem deleting corpus entry from {}: {}", folder, e.toString());
+        }
+    }
+
+    private static String fileName(Entry entry) {
+        return Hashing.sha256().hashString(entry.payload(), StandardCharsets.UTF_8).toString().substring(0, 16) + ENTRY_EXTENSION;
+    }
+
+    /**
+     * Returns the number of entries in the corpus.
+     *
+     * @return the number of corpus entries
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * A payload stored in the corpus, along with the outcome it produced.
+     *
+     * @param payload           the mutated payload
+     * @param responseCode      the response code returned by the service
+     * @param responseStructure the structure of the response body, as returned by {@link JsonUtils#getJsonStructure(com.google.gson.JsonElement)}
+     * @param mutator           the name of the mutator which produced the payload
+     * @param field             the mutated field
+     * @param yields            the reasons for which the mutation yielded
+     * @param minimised         whether the payload was already minimised
+     */
+    record Entry(String payload, int responseCode, String responseStructure, String mutator, String field,
+                 Set<MutatorsScheduler.Yield> yields, boolean minimised) {
+
+        String outcome() {
+            return responseCode + " " + responseStructure;
+        }
+    }
+}
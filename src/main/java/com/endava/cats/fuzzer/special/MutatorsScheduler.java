@@ -0,0 +1,244 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.fuzzer.special.mutators.api.CustomMutator;
+import com.endava.cats.fuzzer.special.mutators.api.Mutator;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Picks the mutators and fields used by the {@link RandomFuzzer} and keeps track of how productive each of them is.
+ * <p>
+ * A mutation yields when its response has a response code or a body structure not seen before in the run, when it's
+ * reported as an error, or when its response time is an outlier. At most {@value #MAX_SEEN_RESPONSE_STRUCTURES} body structures
+ * are remembered, so responses which keep changing structure don't grow memory or yield forever. With {@link ProcessingArguments.MutatorsScheduling#ADAPTIVE},
+ * mutators and fields are picked using the UCB1 multi-armed bandit algorithm, which favours the ones with the best yield
+ * while still trying the others from time to time. Otherwise, mutators and fields are picked at random.
+ * Yield and cost are tracked in both cases.
+ */
+class MutatorsScheduler {
+    private static final int MIN_SAMPLES_FOR_LATENCY_OUTLIERS = 30;
+    private static final double LATENCY_OUTLIER_DEVIATIONS = 3;
+    static final int MAX_SEEN_RESPONSE_STRUCTURES = 1024;
+
+    private final boolean adaptive;
+    private final Map<Mutator, Arm> mutators = new LinkedHashMap<>();
+    private final Map<String, Arm> fields = new LinkedHashMap<>();
+    private final Set<Integer> seenResponseCodes = new HashSet<>();
+    private final Set<String> seenResponseStructures = new HashSet<>();
+    private long totalSelections;
+    private long latencySamples;
+    private double latencyMean;
+    private double latencySquaredDeviations;
+
+    MutatorsScheduler(List<Mutator> mutators, Collection<String> fields, ProcessingArguments.MutatorsScheduling scheduling) {
+        this.adaptive = scheduling == ProcessingArguments.MutatorsScheduling.ADAPTIVE;
+        mutators.forEach(mutator -> this.mutators.put(mutator, new Arm()));
+        fields.forEach(field -> this.fields.put(field, new Arm()));
+    }
+
+    /**
+     * Picks the field to be mutated.
+     *
+     * @return the selected field or null if there are no fields left
+     */
+    String selectField() {
+        return this.select(fields);
+    }
+
+    /**
+     * Removes a field which cannot be mutated, so it's not picked again.
+     *
+     * @param field the field to remove
+     */
+    void discardField(String field) {
+        fields.remove(field);
+    }
+
+    /**
+     * Picks the mutator to apply.
+     *
+     * @return the selected mutator
+     */
+    Mutator selectMutator() {
+        return this.select(mutators);
+    }
+
+    /**
+     * Records the outcome of applying the given mutator on the given field.
+     *
+     * @param mutator       the applied mutator
+     * @param field         the mutated field
+     * @param response      the response or null if the service was not called
+     * @param error         whether the response was reported as an error
+     * @param elapsedTimeMs the time taken to mutate, call the service and process the response
+     * @return the reasons for which the mutation yielded or an empty set if it didn't yield
+     */
+    Set<Yield> record(Mutator mutator, String field, CatsResponse response, boolean error, long elapsedTimeMs) {
+        Set<Yield> yields = EnumSet.noneOf(Yield.class);
+        if (error) {
+            yields.add(Yield.ERROR);
+        }
+        if (response != null) {
+            if (seenResponseCodes.add(response.getResponseCode())) {
+                yields.add(Yield.NEW_RESPONSE_CODE);
+            }
+            if (this.isNewResponseStructure(JsonUtils.getJsonStructure(response.getJsonBody()))) {
+                yields.add(Yield.NEW_RESPONSE_STRUCTURE);
+            }
+            if (this.isLatencyOutlier(response.getResponseTimeInMs())) {
+                yields.add(Yield.LATENCY_OUTLIER);
+            }
+        }
+        boolean yielded = !yields.isEmpty();
+        totalSelections++;
+        mutators.get(mutator).record(yielded, elapsedTimeMs);
+        Arm fieldArm = fields.get(field);
+        if (fieldArm != null) {
+            fieldArm.record(yielded, elapsedTimeMs);
+        }
+        return yields;
+    }
+
+    /**
+     * Marks the given outcome as already seen, so that mutations producing it again don't yield for a new response code or structure.
+     * This is used for the outcomes of the corpus entries stored by previous runs.
+     *
+     * @param responseCode      the response code
+     * @param responseStructure the response body structure, as returned by {@link JsonUtils#getJsonStructure(com.google.gson.JsonElement)}
+     */
+    void markSeen(int responseCode, String responseStructure) {
+        seenResponseCodes.add(responseCode);
+        this.isNewResponseStructure(responseStructure);
+    }
+
+    /**
+     * Returns the statistics for each mutator, the most productive first.
+     *
+     * @return a list with yield and cost for each mutator
+     */
+    List<MutatorStats> getMutatorsStats() {
+        return mutators.entrySet().stream()
+                .map(entry -> new MutatorStats(mutatorName(entry.getKey()), entry.getValue().selections,
+                        entry.getValue().yields, entry.getValue().totalTimeMs))
+                .sorted(Comparator.comparingLong(MutatorStats::yields).reversed().thenComparing(MutatorStats::mutator))
+                .toList();
+    }
+
+    /**
+     * Returns the name used to report the given mutator.
+     *
+     * @param mutator the mutator
+     * @return the description for custom mutators, the class name otherwise
+     */
+    static String mutatorName(Mutator mutator) {
+        if (mutator instanceof CustomMutator) {
+            return mutator.description();
+        }
+        return mutator.getClass().getSimpleName();
+    }
+
+    private boolean isNewResponseStructure(String responseStructure) {
+        if (seenResponseStructures.size() >= MAX_SEEN_RESPONSE_STRUCTURES) {
+            return false;
+        }
+        return seenResponseStructures.add(responseStructure);
+    }
+
+    private <T> T select(Map<T, Arm> arms) {
+        if (arms.isEmpty()) {
+            return null;
+        }
+        if (!adaptive) {
+            return CatsUtil.selectRandom(arms.keySet());
+        }
+        List<T> best = new ArrayList<>();
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<T, Arm> arm : arms.entrySet()) {
+            double score = arm.getValue().upperConfidenceBound(totalSelections);
+            if (score > bestScore) {
+                bestScore = score;
+                best.clear();
+            }
+            if (score == bestScore) {
+                best.add(arm.getKey());
+            }
+        }
+        return CatsUtil.selectRandom(best);
+    }
+
+    /**
+     * Uses Welford's online algorithm, so that mean and variance are computed without storing the samples.
+     */
+    private boolean isLatencyOutlier(long responseTimeMs) {
+        boolean outlier = false;
+        if (latencySamples >= MIN_SAMPLES_FOR_LATENCY_OUTLIERS) {
+            double standardDeviation = Math.sqrt(latencySquaredDeviations / (double) (latencySamples - 1));
+            outlier = (double) responseTimeMs > latencyMean + LATENCY_OUTLIER_DEVIATIONS * standardDeviation;
+        }
+        latencySamples++;
+        double delta = (double) responseTimeMs - latencyMean;
+        latencyMean += delta / (double) latencySamples;
+        latencySquaredDeviations += delta * ((double) responseTimeMs - latencyMean);
+
+        return outlier;
+    }
+
+    /**
+     * The reasons for which a mutation yields.
+     */
+    enum Yield {
+        NEW_RESPONSE_CODE, NEW_RESPONSE_STRUCTURE, ERROR, LATENCY_OUTLIER
+    }
+
+    /**
+     * Yield and cost of one mutator.
+     *
+     * @param mutator     the mutator name
+     * @param selections  the number of times the mutator was applied
+     * @param yields      the number of mutations that yielded
+     * @param totalTimeMs the total time spent on the mutator's mutations
+     */
+    record MutatorStats(String mutator, long selections, long yields, long totalTimeMs) {
+
+        double yieldRate() {
+            return selections == 0 ? 0 : (double) yields / selections;
+        }
+
+        long averageTimeMs() {
+            return selections == 0 ? 0 : totalTimeMs / selections;
+        }
+    }
+
+    private static final class Arm {
+        private long selections;
+        private long yields;
+        private long totalTimeMs;
+
+        void record(boolean yielded, long elapsedTimeMs) {
+            selections++;
+            totalTimeMs += elapsedTimeMs;
+            if (yielded) {
+                yields++;
+            }
+        }
+
+        double upperConfidenceBound(long totalSelections) {
+            if (selections == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return (double) yields / selections + Math.sqrt(2 * Math.log(totalSelections) / selections);
+        }
+    }
+}
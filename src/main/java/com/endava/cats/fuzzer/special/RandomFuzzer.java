@@ -3,6 +3,7 @@ package com.endava.cats.fuzzer.special;
 import com.endava.cats.annotations.SpecialFuzzer;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.MatchArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.StopArguments;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
@@ -16,7 +17,6 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
-import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -45,6 +45,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
 /**
@@ -61,13 +63,14 @@ public class RandomFuzzer implements Fuzzer {
     private final MatchArguments matchArguments;
     private final StopArguments stopArguments;
     private final FilesArguments filesArguments;
+    private final ProcessingArguments processingArguments;
     private final Instance<Mutator> mutators;
 
     @Inject
     public RandomFuzzer(SimpleExecutor simpleExecutor, TestCaseListener testCaseListener,
                         ExecutionStatisticsListener executionStatisticsListener,
                         MatchArguments matchArguments, Instance<Mutator> mutators,
-                        StopArguments stopArguments, FilesArguments filesArguments) {
+                        StopArguments stopArguments, FilesArguments filesArguments, ProcessingArguments processingArguments) {
         this.simpleExecutor = simpleExecutor;
         this.testCaseListener = testCaseListener;
         this.executionStatisticsListener = executionStatisticsListener;
@@ -75,6 +78,7 @@ public class RandomFuzzer implements Fuzzer {
         this.mutators = mutators;
         this.stopArguments = stopArguments;
         this.filesArguments = filesArguments;
+        this.processingArguments = processingArguments;
     }
 
     @Override
@@ -94,22 +98,34 @@ public class RandomFuzzer implements Fuzzer {
 
         boolean shouldStop = false;
         Set<String> allCatsFields = data.getAllFieldsByHttpMethod();
+        MutatorsScheduler scheduler = new MutatorsScheduler(mutatorsToRun, allCatsFields, processingArguments.getMutatorsScheduling());
+        MutationCorpus corpus = new MutationCorpus(filesArguments.getCorpusFolder(), data);
+        corpus.getEntries().forEach(entry -> scheduler.markSeen(entry.responseCode(), entry.responseStructure()));
 
         testCaseListener.updateUnknownProgress(data);
 
         while (!shouldStop) {
-            String targetField = CatsUtil.selectRandom(allCatsFields);
+            String targetField = scheduler.selectField();
             logger.debug("Selected field to be mutated: [{}]", targetField);
 
+            if (targetField == null) {
+                logger.error("None of the fields are present in the payload");
+                break;
+            }
+
             if (!JsonUtils.isFieldInJson(data.getPayload(), targetField)) {
                 logger.debug("Field not in this payload, selecting another one...");
+                scheduler.discardField(targetField);
                 continue;
             }
 
-            Mutator selectedRandomMutator = CatsUtil.selectRandom(mutatorsToRun);
+            Mutator selectedRandomMutator = scheduler.selectMutator();
             logger.debug("Selected mutator [{}]", selectedRandomMutator.getClass().getSimpleName());
+            long startMutationTime = System.currentTimeMillis();
+            AtomicReference<CatsResponse> response = new AtomicReference<>();
+            AtomicBoolean error = new AtomicBoolean();
 
-            String mutatedPayload = selectedRandomMutator.mutate(data.getPayload(), targetField);
+            String mutatedPayload = selectedRandomMutator.mutate(corpus.selectSeed(data.getPayload(), targetField), targetField);
             Collection<CatsHeader> mutatedHeaders = selectedRandomMutator.mutate(data.getHeaders());
 
             simpleExecutor.execute(
@@ -121,19 +137,72 @@ public class RandomFuzzer implements Fuzzer {
                             .headers(mutatedHeaders)
                             .scenario("Send a random payload mutating field [%s] with [%s] mutator".formatted(targetField, selectedRandomMutator.description()))
                             .expectedSpecificResponseCode("a response that doesn't match given --matchXXX arguments")
-                            .responseProcessor(this::processResponse)
+                            .responseProcessor((catsResponse, fuzzingData) -> {
+                                response.set(catsResponse);
+                                error.set(this.processResponse(catsResponse, fuzzingData));
+                            })
                             .build());
+            Set<MutatorsScheduler.Yield> yields = scheduler.record(selectedRandomMutator, targetField, response.get(), error.get(), System.currentTimeMillis() - startMutationTime);
+            if (!yields.isEmpty()) {
+                corpus.add(mutatedPayload, response.get(), MutatorsScheduler.mutatorName(selectedRandomMutator), targetField, yields);
+            }
 
             testCaseListener.updateUnknownProgress(data);
             shouldStop = stopArguments.shouldStop(executionStatisticsListener.getErrors(), testCaseListener.getCurrentTestCaseNumber(), startTime);
         }
+        this.printMutatorsStats(scheduler);
+        if (filesArguments.getCorpusFolder() != null) {
+            corpus.minimise(payload -> this.replay(data, payload));
+            logger.info("Corpus entries for {} {}: {}", data.getMethod(), data.getPath(), corpus.size());
+        }
+    }
+
+    /**
+     * Sends the given payload as part of the corpus minimisation. Replays are reported as skipped tests.
+     *
+     * @param data    the current fuzzing data
+     * @param payload the payload to send
+     * @return the service response or null if the service was not called
+     */
+    private CatsResponse replay(FuzzingData data, String payload) {
+        AtomicReference<CatsResponse> response = new AtomicReference<>();
+        simpleExecutor.execute(
+                SimpleExecutorContext.builder()
+                        .fuzzer(this)
+                        .fuzzingData(data)
+                        .logger(logger)
+                        .payload(payload)
+                        .scenario("Replay a smaller variant of a corpus entry to check if it produces the same response")
+                        .expectedSpecificResponseCode("the same response code and response body structure as the corpus entry")
+                        .responseProcessor((catsResponse, fuzzingData) -> {
+                            response.set(catsResponse);
+                            testCaseListener.skipTest(logger, "Skipping test as it's only used to minimise the corpus");
+                        })
+                        .build());
+        return response.get();
     }
 
-    void processResponse(CatsResponse catsResponse, FuzzingData fuzzingData) {
+    /**
+     * Reports the response as an error if it matches the supplied --matchXXX arguments.
+     *
+     * @param catsResponse the service response
+     * @param fuzzingData  the current fuzzing data
+     * @return true if the response was reported as an error, false otherwise
+     */
+    boolean processResponse(CatsResponse catsResponse, FuzzingData fuzzingData) {
         if (matchArguments.isMatchResponse(catsResponse)) {
             testCaseListener.reportResultError(logger, fuzzingData, "Response matches arguments", "Response matches" + matchArguments.getMatchString());
-        } else {
-            testCaseListener.skipTest(logger, "Skipping test as response does not match given matchers!");
+            return true;
+        }
+        testCaseListener.skipTest(logger, "Skipping test as response does not match given matchers!");
+        return false;
+    }
+
+    private void printMutatorsStats(MutatorsScheduler scheduler) {
+        logger.info("Mutators yield: mutations producing new response codes, new response body structures, errors or latency outliers");
+        for (MutatorsScheduler.MutatorStats stats : scheduler.getMutatorsStats()) {
+            logger.info("{}: {} mutations, {} yielding ({}%), average time {} ms", stats.mutator(), stats.selections(),
+                    stats.yields(), Math.round(stats.yieldRate() * 100), stats.averageTimeMs());
         }
     }
 
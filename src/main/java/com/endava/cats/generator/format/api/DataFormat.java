@@ -1,5 +1,8 @@
 package com.endava.cats.generator.format.api;
 
+import com.endava.cats.generator.simple.StringGenerator;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.enterprise.inject.Instance;
 
@@ -12,8 +15,17 @@ import java.util.Optional;
  * @param <T> The type of {@code DataFormatGenerator} associated with this data format.
  */
 public abstract class DataFormat<T extends DataFormatGenerator> {
+    private static final int MAX_INDEXED_PROPERTIES = 50000;
 
-    final Instance<T> generators;
+    final List<T> generators;
+
+    /**
+     * Generators applying to each format and property name pair. As {@link DataFormatGenerator#appliesTo(String, String)}
+     * only depends on the format and property name, each pair is checked against all generators only once.
+     */
+    private final Cache<FormatAndPropertyName, List<T>> generatorsIndex = CacheBuilder.newBuilder()
+            .maximumSize(MAX_INDEXED_PROPERTIES)
+            .build();
 
     /**
      * Constructs a new data format with the specified set of data format generators.
@@ -21,25 +33,31 @@ public abstract class DataFormat<T extends DataFormatGenerator> {
      * @param generators The set of data format generators for this data format
      */
     protected DataFormat(Instance<T> generators) {
-        this.generators = generators;
+        this.generators = generators.stream().toList();
     }
 
     /**
-     * Finds the data format generator that is appropriate for the given schema and property name.
+     * Finds the data format generators that are appropriate for the given schema and property name.
      *
      * @param schema       The schema for the property
      * @param propertyName The name of the property
-     * @return An optional containing the data format generator for the property, if it exists
+     * @return the data format generators for the property, in registration order, or an empty list if there are none
      */
     List<T> getGenerators(Schema<?> schema, String propertyName) {
-        return generators.stream()
-                .filter(generator -> generator.appliesTo(Optional.ofNullable(schema.getFormat()).orElse(""),
-                        Optional.ofNullable(propertyName).orElse("")))
-                .toList();
+        FormatAndPropertyName key = new FormatAndPropertyName(Optional.ofNullable(schema.getFormat()).orElse(""),
+                Optional.ofNullable(propertyName).orElse(""));
+        List<T> matchingGenerators = generatorsIndex.getIfPresent(key);
+        if (matchingGenerators == null) {
+            matchingGenerators = generators.stream()
+                    .filter(key::isAppliedBy)
+                    .toList();
+            generatorsIndex.put(key, matchingGenerators);
+        }
+        return matchingGenerators;
     }
 
     public static Object matchesPatternOrNull(Schema<?> schema, Object generated) {
-        if ((schema.getPattern() == null || (schema.getPattern() != null && String.valueOf(generated).matches(schema.getPattern())))
+        if ((schema.getPattern() == null || (schema.getPattern() != null && StringGenerator.matchesPattern(String.valueOf(generated), schema.getPattern())))
                 && (schema.getMaxLength() == null || (String.valueOf(generated).length() <= schema.getMaxLength()))) {
             return generated;
         }
@@ -59,4 +77,10 @@ public abstract class DataFormat<T extends DataFormatGenerator> {
 
         return attempt;
     }
+
+    private record FormatAndPropertyName(String format, String propertyName) {
+        boolean isAppliedBy(DataFormatGenerator generator) {
+            return generator.appliesTo(format, propertyName);
+        }
+    }
 }
@@ -2,6 +2,9 @@ package com.endava.cats.generator.simple;
 
 import com.endava.cats.util.CatsUtil;
 import com.github.curiousoddman.rgxgen.RgxGen;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.Schema;
@@ -48,7 +51,13 @@ public class StringGenerator {
 
     private static final String ALPHANUMERIC_VALUE = "CatsIsCool";
 
-    private static final String EMPTY_PATTERN = "(\\(\\^\\$\\)\\|)|(\\^\\$\\)\\|)|(\\(\\^\\$\\|\\))|(\\(\\|\\^\\$\\))|(\\(\\^\\$\\))";
+    private static final Pattern EMPTY_PATTERN = Pattern.compile("(\\(\\^\\$\\)\\|)|(\\^\\$\\)\\|)|(\\(\\^\\$\\|\\))|(\\(\\|\\^\\$\\))|(\\(\\^\\$\\))");
+    private static final Pattern CHARACTER_BEFORE_START_ANCHOR = Pattern.compile(".\\^.*");
+    private static final Pattern LENGTH_INLINE = Pattern.compile("(\\^)?(\\[[^]]*]\\{\\d+}|\\(\\[[^]]*]\\{\\d+}\\)\\?)*(\\$)?");
+    private static final Pattern NEGATIVE_LOOKAHEAD = Pattern.compile("\\(\\?!.*?\\)");
+    private static final Pattern POSITIVE_LOOKAHEAD = Pattern.compile("\\(\\?=.+?\\)");
+    private static final Pattern LEADING_OR_TRAILING_SPECIAL_CHARS = Pattern.compile("(^[\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+)|([\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+$)");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[\\p{C}\\p{So}\\p{M}\\p{Sk}\r\n]+");
 
     /**
      * Represents an empty string.
@@ -92,6 +101,11 @@ public class StringGenerator {
     private static final org.cornutum.regexpgen.Provider REGEXPGEN_PROVIDER = Provider.forEcmaScript();
 
     private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(StringGenerator.class);
+    private static final int MAX_CACHED_PATTERNS = 10000;
+    private static final Cache<String, Pattern> COMPILED_PATTERNS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).recordStats().build();
+    private static final Cache<String, RgxGen> RGX_GENERATORS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build();
+    private static final Cache<String, RegExpGen> REGEXP_GENERATORS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build();
+    private static final Cache<String, PatternGenerator> SUCCESSFUL_GENERATORS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_PATTERNS).build();
     public static final String CASE_INSENSITIVE = "(?i)";
 
     private StringGenerator() {
@@ -165,19 +179,23 @@ public class StringGenerator {
 
         GeneratorParams generatorParams = new GeneratorParams(pattern, min, max);
 
-        String generatedWithRgxGenerator = callGenerateTwice(StringGenerator::generateUsingRgxGenerator, generatorParams);
-        if (generatedWithRgxGenerator != null) {
-            return generatedWithRgxGenerator;
-        }
-
-        String generatedUsingCatsRegexGenerator = callGenerateTwice(StringGenerator::generateUsingCatsRegexGenerator, generatorParams);
-        if (generatedUsingCatsRegexGenerator != null) {
-            return generatedUsingCatsRegexGenerator;
+        PatternGenerator successfulGenerator = SUCCESSFUL_GENERATORS.getIfPresent(pattern);
+        if (successfulGenerator != null) {
+            String generated = callGenerateTwice(successfulGenerator::generate, generatorParams);
+            if (generated != null) {
+                return generated;
+            }
         }
 
-        String generateUsingRegexpGen = callGenerateTwice(StringGenerator::generateUsingRegexpGen, generatorParams);
-        if (generateUsingRegexpGen != null) {
-            return generateUsingRegexpGen;
+        for (PatternGenerator patternGenerator : PatternGenerator.values()) {
+            if (patternGenerator == successfulGenerator) {
+                continue;
+            }
+            String generated = callGenerateTwice(patternGenerator::generate, generatorParams);
+            if (generated != null) {
+                SUCCESSFUL_GENERATORS.put(pattern, patternGenerator);
+                return generated;
+            }
         }
 
         throw new IllegalArgumentException("Could not generate a string for pattern " + pattern + " with min " + min + " and max " + max);
@@ -186,7 +204,7 @@ public class StringGenerator {
     public static String callGenerateTwice(Function<GeneratorParams, String> generator, GeneratorParams generatorParams) {
         try {
             String initialVersion = generator.apply(generatorParams);
-            if (initialVersion.matches(generatorParams.pattern)) {
+            if (matchesPattern(initialVersion, generatorParams.pattern)) {
                 LOGGER.info("Generated value " + initialVersion + " matched " + generatorParams.pattern);
                 return initialVersion;
             }
@@ -196,7 +214,7 @@ public class StringGenerator {
 
         try {
             String secondVersion = generator.apply(new GeneratorParams(removeLookaheadAssertions(generatorParams.pattern), generatorParams.min, generatorParams.max));
-            if (secondVersion.matches(generatorParams.pattern)) {
+            if (matchesPattern(secondVersion, generatorParams.pattern)) {
                 LOGGER.info("Generated value with lookaheads removed " + secondVersion + " matched " + generatorParams.pattern);
                 return secondVersion;
             }
@@ -212,7 +230,7 @@ public class StringGenerator {
             return ALPHANUMERIC_PLUS;
         }
 
-        if (pattern.matches(".\\^.*")) {
+        if (CHARACTER_BEFORE_START_ANCHOR.matcher(pattern).matches()) {
             pattern = pattern.substring(1);
         }
         if (pattern.endsWith("$/")) {
@@ -224,7 +242,7 @@ public class StringGenerator {
         if (pattern.startsWith("/^")) {
             pattern = StringUtils.removeStart(pattern, "/");
         }
-        pattern = pattern.replaceAll(EMPTY_PATTERN, EMPTY);
+        pattern = EMPTY_PATTERN.matcher(pattern).replaceAll(EMPTY);
         pattern = pattern.replace(CASE_INSENSITIVE, EMPTY);
 
         return pattern;
@@ -235,7 +253,7 @@ public class StringGenerator {
         int min = generatorParams.min;
         int max = generatorParams.max;
 
-        RegExpGen generator = REGEXPGEN_PROVIDER.matchingExact(pattern);
+        RegExpGen generator = regexpGenerator(pattern);
 
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
             if (min == max) {
@@ -243,14 +261,14 @@ public class StringGenerator {
             }
             String generated = generator.generate(REGEXP_RANDOM_GEN, min, max);
 
-            if (generated.matches(pattern)) {
+            if (matchesPattern(generated, pattern)) {
                 LOGGER.debug("Generated using REGEXP {} matches {}", generated, pattern);
                 return generated;
             }
         }
 
         LOGGER.debug("Returning alphanumeric random string using REGEXP");
-        return REGEXPGEN_PROVIDER.matchingExact(ALPHANUMERIC_PLUS).generate(REGEXP_RANDOM_GEN, min, max);
+        return regexpGenerator(ALPHANUMERIC_PLUS).generate(REGEXP_RANDOM_GEN, min, max);
     }
 
     private static String generateUsingCatsRegexGenerator(GeneratorParams generatorParams) {
@@ -258,17 +276,17 @@ public class StringGenerator {
         int min = generatorParams.min;
         int max = generatorParams.max;
 
+        Pattern compiledPattern = compilePattern(pattern);
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
-            Pattern compiledPattern = Pattern.compile(pattern);
             String secondVersionBase = RegexGenerator.generate(compiledPattern, EMPTY, min, max);
 
-            if (secondVersionBase.matches(pattern)) {
+            if (compiledPattern.matcher(secondVersionBase).matches()) {
                 LOGGER.debug("Generated using CATS generator {} and matches {}", secondVersionBase, pattern);
                 return secondVersionBase;
             }
             String generatedString = composeString(secondVersionBase, min, max);
 
-            if (generatedString.matches(pattern)) {
+            if (compiledPattern.matcher(generatedString).matches()) {
                 LOGGER.debug("Generated using CATS generator {} and matches {}", generatedString, pattern);
                 return generatedString;
             }
@@ -284,14 +302,15 @@ public class StringGenerator {
         int max = generatorParams.max;
 
         try {
+            RgxGen rgxGen = rgxGenerator(pattern);
             do {
-                generatedValue = new RgxGen(pattern).generate();
-                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && generatedValue.matches(pattern)) {
+                generatedValue = rgxGen.generate();
+                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && matchesPattern(generatedValue, pattern)) {
                     return generatedValue;
                 }
                 generatedValue = composeString(generatedValue, min, max);
                 attempts++;
-            } while (attempts < MAX_ATTEMPTS_GENERATE && !generatedValue.matches(pattern));
+            } while (attempts < MAX_ATTEMPTS_GENERATE && !matchesPattern(generatedValue, pattern));
         } catch (Exception e) {
             LOGGER.debug("RGX generator failed, returning empty.", e);
             return ALPHANUMERIC_VALUE;
@@ -306,7 +325,7 @@ public class StringGenerator {
 
             if (alternatives.length > 1) {
                 for (String alternative : alternatives) {
-                    Pattern.compile(alternative);
+                    compilePattern(alternative);
                 }
                 return true;
             } else {
@@ -318,8 +337,7 @@ public class StringGenerator {
     }
 
     private static boolean hasLengthInline(String pattern) {
-        Pattern groupPattern = Pattern.compile("(\\^)?(\\[[^]]*]\\{\\d+}|\\(\\[[^]]*]\\{\\d+}\\)\\?)*(\\$)?");
-        Matcher groupMatcher = groupPattern.matcher(pattern);
+        Matcher groupMatcher = LENGTH_INLINE.matcher(pattern);
 
         return groupMatcher.matches();
     }
@@ -443,9 +461,8 @@ public class StringGenerator {
      * @return a sanitized version of the given string
      */
     public static String sanitize(String input) {
-        return input
-                .replaceAll("(^[\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+)|([\\p{Z}\\p{C}\\p{So}\\p{M}\\p{Sk}]+$)", EMPTY)
-                .replaceAll("[\\p{C}\\p{So}\\p{M}\\p{Sk}\r\n]+", EMPTY);
+        String trimmed = LEADING_OR_TRAILING_SPECIAL_CHARS.matcher(input).replaceAll(EMPTY);
+        return SPECIAL_CHARS.matcher(trimmed).replaceAll(EMPTY);
     }
 
     /**
@@ -457,6 +474,63 @@ public class StringGenerator {
         return UNSUPPORTED_MEDIA_TYPES;
     }
 
+    /**
+     * Returns the compiled version of the given regex. Compiled patterns are cached, so each regex is only compiled once.
+     *
+     * @param regex the regex to compile
+     * @return a compiled pattern
+     * @throws PatternSyntaxException if the regex is not valid
+     */
+    public static Pattern compilePattern(String regex) {
+        Pattern compiledPattern = COMPILED_PATTERNS.getIfPresent(regex);
+        if (compiledPattern == null) {
+            compiledPattern = Pattern.compile(regex);
+            COMPILED_PATTERNS.put(regex, compiledPattern);
+        }
+        return compiledPattern;
+    }
+
+    /**
+     * Checks if the given value fully matches the given regex. Same as {@link String#matches(String)}, but using the compiled patterns cache.
+     *
+     * @param value the value to check
+     * @param regex the regex
+     * @return true if the value matches the regex, false otherwise
+     * @throws PatternSyntaxException if the regex is not valid
+     */
+    public static boolean matchesPattern(String value, String regex) {
+        return compilePattern(regex).matcher(value).matches();
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache used for compiled patterns.
+     *
+     * @return a summary of the compiled patterns cache statistics
+     */
+    public static String getPatternCacheStats() {
+        CacheStats stats = COMPILED_PATTERNS.stats();
+        return "compiled patterns: size %d, hits %d, misses %d; patterns with a known generator: %d".formatted(
+                COMPILED_PATTERNS.size(), stats.hitCount(), stats.missCount(), SUCCESSFUL_GENERATORS.size());
+    }
+
+    private static RgxGen rgxGenerator(String pattern) {
+        RgxGen rgxGen = RGX_GENERATORS.getIfPresent(pattern);
+        if (rgxGen == null) {
+            rgxGen = new RgxGen(pattern);
+            RGX_GENERATORS.put(pattern, rgxGen);
+        }
+        return rgxGen;
+    }
+
+    private static RegExpGen regexpGenerator(String pattern) {
+        RegExpGen regExpGen = REGEXP_GENERATORS.getIfPresent(pattern);
+        if (regExpGen == null) {
+            regExpGen = REGEXPGEN_PROVIDER.matchingExact(pattern);
+            REGEXP_GENERATORS.put(pattern, regExpGen);
+        }
+        return regExpGen;
+    }
+
     /**
      * Removes lookaheads which might cause current generators to fail.
      *
@@ -465,9 +539,9 @@ public class StringGenerator {
      */
     public static String removeLookaheadAssertions(String regex) {
         // Replace negative lookahead (?!) with an empty string
-        regex = regex.replaceAll("\\(\\?!.*?\\)", "");
+        regex = NEGATIVE_LOOKAHEAD.matcher(regex).replaceAll("");
         // Replace positive lookahead (?=) with an empty string
-        regex = regex.replaceAll("\\(\\?=.+?\\)", "");
+        regex = POSITIVE_LOOKAHEAD.matcher(regex).replaceAll("");
         return regex;
     }
 
@@ -480,4 +554,30 @@ public class StringGenerator {
      */
     public record GeneratorParams(String pattern, int min, int max) {
     }
+
+    /**
+     * The generators used to generate strings matching a pattern, in the order they are tried.
+     */
+    private enum PatternGenerator {
+        RGX {
+            @Override
+            String generate(GeneratorParams generatorParams) {
+                return generateUsingRgxGenerator(generatorParams);
+            }
+        },
+        CATS {
+            @Override
+            String generate(GeneratorParams generatorParams) {
+                return generateUsingCatsRegexGenerator(generatorParams);
+            }
+        },
+        REGEXP {
+            @Override
+            String generate(GeneratorParams generatorParams) {
+                return generateUsingRegexpGen(generatorParams);
+            }
+        };
+
+        abstract String generate(GeneratorParams generatorParams);
+    }
 }
@@ -0,0 +1,198 @@
+package com.endava.cats.io;
+
+import com.endava.cats.report.ExecutionStatisticsListener;
+import com.google.common.util.concurrent.RateLimiter;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of requests sent to the service. In adaptive mode, the rate is adjusted using
+ * additive-increase/multiplicative-decrease based on the responses received:
+ * <ul>
+ *     <li>429 and 503 responses halve the rate and pause all requests for the duration in the {@code Retry-After} header, if present;
+ *     throttled responses to requests sent before the last decrease don't halve the rate again, as they reflect the old rate</li>
+ *     <li>response times rising well above the baseline response time reduce the rate by 20%; the baseline is the best
+ *     observed response time, slowly drifting towards the current response times so that a lasting change in response
+ *     times, like moving to slower endpoints, doesn't keep reducing the rate</li>
+ *     <li>otherwise the rate is increased every second by 5% of the ceiling</li>
+ * </ul>
+ * The rate is kept between the supplied floor and ceiling and it is changed at most once per second.
+ */
+class AdaptiveRateLimiter {
+    private static final long ADJUSTMENT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RETRY_AFTER_SECONDS = 120;
+    private static final double THROTTLED_DECREASE_FACTOR = 0.5;
+    private static final double LATENCY_DECREASE_FACTOR = 0.8;
+    private static final double INCREASE_STEP = 0.05;
+    private static final double LATENCY_THRESHOLD = 2.0;
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final int LATENCY_WARMUP_RESPONSES = 10;
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private final RateLimiter rateLimiter;
+    private final boolean adaptive;
+    private final double floorPerMinute;
+    private final double ceilingPerMinute;
+    private final ExecutionStatisticsListener executionStatisticsListener;
+
+    private double ratePerMinute;
+    private double smoothedLatency;
+    private double baselineLatency = Double.MAX_VALUE;
+    private int latencySamples;
+    private long lastAdjustment = System.nanoTime();
+    private long lastThrottledDecrease;
+    private boolean throttled;
+    private volatile long pausedUntil = System.nanoTime();
+
+    private AdaptiveRateLimiter(double floorPerMinute, double ceilingPerMinute, boolean adaptive, ExecutionStatisticsListener executionStatisticsListener) {
+        this.floorPerMinute = Math.max(1, Math.min(floorPerMinute, ceilingPerMinute));
+        this.ceilingPerMinute = Math.max(1, ceilingPerMinute);
+        this.adaptive = adaptive;
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.ratePerMinute = this.ceilingPerMinute;
+        this.rateLimiter = RateLimiter.create(ratePerMinute / 60);
+    }
+
+    /**
+     * Creates a rate limiter with a fixed rate.
+     *
+     * @param requestsPerMinute the number of requests per minute
+     * @return a fixed rate limiter
+     */
+    static AdaptiveRateLimiter fixed(double requestsPerMinute) {
+        return new AdaptiveRateLimiter(requestsPerMinute, requestsPerMinute, false, null);
+    }
+
+    /**
+     * Creates a rate limiter that adjusts its rate between the given floor and ceiling based on the service responses.
+     * The limiter starts at the ceiling rate.
+     *
+     * @param floorPerMinute              the minimum number of requests per minute
+     * @param ceilingPerMinute            the maximum number of requests per minute
+     * @param executionStatisticsListener used to record the effective rate each time it changes
+     * @return an adaptive rate limiter
+     */
+    static AdaptiveRateLimiter adaptive(double floorPerMinute, double ceilingPerMinute, ExecutionStatisticsListener executionStatisticsListener) {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(floorPerMinute, ceilingPerMinute, true, executionStatisticsListener);
+        executionStatisticsListener.recordEffectiveRate(limiter.ratePerMinute);
+        return limiter;
+    }
+
+    /**
+     * Blocks until a request can be sent.
+     *
+     * @return the time spent waiting in nanoseconds
+     */
+    long acquire() {
+        long start = System.nanoTime();
+        long pauseNanos = pausedUntil - start;
+        while (pauseNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return System.nanoTime() - start;
+            }
+            pauseNanos = pausedUntil - System.nanoTime();
+        }
+        rateLimiter.acquire();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Adjusts the rate based on the given response details. Does nothing when not in adaptive mode.
+     *
+     * @param responseCode     the HTTP response code
+     * @param responseTimeInMs the response time in milliseconds
+     * @param retryAfter       the value of the Retry-After header, if present
+     */
+    synchronized void onResponse(int responseCode, long responseTimeInMs, String retryAfter) {
+        if (!adaptive) {
+            return;
+        }
+        if (responseCode == 429 || responseCode == 503) {
+            this.pause(retryAfter);
+            long requestSentAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(responseTimeInMs);
+            if (!throttled || requestSentAt - lastThrottledDecrease >= 0) {
+                this.adjust(ratePerMinute * THROTTLED_DECREASE_FACTOR, true);
+                lastThrottledDecrease = lastAdjustment;
+                throttled = true;
+            }
+        } else if (this.isLatencyRising(responseTimeInMs)) {
+            this.adjust(ratePerMinute * LATENCY_DECREASE_FACTOR, false);
+        } else {
+            this.adjust(ratePerMinute + ceilingPerMinute * INCREASE_STEP, false);
+        }
+    }
+
+    double getRatePerMinute() {
+        return rateLimiter.getRate() * 60;
+    }
+
+    private boolean isLatencyRising(long responseTimeInMs) {
+        smoothedLatency = latencySamples == 0 ? responseTimeInMs : LATENCY_SMOOTHING * responseTimeInMs + (1 - LATENCY_SMOOTHING) * smoothedLatency;
+        latencySamples++;
+        if (latencySamples < LATENCY_WARMUP_RESPONSES) {
+            return false;
+        }
+        if (baselineLatency == Double.MAX_VALUE || smoothedLatency < baselineLatency) {
+            baselineLatency = smoothedLatency;
+        } else {
+            baselineLatency += BASELINE_DRIFT * (smoothedLatency - baselineLatency);
+        }
+        return smoothedLatency > LATENCY_THRESHOLD * Math.max(1, baselineLatency);
+    }
+
+    private void adjust(double newRatePerMinute, boolean throttled) {
+        long now = System.nanoTime();
+        if (!throttled && now - lastAdjustment < ADJUSTMENT_INTERVAL_NANOS) {
+            return;
+        }
+        lastAdjustment = now;
+        double boundedRate = Math.clamp(newRatePerMinute, floorPerMinute, ceilingPerMinute);
+        if (boundedRate != ratePerMinute) {
+            ratePerMinute = boundedRate;
+            rateLimiter.setRate(ratePerMinute / 60);
+            executionStatisticsListener.recordEffectiveRate(ratePerMinute);
+            logger.debug("Effective rate changed to {} requests per minute", Math.round(ratePerMinute));
+        }
+    }
+
+    private void pause(String retryAfter) {
+        long retryAfterSeconds = parseRetryAfter(retryAfter);
+        if (retryAfterSeconds > 0) {
+            long pauseSeconds = Math.min(retryAfterSeconds, MAX_RETRY_AFTER_SECONDS);
+            logger.debug("Service asked to retry after {} seconds, pausing requests for {} seconds", retryAfterSeconds, pauseSeconds);
+            pausedUntil = Math.max(pausedUntil, System.nanoTime() + TimeUnit.SECONDS.toNanos(pauseSeconds));
+        }
+    }
+
+    /**
+     * Parses the Retry-After header value which can be either a number of seconds or an HTTP date.
+     *
+     * @param retryAfter the Retry-After header value
+     * @return the number of seconds to wait or 0 if the value is missing or invalid
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryDate = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(retryDate.getZone()), retryDate).toSeconds());
+            } catch (DateTimeParseException ex) {
+                return 0;
+            }
+        }
+    }
+}
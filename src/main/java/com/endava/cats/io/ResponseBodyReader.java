@@ -0,0 +1,99 @@
+package com.endava.cats.io;
+
+import com.google.common.io.CountingInputStream;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Reads a response body in a single pass, counting the bytes, words and lines while reading.
+ * <ul>
+ *     <li>words are sequences of characters separated by whitespace, same as {@link java.util.StringTokenizer}</li>
+ *     <li>lines are separated by {@code \r}, {@code \n} or {@code |}, ignoring trailing empty lines, same as splitting by {@code [\r|\n]}</li>
+ * </ul>
+ */
+final class ResponseBodyReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final StringBuilder body = new StringBuilder();
+    private boolean inWord;
+    private long words;
+    private long separators;
+    private long linesUpToLastContent;
+
+    private ResponseBodyReader() {
+    }
+
+    /**
+     * Reads the given response body.
+     *
+     * @param responseBody the response body; might be null
+     * @return the body together with its counts
+     * @throws IOException if something goes wrong while reading the body
+     */
+    static CapturedBody read(ResponseBody responseBody) throws IOException {
+        ResponseBodyReader reader = new ResponseBodyReader();
+        if (responseBody == null) {
+            return reader.captured(0);
+        }
+        Charset charset = Optional.ofNullable(responseBody.contentType())
+                .map(mediaType -> mediaType.charset(StandardCharsets.UTF_8))
+                .orElse(StandardCharsets.UTF_8);
+
+        try (CountingInputStream stream = new CountingInputStream(responseBody.byteStream());
+             Reader source = new InputStreamReader(stream, charset)) {
+            reader.consume(source);
+            return reader.captured(stream.getCount());
+        }
+    }
+
+    private void consume(Reader source) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int read = source.read(buffer);
+        int start = read > 0 && buffer[0] == BYTE_ORDER_MARK ? 1 : 0;
+        while (read != -1) {
+            for (int i = start; i < read; i++) {
+                this.count(buffer[i]);
+            }
+            body.append(buffer, start, read - start);
+            start = 0;
+            read = source.read(buffer);
+        }
+    }
+
+    private void count(char c) {
+        boolean whitespace = c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+        if (!whitespace && !inWord) {
+            words++;
+        }
+        inWord = !whitespace;
+
+        if (c == '\r' || c == '\n' || c == '|') {
+            separators++;
+        } else {
+            linesUpToLastContent = separators + 1;
+        }
+    }
+
+    private CapturedBody captured(long bytes) {
+        long lines = separators == 0 ? 1 : linesUpToLastContent;
+        return new CapturedBody(body.toString(), bytes, words, lines);
+    }
+
+    /**
+     * The body read and its counts.
+     *
+     * @param body  the body
+     * @param bytes the number of bytes of the body
+     * @param words the number of words of the body
+     * @param lines the number of lines of the body
+     */
+    record CapturedBody(String body, long bytes, long words, long lines) {
+    }
+}
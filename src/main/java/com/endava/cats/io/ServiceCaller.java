@@ -10,9 +10,11 @@ import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.dsl.api.Parser;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.io.util.FormEncoder;
+import com.endava.cats.jfr.HttpCallEvent;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsDSLWords;
@@ -23,25 +25,28 @@ import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.net.HttpHeaders;
-import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -51,6 +56,7 @@ import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
@@ -66,8 +72,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -95,36 +102,45 @@ public class ServiceCaller {
     private final ApiArguments apiArguments;
     private final ProcessingArguments processingArguments;
     private final CatsGlobalContext catsGlobalContext;
+    private final ExecutionStatisticsListener executionStatisticsListener;
     OkHttpClient okHttpClient;
 
-    private RateLimiter rateLimiter;
+    private AdaptiveRateLimiter rateLimiter;
 
     /**
      * Constructs a new {@code ServiceCaller} with the specified parameters.
      *
      * @param context             The global context for CATS.
      * @param lr                  The listener for test cases.
+     * @param executionStatisticsListener The listener for execution statistics.
      * @param filesArguments      The arguments related to files.
      * @param authArguments       The authentication arguments.
      * @param apiArguments        The API arguments.
      * @param processingArguments The processing arguments.
      */
     @Inject
-    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
+    public ServiceCaller(CatsGlobalContext context, TestCaseListener lr, ExecutionStatisticsListener executionStatisticsListener, FilesArguments filesArguments, AuthArguments authArguments, ApiArguments apiArguments, ProcessingArguments processingArguments) {
         this.testCaseListener = lr;
         this.filesArguments = filesArguments;
         this.authArguments = authArguments;
         this.apiArguments = apiArguments;
         this.processingArguments = processingArguments;
         this.catsGlobalContext = context;
+        this.executionStatisticsListener = executionStatisticsListener;
     }
 
     /**
      * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument.
+     * When {@code --adaptiveRateLimit} is enabled, the rate is adjusted between {@code --minRequestsPerMinute}
+     * and {@code --maxRequestsPerMinute} based on the service responses.
      */
     @PostConstruct
     public void initRateLimiter() {
-        rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        if (apiArguments.isAdaptiveRateLimit()) {
+            rateLimiter = AdaptiveRateLimiter.adaptive(apiArguments.getMinRequestsPerMinute(), apiArguments.getMaxRequestsPerMinute(), executionStatisticsListener);
+        } else {
+            rateLimiter = AdaptiveRateLimiter.fixed(apiArguments.getMaxRequestsPerMinute());
+        }
     }
 
     /**
@@ -141,7 +157,8 @@ public class ServiceCaller {
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(apiArguments.getMaxIdleConnections(), apiArguments.getKeepAliveDuration(), TimeUnit.SECONDS))
+                    .dispatcher(this.buildDispatcher())
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .hostnameVerifier((hostname, session) -> true).build();
@@ -153,6 +170,14 @@ public class ServiceCaller {
         }
     }
 
+    private Dispatcher buildDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(apiArguments.getMaxRequestsInFlight());
+        dispatcher.setMaxRequestsPerHost(apiArguments.getMaxRequestsInFlightPerHost());
+
+        return dispatcher;
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -413,6 +438,10 @@ public class ServiceCaller {
 
     /**
      * Calls the service with the provided {@code catsRequest} and set of fuzzed fields.
+     * The request is enqueued on the HTTP client dispatcher, so the {@code --maxRequestsInFlight} limits apply to all requests,
+     * including the ones sent by {@code --concurrency} workers. The HTTP client threads only read the response. Everything else,
+     * like logging and the rate limiter feedback, happens on the calling thread, so that it keeps the logging context of the test case.
+     * Waiting for the response can be interrupted, in which case the HTTP call is cancelled.
      *
      * @param catsRequest  The CATS request to be sent to the service.
      * @param fuzzedFields The set of fuzzed fields for the request.
@@ -420,69 +449,141 @@ public class ServiceCaller {
      * @throws IOException If an I/O error occurs during the service call.
      */
     public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
-        rateLimiter.acquire();
+        long rateLimiterWaitNanos = rateLimiter.acquire();
+        HttpCallEvent event = new HttpCallEvent();
+        event.begin();
         long startTime = System.currentTimeMillis();
         RequestBody requestBody = null;
+        byte[] payload = new byte[0];
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
 
         if (HttpMethod.requiresBody(catsRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            payload = catsRequest.getPayload().getBytes(StandardCharsets.UTF_8);
+            requestBody = RequestBody.create(payload);
         } else {
             //for GET and HEAD we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
 
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        Request request = new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
-            long endTime = System.currentTimeMillis();
-
-            CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
-            CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(endTime - startTime)
-                    .path(catsRequest.getUrl())
-                    .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
-
-            logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
-                    response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
-                    catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+                .build();
 
-            return catsResponse;
+        executionStatisticsListener.recordRequestSent(rateLimiterWaitNanos);
+        Call call = okHttpClient.newCall(request);
+        ReceivedResponse response;
+        try {
+            response = enqueue(call).get();
+        } catch (InterruptedException e) {
+            call.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response from " + catsRequest.getUrl());
+        } catch (ExecutionException e) {
+            executionStatisticsListener.recordRequestFailed();
+            commitHttpCallEvent(event, catsRequest, payload.length, 0, 0);
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
         }
+
+        executionStatisticsListener.recordResponseReceived(response.code());
+        CatsResponse catsResponse = createCatsResponse(catsRequest, fuzzedFields, response, startTime);
+        commitHttpCallEvent(event, catsRequest, payload.length, response.code(), catsResponse.getContentLengthInBytes());
+
+        return catsResponse;
+    }
+
+    /**
+     * Enqueues the given call. The HTTP client threads only read the response, without logging anything,
+     * so that the response processing can happen on the calling thread.
+     */
+    private static CompletableFuture<ReceivedResponse> enqueue(Call call) {
+        CompletableFuture<ReceivedResponse> futureResponse = new CompletableFuture<>();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                futureResponse.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    futureResponse.complete(new ReceivedResponse(response.code(), response.protocol(), response.headers(),
+                            getResponseContentType(response), ResponseBodyReader.read(response.body()), System.currentTimeMillis()));
+                } catch (IOException | RuntimeException e) {
+                    futureResponse.completeExceptionally(e);
+                }
+            }
+        });
+
+        return futureResponse;
     }
 
-    private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
+    /**
+     * The response as read by the HTTP client threads.
+     */
+    private record ReceivedResponse(int code, Protocol protocol, Headers headers, String contentType,
+                                    ResponseBodyReader.CapturedBody body, long endTime) {
+    }
+
+    private void commitHttpCallEvent(HttpCallEvent event, CatsRequest catsRequest, long requestBytes, int responseCode, long responseBytes) {
+        event.end();
+        String fuzzer = testCaseListener.getCurrentFuzzer();
+        testCaseListener.commitWithTestId(testId -> {
+            if (event.shouldCommit()) {
+                event.testId = testId;
+                event.fuzzer = fuzzer;
+                event.httpMethod = catsRequest.getHttpMethod();
+                event.url = catsRequest.getUrl();
+                event.responseCode = responseCode;
+                event.requestBytes = requestBytes;
+                event.responseBytes = responseBytes;
+                event.commit();
+            }
+        });
+    }
+
+    private CatsResponse createCatsResponse(CatsRequest catsRequest, Set<String> fuzzedFields, ReceivedResponse response, long startTime) {
+        long responseTime = response.endTime() - startTime;
+        rateLimiter.onResponse(response.code(), responseTime, response.headers().get(HttpHeaders.RETRY_AFTER));
+
         List<KeyValuePair<String, String>> responseHeaders = response.headers()
                 .toMultimap()
                 .entrySet().stream()
                 .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().getFirst())).toList();
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = JsonUtils.getAsJsonString(rawResponse);
-        String responseContentType = this.getResponseContentType(response);
-
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
-
-        logger.debug("Raw response body: {}", rawResponse);
+        logger.debug("Raw response body: {}", response.body().body());
         logger.debug("Raw response headers: {}", response.headers());
 
-        return CatsResponse.builder()
+        CatsResponse catsResponse = CatsResponse.builder()
                 .responseCode(response.code())
                 .headers(responseHeaders)
-                .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
-                .responseContentType(responseContentType)
-                .numberOfWordsInResponse(numberOfWords);
+                .body(response.body().body())
+                .numberOfLinesInResponse(response.body().lines())
+                .contentLengthInBytes(response.body().bytes())
+                .responseContentType(response.contentType())
+                .numberOfWordsInResponse(response.body().words())
+                .httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(responseTime)
+                .path(catsRequest.getUrl())
+                .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
+
+        logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
+                response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), responseTime,
+                catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+
+        return catsResponse;
     }
 
-    private String getResponseContentType(Response response) {
+    private static String getResponseContentType(Response response) {
         MediaType defaultResponseMediaType = MediaType.parse(CatsResponse.unknownContentType());
         if (response.body() != null) {
             return String.valueOf(Optional.ofNullable(response.body().contentType()).orElse(defaultResponseMediaType));
@@ -521,7 +622,7 @@ public class ServiceCaller {
         data.getHeaders().forEach(header -> headers.add(new KeyValuePair<>(header.getName(), header.getValue())));
         addIfNotPresent(HttpHeaders.ACCEPT, processingArguments.getDefaultContentType(), data, headers);
         addIfNotPresent(HttpHeaders.CONTENT_TYPE, this.getContentType(data.getHttpMethod(), data.getContentType()), data, headers);
-        addIfNotPresent(HttpHeaders.USER_AGENT, apiArguments.getUserAgent(testCaseListener.getCurrentTestCaseNumber(), testCaseListener.getCurrentFuzzer()), data, headers);
+        addIfNotPresent(HttpHeaders.USER_AGENT, apiArguments.getUserAgent(testCaseListener.getCurrentTestId(), testCaseListener.getCurrentFuzzer()), data, headers);
     }
 
     private String getContentType(HttpMethod method, String defaultContentType) {
@@ -556,22 +657,6 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    /**
-     * Retrieves the raw response body as a string from the provided HTTP response.
-     * If the response body is null, an empty string is returned.
-     *
-     * @param response The HTTP response containing the body to be extracted.
-     * @return The raw response body as a string, or an empty string if the body is null.
-     * @throws IOException If an I/O error occurs while reading the response body.
-     */
-    public String getAsRawString(Response response) throws IOException {
-        if (response.body() != null) {
-            return response.body().string();
-        }
-
-        return "";
-    }
-
     private void recordServiceData(ServiceData serviceData) {
         testCaseListener.addPath(serviceData.getContractPath());
         testCaseListener.addContractPath(serviceData.getContractPath());
@@ -0,0 +1,30 @@
+package com.endava.cats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when an OpenAPI contract is parsed.
+ */
+@Name("cats.ContractParse")
+@Label("Contract Parse")
+@Description("Parsing and resolving an OpenAPI contract")
+@Category({"CATS", "Contract"})
+public class ContractParseEvent extends Event {
+    @Label("Location")
+    public String location;
+
+    @Label("Spec Version")
+    public String version;
+
+    @Label("Paths")
+    public int paths;
+
+    @Label("Contract Size")
+    @DataAmount
+    public long bytes;
+}
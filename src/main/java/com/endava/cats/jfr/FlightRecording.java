@@ -0,0 +1,88 @@
+package com.endava.cats.jfr;
+
+import com.endava.cats.args.ReportingArguments;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+/**
+ * Java Flight Recorder recording started when {@code --jfr} is supplied. The recording uses the JDK {@code profile}
+ * settings, so CPU and allocation samples can be correlated with the CATS events like test cases and HTTP calls.
+ */
+@ApplicationScoped
+public class FlightRecording {
+    private static final String SETTINGS = "profile";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FlightRecording.class);
+    private final ReportingArguments reportingArguments;
+    private Recording recording;
+
+    /**
+     * Creates a new FlightRecording instance.
+     *
+     * @param reportingArguments the reporting arguments holding the recording file
+     */
+    public FlightRecording(ReportingArguments reportingArguments) {
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Starts the recording if {@code --jfr} is supplied. Failing to start the recording does not stop the run.
+     */
+    public synchronized void start() {
+        if (reportingArguments.getJfr() == null || recording != null) {
+            return;
+        }
+        Path destination = Paths.get(reportingArguments.getJfr()).toAbsolutePath();
+        try {
+            recording = new Recording(Configuration.getConfiguration(SETTINGS));
+            recording.setName("cats");
+            recording.setToDisk(true);
+            recording.setDestination(destination);
+            recording.start();
+            logger.info("Recording JFR events to {}", destination);
+        } catch (IOException | ParseException | RuntimeException e) {
+            logger.warning("Unable to start the JFR recording to {}: {}", destination, e.getMessage());
+            this.close();
+        }
+    }
+
+    /**
+     * Stops the recording, if started, and writes it to the {@code --jfr} file.
+     */
+    public synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        try {
+            recording.stop();
+            logger.info("JFR recording written to {}", recording.getDestination());
+        } catch (RuntimeException e) {
+            logger.warning("Unable to write the JFR recording to {}: {}", recording.getDestination(), e.getMessage());
+        }
+        this.close();
+    }
+
+    /**
+     * Checks if a recording is in progress.
+     *
+     * @return true if the recording was started and not stopped, false otherwise
+     */
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
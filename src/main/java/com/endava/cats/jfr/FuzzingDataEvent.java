@@ -0,0 +1,22 @@
+package com.endava.cats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when the fuzzing data is created for a contract path.
+ */
+@Name("cats.FuzzingData")
+@Label("Fuzzing Data")
+@Description("Creating the fuzzing data for all the operations of a contract path")
+@Category({"CATS", "Contract"})
+public class FuzzingDataEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Fuzzing Data Entries")
+    public int entries;
+}
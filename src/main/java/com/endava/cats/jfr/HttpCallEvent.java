@@ -0,0 +1,40 @@
+package com.endava.cats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning an HTTP call to the service, from sending the request until the response is processed.
+ */
+@Name("cats.HttpCall")
+@Label("HTTP Call")
+@Description("HTTP call to the service, from sending the request until the response is processed")
+@Category({"CATS", "HTTP"})
+public class HttpCallEvent extends Event {
+    @Label("Test Id")
+    public String testId;
+
+    @Label("Fuzzer")
+    public String fuzzer;
+
+    @Label("Http Method")
+    public String httpMethod;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Response Code")
+    public int responseCode;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
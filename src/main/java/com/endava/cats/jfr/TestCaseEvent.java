@@ -0,0 +1,43 @@
+package com.endava.cats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a test case, from the moment it starts until its result is reported.
+ */
+@Name("cats.TestCase")
+@Label("Test Case")
+@Description("Execution of a test case, from start until the result is reported")
+@Category({"CATS", "Test Case"})
+public class TestCaseEvent extends Event {
+    @Label("Test Id")
+    public String testId;
+
+    @Label("Fuzzer")
+    public String fuzzer;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Http Method")
+    public String httpMethod;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Response Code")
+    public int responseCode;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
@@ -0,0 +1,33 @@
+package com.endava.cats.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted when a test case is written in the report folder.
+ */
+@Name("cats.TestCaseWrite")
+@Label("Test Case Write")
+@Description("Writing the report files of a test case")
+@Category({"CATS", "Test Case"})
+public class TestCaseWriteEvent extends Event {
+    @Label("Test Id")
+    public String testId;
+
+    @Label("Fuzzer")
+    public String fuzzer;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Written Size")
+    @DataAmount
+    public long bytes;
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.model;
 
 import com.endava.cats.model.ann.Exclude;
+import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.util.WordUtils;
 import com.google.gson.JsonElement;
@@ -10,6 +11,7 @@ import lombok.Getter;
 
 import java.io.IOException;
 import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +33,7 @@ public class CatsResponse {
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
+    private volatile JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
     private final String responseContentType;
 
@@ -66,6 +68,40 @@ public class CatsResponse {
         return CatsResponse.from(INVALID_ERROR_CODE, "{}", "", 0);
     }
 
+    /**
+     * Returns the response body as JSON. When not explicitly set, the body is parsed only on the first call.
+     * Bodies which are not valid JSONs are returned as a {@code notAJson} JSON object.
+     *
+     * @return the response body as JSON or {@code null} if there is no body
+     */
+    public JsonElement getJsonBody() {
+        if (jsonBody == null && body != null) {
+            jsonBody = JsonParser.parseString(JsonUtils.getAsJsonString(body));
+        }
+        return jsonBody;
+    }
+
+    /**
+     * Replaces the JSON body with the one of the first {@code maxBodyBytes} bytes of the body, without splitting multi-byte characters.
+     * This is meant to be called only when serializing, as checks must see the entire body. Truncated JSONs become {@code notAJson} objects.
+     *
+     * @param maxBodyBytes the maximum number of body bytes kept; zero or negative values keep the entire body
+     */
+    public void truncateJsonBody(long maxBodyBytes) {
+        if (maxBodyBytes <= 0 || body == null || (long) body.length() * 3 <= maxBodyBytes) {
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBodyBytes) {
+            return;
+        }
+        int end = (int) maxBodyBytes;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        jsonBody = JsonParser.parseString(JsonUtils.getAsJsonString(new String(bytes, 0, end, StandardCharsets.UTF_8)));
+    }
+
     /**
      * Retrieves the HTTP response code as a string representation.
      *
@@ -0,0 +1,18 @@
+package com.endava.cats.model;
+
+import java.util.List;
+
+/**
+ * Groups test cases reporting the same finding: same result, result reason, response code, response body structure and error tokens.
+ *
+ * @param id              the cluster id
+ * @param result          the result of the test cases in the cluster
+ * @param resultReason    the result reason of the test cases in the cluster
+ * @param responseCode    the response code of the test cases in the cluster
+ * @param errorTokens     the error tokens, like exception names, found in the response bodies
+ * @param count           the number of test cases in the cluster
+ * @param representatives the keys of the test cases for which individual test case files were written
+ */
+public record CatsResponseCluster(String id, String result, String resultReason, int responseCode, String errorTokens,
+                                  int count, List<String> representatives) {
+}
@@ -22,6 +22,8 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
     private double timeToExecuteInSec;
     private String httpMethod;
     private boolean switchedResult;
+    private String clusterId;
+    private String reportKey;
 
     /**
      * Creates a CatsTestCaseSummary object from a CatsTestCase.
@@ -30,6 +32,18 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
      * @return A CatsTestCaseSummary representing the summary of the provided CatsTestCase.
      */
     public static CatsTestCaseSummary fromCatsTestCase(CatsTestCase testCase) {
+        return fromCatsTestCase(testCase, null, null);
+    }
+
+    /**
+     * Creates a CatsTestCaseSummary object from a CatsTestCase which is part of a response cluster.
+     *
+     * @param testCase  The CatsTestCase to generate the summary from.
+     * @param clusterId The id of the response cluster or null if the test case is not clustered.
+     * @param reportKey The key of the test case whose files are linked from the summary or null to link the test case's own files.
+     * @return A CatsTestCaseSummary representing the summary of the provided CatsTestCase.
+     */
+    public static CatsTestCaseSummary fromCatsTestCase(CatsTestCase testCase, String clusterId, String reportKey) {
         CatsTestCaseSummary summary = new CatsTestCaseSummary();
         summary.id = testCase.getTestId();
         summary.scenario = testCase.getScenario();
@@ -41,6 +55,8 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
         summary.timeToExecuteInSec = testCase.getResponse().getResponseTimeInMs() / 1000d;
         summary.httpMethod = testCase.getRequest().getHttpMethod().toLowerCase(Locale.ROOT);
         summary.switchedResult = testCase.getResultIgnoreDetails() != null;
+        summary.clusterId = clusterId;
+        summary.reportKey = reportKey;
 
         return summary;
     }
@@ -70,6 +86,16 @@ public class CatsTestCaseSummary implements Comparable<CatsTestCaseSummary> {
         return id.replace(" ", "");
     }
 
+    /**
+     * Gets the key of the test case whose files are linked from the summary. For clustered test cases without
+     * their own files, this is the key of the first test case in the cluster.
+     *
+     * @return The key of the linked test case.
+     */
+    public String getReportKey() {
+        return reportKey != null ? reportKey : this.getKey();
+    }
+
     /**
      * Checks if the test result is an error.
      *
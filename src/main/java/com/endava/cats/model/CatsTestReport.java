@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a report summarizing the results of CATS tests.
@@ -20,4 +21,7 @@ public class CatsTestReport {
     private final long executionTime;
     private final String timestamp;
     private final String catsVersion;
+    private final Map<String, ResponseTimePercentiles> responseTimesPerPath;
+    private final Map<String, ResponseTimePercentiles> responseTimesPerFuzzer;
+    private final List<CatsResponseCluster> responseClusters;
 }
@@ -1,18 +1,22 @@
 package com.endava.cats.model;
 
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.CatsModelUtils;
+import com.google.gson.JsonElement;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -51,7 +55,7 @@ public class FuzzingData {
     private final String reqSchemaName;
     /*these are cached after the first computation*/
     private Set<String> allFields;
-    private Set<Set<String>> allFieldsSetOfSets;
+    private Subsets<String> allFieldsSubsets;
     private List<String> allRequiredFields;
     private Set<CatsField> allFieldsAsCatsFields;
     private Set<String> allReadOnlyFields;
@@ -60,6 +64,13 @@ public class FuzzingData {
     private Set<String> targetFields;
     private int selfReferenceDepth;
     private String pathParamsPayload;
+    /*the parsed payload is only read, fuzzers get deep copies of it*/
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile Object parsedPayload;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile JsonElement parsedGsonPayload;
 
     @Builder.Default
     private final Map<String, List<String>> responseContentTypes = Collections.emptyMap();
@@ -112,6 +123,36 @@ public class FuzzingData {
         return processedPayload;
     }
 
+    /**
+     * Returns the payload as a parsed document which can be freely modified and serialised only when the request is sent.
+     * The payload is parsed only once for this FuzzingData. Each call returns a deep copy of the parsed payload,
+     * which is considerably cheaper than parsing the payload again.
+     *
+     * @return a mutable document of the payload, using the default JsonPath configuration
+     */
+    public DocumentContext getMutablePayloadDocument() {
+        Object document = parsedPayload;
+        if (document == null) {
+            document = JsonPath.parse(this.getPayload()).json();
+            parsedPayload = document;
+        }
+        return JsonPath.parse(JsonUtils.deepCopy(document));
+    }
+
+    /**
+     * Same as {@link #getMutablePayloadDocument()}, but using the Gson JsonPath configuration.
+     *
+     * @return a mutable document of the payload, using the Gson JsonPath configuration
+     */
+    public DocumentContext getMutableGsonPayloadDocument() {
+        JsonElement document = parsedGsonPayload;
+        if (document == null) {
+            document = JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(this.getPayload()).json();
+            parsedGsonPayload = document;
+        }
+        return JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(document.deepCopy());
+    }
+
     private String removeReadWrite() {
         if (HttpMethod.requiresBody(method)) {
             return this.removeReadOnlyFields(this.getAllReadOnlyFields());
@@ -266,24 +307,24 @@ public class FuzzingData {
     }
 
     /**
-     * Gets a set of sets of field names based on the specified set fuzzing strategy and maximum fields to remove.
+     * Gets the subsets of field names to be removed, based on the specified set fuzzing strategy and maximum fields to remove.
+     * Subsets are created lazily, in order of increasing size, while iterating.
      *
      * @param setFuzzingStrategy The set fuzzing strategy to determine how sets of fields are generated.
      * @param maxFieldsToRemove  The maximum number of fields to remove when using the specified strategy.
-     * @return A set of sets of field names generated using the specified set fuzzing strategy.
+     * @param sampleSize         If positive, only this number of subsets picked at random is returned.
+     * @return The subsets of field names generated using the specified set fuzzing strategy.
      */
-    public Set<Set<String>> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
-        if (allFieldsSetOfSets == null) {
-
-            Set<Set<String>> sets = switch (setFuzzingStrategy) {
-                case POWERSET -> SetFuzzingStrategy.powerSet(this.getAllFields());
-                case SIZE -> SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
-                default -> SetFuzzingStrategy.removeOneByOne(this.getAllFields());
+    public Subsets<String> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove, int sampleSize) {
+        if (allFieldsSubsets == null) {
+            Subsets<String> subsets = switch (setFuzzingStrategy) {
+                case POWERSET -> SetFuzzingStrategy.upToSize(this.getAllFields(), maxFieldsToRemove);
+                case SIZE -> Subsets.upToSize(this.getAllFields(), SetFuzzingStrategy.resolveMaxFieldsToRemove(this.getAllFields(), maxFieldsToRemove));
+                default -> Subsets.upToSize(this.getAllFields(), 1);
             };
-            sets.remove(Collections.emptySet());
-            allFieldsSetOfSets = sets;
+            allFieldsSubsets = subsets.sample(sampleSize, CatsUtil.random());
         }
-        return allFieldsSetOfSets;
+        return allFieldsSubsets;
     }
 
     /**
@@ -300,7 +341,7 @@ public class FuzzingData {
      */
     public enum SetFuzzingStrategy {
         /**
-         * Generates the powerset of the field names, considering all possible combinations.
+         * Generates the powerset of the field names, considering all possible combinations up to a maximum number of fields to remove, if supplied.
          */
         POWERSET,
 
@@ -317,7 +358,7 @@ public class FuzzingData {
         private static final PrettyLogger LOGGER = PrettyLoggerFactory.getLogger(SetFuzzingStrategy.class);
 
         /**
-         * Returns all possible subsets of the given set
+         * Returns all possible subsets of the given set, including the empty set.
          *
          * @param originalSet initial set
          * @param <T>         type of data within the set
@@ -325,51 +366,24 @@ public class FuzzingData {
          */
         public static <T> Set<Set<T>> powerSet(Set<T> originalSet) {
             Set<Set<T>> sets = new HashSet<>();
-            if (originalSet.isEmpty()) {
-                sets.add(new HashSet<>());
-                return sets;
-            }
-            List<T> list = new ArrayList<>(originalSet);
-            T head = list.getFirst();
-            Set<T> rest = new HashSet<>(list.subList(1, list.size()));
-            for (Set<T> set : powerSet(rest)) {
-                Set<T> newSet = new HashSet<>();
-                newSet.add(head);
-                newSet.addAll(set);
-                sets.add(newSet);
-                sets.add(set);
-            }
+            sets.add(new HashSet<>());
+            Subsets.upToSize(originalSet, originalSet.size()).forEach(subset -> sets.add(new HashSet<>(subset)));
             return sets;
         }
 
-
         /**
-         * Returns all possible subsets of size K of the given list
+         * Returns a lazy view over the subsets of the given set having at most {@code maxSize} elements.
+         * When {@code maxSize} is not positive, all subsets are returned.
          *
-         * @param elements list of elements to accumulate
-         * @param k        size
-         * @return a set of sets
+         * @param elements initial set
+         * @param maxSize  the maximum size of a subset
+         * @param <T>      type of data within the set
+         * @return a lazy view over the subsets, in order of increasing size
          */
-        private static Set<Set<String>> getAllSubsetsOfSize(List<String> elements, int k) {
-            List<List<String>> result = new ArrayList<>();
-            backtrack(elements, k, 0, result, new ArrayList<>());
-            return result.stream().map(HashSet::new).collect(Collectors.toSet());
-        }
-
-        private static void backtrack(List<String> elements, int k, int startIndex, List<List<String>> result,
-                                      List<String> partialList) {
-            if (k == partialList.size()) {
-                result.add(new ArrayList<>(partialList));
-                return;
-            }
-            for (int i = startIndex; i < elements.size(); i++) {
-                partialList.add(elements.get(i));
-                backtrack(elements, k, i + 1, result, partialList);
-                partialList.removeLast();
-            }
+        public static <T> Subsets<T> upToSize(Set<T> elements, int maxSize) {
+            return Subsets.upToSize(elements, maxSize > 0 ? maxSize : elements.size());
         }
 
-
         /**
          * Returns a Set of sets with possibilities of removing one field at a time form the original set.
          *
@@ -396,17 +410,20 @@ public class FuzzingData {
          */
         public static Set<Set<String>> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
             Set<Set<String>> sets = new HashSet<>();
+            Subsets.upToSize(allFields, resolveMaxFieldsToRemove(allFields, maxFieldsToRemove))
+                    .forEach(subset -> sets.add(new HashSet<>(subset)));
+            return sets;
+        }
+
+        static int resolveMaxFieldsToRemove(Set<String> allFields, int maxFieldsToRemove) {
             if (maxFieldsToRemove == 0) {
                 LOGGER.note("fieldsSubsetMinSize is ZERO, the value will be changed to {}", allFields.size() / 2);
-                maxFieldsToRemove = allFields.size() / 2;
+                return allFields.size() / 2;
             } else if (allFields.size() < maxFieldsToRemove) {
                 LOGGER.note("fieldsSubsetMinSize is bigger than the number of fields, the value will be changed to {}", allFields.size());
-                maxFieldsToRemove = allFields.size();
-            }
-            for (int i = maxFieldsToRemove; i >= 1; i--) {
-                sets.addAll(getAllSubsetsOfSize(new ArrayList<>(allFields), i));
+                return allFields.size();
             }
-            return sets;
+            return maxFieldsToRemove;
         }
     }
 
@@ -0,0 +1,15 @@
+package com.endava.cats.model;
+
+/**
+ * Response time percentiles in milliseconds.
+ *
+ * @param count     the number of recorded response times
+ * @param p50       the median response time
+ * @param p90       the 90th percentile
+ * @param p99       the 99th percentile
+ * @param p999      the 99.9th percentile
+ * @param max       the maximum response time
+ * @param histogram the compressed Base64 encoded histogram of all the recorded response times
+ */
+public record ResponseTimePercentiles(long count, long p50, long p90, long p99, long p999, long max, String histogram) {
+}
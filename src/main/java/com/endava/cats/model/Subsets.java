@@ -0,0 +1,136 @@
+package com.endava.cats.model;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Lazy view over the non-empty subsets of a set, up to a maximum subset size.
+ * <p>
+ * Subsets are created only while iterating, in order of increasing size, so memory stays proportional
+ * to the subsets actually consumed rather than to the total number of subsets. When sampled, a fixed number of
+ * distinct subsets is picked at random, with each subset having the same chance of being picked.
+ * Iterating a sampled view multiple times returns the same subsets.
+ *
+ * @param <T> the type of the elements
+ */
+public final class Subsets<T> implements Iterable<Set<T>> {
+    private final Set<T> elements;
+    private final int maxSize;
+    private final long sampleSize;
+    private final long seed;
+
+    private Subsets(Set<T> elements, int maxSize, long sampleSize, long seed) {
+        this.elements = elements;
+        this.maxSize = maxSize;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a view over all the non-empty subsets having at most {@code maxSize} elements.
+     *
+     * @param elements the initial set
+     * @param maxSize  the maximum size of a subset; values bigger than the set size are capped to the set size
+     * @param <T>      the type of the elements
+     * @return a lazy view over the subsets
+     */
+    public static <T> Subsets<T> upToSize(Set<T> elements, int maxSize) {
+        Set<T> copy = Collections.unmodifiableSet(new HashSet<>(elements));
+        int boundedMaxSize = Math.clamp(maxSize, 0, copy.size());
+        return new Subsets<>(copy, boundedMaxSize, -1, 0);
+    }
+
+    /**
+     * Returns a view over {@code sampleSize} distinct subsets picked at random from the current ones.
+     * If {@code sampleSize} is not positive or there are not more subsets than {@code sampleSize}, the current view is returned.
+     *
+     * @param sampleSize the number of subsets to pick
+     * @param random     the source used to seed the sampling
+     * @return a lazy view over the sampled subsets
+     */
+    public Subsets<T> sample(long sampleSize, Random random) {
+        if (sampleSize <= 0 || sampleSize >= this.countAll()) {
+            return this;
+        }
+        return new Subsets<>(elements, maxSize, sampleSize, random.nextLong());
+    }
+
+    /**
+     * Returns the number of subsets returned when iterating, without creating them.
+     *
+     * @return the number of subsets
+     */
+    public long size() {
+        return sampleSize > 0 ? sampleSize : this.countAll();
+    }
+
+    @Override
+    public Iterator<Set<T>> iterator() {
+        if (sampleSize > 0) {
+            return new SamplingIterator();
+        }
+        return Iterators.concat(IntStream.rangeClosed(1, maxSize)
+                .mapToObj(size -> Sets.combinations(elements, size).iterator())
+                .iterator());
+    }
+
+    private long countAll() {
+        long count = 0;
+        for (int size = 1; size <= maxSize; size++) {
+            count = LongMath.saturatedAdd(count, LongMath.binomial(elements.size(), size));
+        }
+        return count;
+    }
+
+    /**
+     * Picks subsets uniformly: first the subset size, weighted by the number of subsets of that size,
+     * then the elements. Subsets already returned are skipped.
+     */
+    private final class SamplingIterator extends AbstractIterator<Set<T>> {
+        private final Random random = new Random(seed);
+        private final List<T> pool = new ArrayList<>(elements);
+        private final Set<Set<T>> returned = new HashSet<>();
+
+        @Override
+        protected Set<T> computeNext() {
+            if (returned.size() >= sampleSize) {
+                return endOfData();
+            }
+            Set<T> subset;
+            do {
+                subset = this.randomSubset(this.randomSize());
+            } while (!returned.add(subset));
+            return subset;
+        }
+
+        private int randomSize() {
+            long target = random.nextLong(countAll());
+            int size = 1;
+            long binomial = LongMath.binomial(pool.size(), size);
+            while (target >= binomial && size < maxSize) {
+                target -= binomial;
+                size++;
+                binomial = LongMath.binomial(pool.size(), size);
+            }
+            return size;
+        }
+
+        private Set<T> randomSubset(int size) {
+            for (int i = 0; i < size; i++) {
+                Collections.swap(pool, i, i + random.nextInt(pool.size() - i));
+            }
+            return Set.copyOf(pool.subList(0, size));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.endava.cats.model.generator;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Run-wide memo of the examples generated by {@link OpenAPIModelGenerator} for referenced schemas.
+ * <p>
+ * Entries are keyed by the schema reference, the generation options and everything from the current generation
+ * that can change the result, like the property path used for cyclic references detection. Next to the example, each entry
+ * keeps the request data types and schema references recorded while generating it, so that they can be replayed
+ * when the example is reused.
+ */
+public class ExampleMemo {
+    private final Map<String, MemoisedExample> examples = new ConcurrentHashMap<>();
+
+    MemoisedExample get(String key) {
+        return examples.get(key);
+    }
+
+    void put(String key, MemoisedExample example) {
+        examples.putIfAbsent(key, example);
+    }
+
+    /**
+     * Returns the number of memoised examples.
+     *
+     * @return the number of memoised examples
+     */
+    public int size() {
+        return examples.size();
+    }
+
+    /**
+     * Holds an example generated for a referenced schema along with the side effects of generating it.
+     *
+     * @param example          the generated example
+     * @param requestDataTypes the request data types recorded while generating the example
+     * @param schemaRefs       the schema references recorded while generating the example
+     */
+    record MemoisedExample(Object example, Map<String, Schema> requestDataTypes, Map<String, String> schemaRefs) {
+    }
+}
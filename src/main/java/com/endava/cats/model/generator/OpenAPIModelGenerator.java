@@ -21,6 +21,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.endava.cats.generator.simple.StringGenerator.generateValueBasedOnMinMax;
@@ -29,7 +30,10 @@ import static com.endava.cats.generator.simple.StringGenerator.generateValueBase
  * A modified version of {@code io.swagger.codegen.examples.ExampleGenerator} that takes into consideration several other request
  * setups including complex objects and array of objects.
  * <p>
- * This is a stateful object. Don't use it through dependency injection.
+ * Each call to {@link #generate(String)} keeps its own traversal state. Generation still changes shared contract schemas and
+ * the {@link CatsGlobalContext}, like normalising discriminator mappings or storing merged {@code allOf} schemas,
+ * so generators must not run on several threads at once.
+ * When an {@link ExampleMemo} is supplied, examples generated for referenced schemas are reused across calls and instances.
  * <p>
  * Supported String formats:
  * <ul>
@@ -51,15 +55,13 @@ public class OpenAPIModelGenerator {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final BigDecimal MAX = new BigDecimal("99999999999");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(OpenAPIModelGenerator.class);
-    private final Set<Schema<?>> catsGeneratedExamples = new HashSet<>();
-    private final Random random;
+    private final Set<Schema<?>> catsGeneratedExamples = ConcurrentHashMap.newKeySet();
     private final boolean useExamples;
     private final CatsGlobalContext globalContext;
     private final ValidDataFormat validDataFormat;
     private final int selfReferenceDepth;
-    private String currentProperty = "";
-    private final Map<String, String> schemaRefMap;
     private final boolean useDefaults;
+    private final ExampleMemo exampleMemo;
 
     /**
      * Constructs an OpenAPIModelGenerator with the specified configuration.
@@ -70,13 +72,25 @@ public class OpenAPIModelGenerator {
      * @param selfReferenceDepth  The maximum depth for generating self-referencing models.
      */
     public OpenAPIModelGenerator(CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, boolean useExamplesArgument, int selfReferenceDepth, boolean useDefaults) {
+        this(catsGlobalContext, validDataFormat, useExamplesArgument, selfReferenceDepth, useDefaults, null);
+    }
+
+    /**
+     * Constructs an OpenAPIModelGenerator which reuses the examples already generated for referenced schemas.
+     *
+     * @param catsGlobalContext   The global context for CATS.
+     * @param validDataFormat     The format to use for generating valid data.
+     * @param useExamplesArgument Flag indicating whether to use examples from the OpenAPI specification.
+     * @param selfReferenceDepth  The maximum depth for generating self-referencing models.
+     * @param exampleMemo         The memo of examples generated for referenced schemas, or null to always generate new examples.
+     */
+    public OpenAPIModelGenerator(CatsGlobalContext catsGlobalContext, ValidDataFormat validDataFormat, boolean useExamplesArgument, int selfReferenceDepth, boolean useDefaults, ExampleMemo exampleMemo) {
         this.globalContext = catsGlobalContext;
-        this.random = CatsUtil.random();
         this.useExamples = useExamplesArgument;
         this.selfReferenceDepth = selfReferenceDepth;
         this.validDataFormat = validDataFormat;
-        this.schemaRefMap = new LinkedHashMap<>();
         this.useDefaults = useDefaults;
+        this.exampleMemo = exampleMemo;
     }
 
 
@@ -90,10 +104,11 @@ public class OpenAPIModelGenerator {
      */
     public Map<String, String> generate(String modelName) {
         Map<String, String> kv = new HashMap<>();
+        GenerationState state = new GenerationState();
         if (modelName != null) {
             final Schema schema = this.globalContext.getSchemaFromReference(modelName);
             if (schema != null) {
-                String example = Json.pretty(this.resolveModelToExample(modelName, schema));
+                String example = Json.pretty(this.resolveModelToExample(modelName, schema, state));
 
                 if (example != null) {
                     kv.put(EXAMPLE, example);
@@ -101,13 +116,11 @@ public class OpenAPIModelGenerator {
                 }
             }
         }
-        schemaRefMap.clear();
-        currentProperty = "";
         return Collections.emptyMap();
     }
 
-    private <T> Object resolvePropertyToExample(String propertyName, Schema<T> propertySchema) {
-        if (JsonUtils.isCyclicSchemaReference(currentProperty, schemaRefMap, selfReferenceDepth)) {
+    private <T> Object resolvePropertyToExample(String propertyName, Schema<T> propertySchema, GenerationState state) {
+        if (JsonUtils.isCyclicSchemaReference(state.currentProperty, state.schemaRefMap, selfReferenceDepth)) {
             return null;
         }
 
@@ -117,7 +130,7 @@ public class OpenAPIModelGenerator {
             return enumOrDefault;
         }
 
-        Object generatedValueFromFormat = this.generateStringValue(propertyName, propertySchema);
+        Object generatedValueFromFormat = this.generateStringValue(propertyName, propertySchema, state);
 
         if (generatedValueFromFormat != null) {
             return generatedValueFromFormat;
@@ -129,25 +142,26 @@ public class OpenAPIModelGenerator {
         } else if (CatsModelUtils.isBooleanSchema(propertySchema)) {
             return this.getExampleFromBooleanSchema();
         } else if (CatsModelUtils.isArraySchema(propertySchema)) {
-            return this.getExampleFromArraySchema(propertyName, propertySchema);
+            return this.getExampleFromArraySchema(propertyName, propertySchema, state);
         } else if (CatsModelUtils.isNumberSchema(propertySchema)) {
             return this.getExampleFromNumberSchema(propertySchema);
         } else if (CatsModelUtils.isIntegerSchema(propertySchema)) {
             return this.getExampleFromIntegerSchema(propertySchema);
         } else if (CatsModelUtils.isObjectSchema(propertySchema)) {
-            return this.getExampleForObjectSchema(propertySchema);
+            return this.getExampleForObjectSchema(propertySchema, state);
         } else if (propertySchema.getAdditionalProperties() instanceof Schema) {
-            return this.getExampleFromAdditionalPropertiesSchema(propertyName, propertySchema);
+            return this.getExampleFromAdditionalPropertiesSchema(propertyName, propertySchema, state);
         }
 
-        return resolveProperties(propertySchema);
+        return resolveProperties(propertySchema, state);
     }
 
-    private <T> Object generateStringValue(String propertyName, Schema<T> propertySchema) {
+    private <T> Object generateStringValue(String propertyName, Schema<T> propertySchema, GenerationState state) {
         if (syntheticSchema(propertyName) || !CatsModelUtils.isStringSchema(propertySchema)) {
             return null;
         }
 
+        String currentProperty = state.currentProperty;
         String propertyForGeneration = currentProperty.endsWith(propertyName) ? currentProperty : currentProperty + "#" + propertyName;
         return validDataFormat.generate(propertySchema, propertyForGeneration);
     }
@@ -182,11 +196,11 @@ public class OpenAPIModelGenerator {
         return property.getExample();
     }
 
-    private Object resolveProperties(Schema<?> schema) {
+    private Object resolveProperties(Schema<?> schema, GenerationState state) {
         if (schema.getProperties() != null) {
             Map<String, Object> result = new HashMap<>();
             for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
-                result.put(property.getKey(), this.resolvePropertyToExample(property.getKey(), property.getValue()));
+                result.put(property.getKey(), this.resolvePropertyToExample(property.getKey(), property.getValue(), state));
             }
             return result;
         }
@@ -197,14 +211,14 @@ public class OpenAPIModelGenerator {
         return useExamples || catsGeneratedExamples.contains(property);
     }
 
-    private <T> Object getExampleForObjectSchema(Schema<T> property) {
+    private <T> Object getExampleForObjectSchema(Schema<T> property, GenerationState state) {
         if (property.getExample() != null) {
             return property.getExample();
         }
         if (property.getProperties() == null || property.getProperties().isEmpty()) {
             return new HashMap<>();
         }
-        return resolveProperties(property);
+        return resolveProperties(property, state);
     }
 
     private <T> Object getExampleFromStringSchema(String propertyName, Schema<T> property) {
@@ -228,24 +242,24 @@ public class OpenAPIModelGenerator {
         BigDecimal max = schema.getMaximum() != null ? schema.getMaximum() : MAX;
 
         BigDecimal range = max.subtract(min);
-        BigDecimal randomBigDecimal = min.add(range.multiply(BigDecimal.valueOf(random.nextDouble())));
+        BigDecimal randomBigDecimal = min.add(range.multiply(BigDecimal.valueOf(CatsUtil.random().nextDouble())));
 
         randomBigDecimal = randomBigDecimal.setScale(2, RoundingMode.HALF_UP);
 
         return randomBigDecimal;
     }
 
-    Map<String, Object> getExampleFromAdditionalPropertiesSchema(String propertyName, Schema property) {
+    Map<String, Object> getExampleFromAdditionalPropertiesSchema(String propertyName, Schema property, GenerationState state) {
         Map<String, Object> mp = new HashMap<>();
         globalContext.getAdditionalProperties().add(propertyName);
         if (property.getName() != null) {
-            mp.put(property.getName(), resolvePropertyToExample(propertyName, (Schema) property.getAdditionalProperties()));
+            mp.put(property.getName(), resolvePropertyToExample(propertyName, (Schema) property.getAdditionalProperties(), state));
         } else if (((Schema) property.getAdditionalProperties()).get$ref() != null) {
             Schema innerSchema = (Schema) property.getAdditionalProperties();
             Schema addPropSchema = this.globalContext.getSchemaFromReference(innerSchema.get$ref());
-            mp.put("key", resolvePropertyToExample(propertyName, addPropSchema));
+            mp.put("key", resolvePropertyToExample(propertyName, addPropSchema, state));
         } else {
-            mp.put("key", resolvePropertyToExample(propertyName, (Schema) property.getAdditionalProperties()));
+            mp.put("key", resolvePropertyToExample(propertyName, (Schema) property.getAdditionalProperties(), state));
         }
         return mp;
     }
@@ -272,16 +286,16 @@ public class OpenAPIModelGenerator {
     }
 
     private Object getExampleFromBooleanSchema() {
-        return random.nextBoolean();
+        return CatsUtil.random().nextBoolean();
     }
 
-    private Object getExampleFromArraySchema(String propertyName, Schema property) {
+    private Object getExampleFromArraySchema(String propertyName, Schema property, GenerationState state) {
         Schema innerType = property.getItems();
         if (innerType == null) {
             return "[]";
         }
         if (innerType.get$ref() != null) {
-            schemaRefMap.put(currentProperty, innerType.get$ref());
+            this.putSchemaRef(state, state.currentProperty, innerType.get$ref());
             innerType = this.globalContext.getSchemaFromReference(innerType.get$ref());
         }
         if (innerType != null) {
@@ -293,7 +307,7 @@ public class OpenAPIModelGenerator {
                 if (isNullSchema) {
                     objectProperties[i] = StringGenerator.generate(StringGenerator.ALPHANUMERIC_PLUS, propertyName.length(), propertyName.length() + 4);
                 } else {
-                    objectProperties[i] = resolveModelToExample(propertyName, innerType);
+                    objectProperties[i] = resolveModelToExample(propertyName, innerType, state);
                 }
             }
             return objectProperties;
@@ -310,17 +324,17 @@ public class OpenAPIModelGenerator {
     double randomNumber(Double min, Double max) {
         if (min != null && max != null) {
             double range = max - min;
-            return random.nextDouble() * range + min;
+            return CatsUtil.random().nextDouble() * range + min;
         } else if (min != null) {
-            return random.nextDouble() + min;
+            return CatsUtil.random().nextDouble() + min;
         } else if (max != null) {
-            return random.nextDouble() * max;
+            return CatsUtil.random().nextDouble() * max;
         } else {
-            return random.nextDouble() * 10;
+            return CatsUtil.random().nextDouble() * 10;
         }
     }
 
-    private Object resolveModelToExample(String name, Schema schema) {
+    private Object resolveModelToExample(String name, Schema schema, GenerationState state) {
         /* When checking for cyclic references make sure we exclude schema names. Some OpenAPI specs are generated by frameworks,
         so they might generate schema names that might seem cyclic such as: Body_Create_a_previously_generated_voice_v1_voice_generation_create_voice_post
          */
@@ -339,21 +353,92 @@ public class OpenAPIModelGenerator {
 
         if (schema.getProperties() != null) {
             logger.trace("Schema properties not null {}: {}", name, schema.getProperties().keySet());
-            this.processSchemaProperties(name, schema, values);
+            this.processSchemaProperties(name, schema, values, state);
         }
         if (CatsModelUtils.isComposedSchema(schema)) {
-            this.populateWithComposedSchema(values, name, schema);
+            this.populateWithComposedSchema(values, name, schema, state);
             return values;
         } else {
-            globalContext.getRequestDataTypes().put(currentProperty, schema);
+            this.putRequestDataType(state, state.currentProperty, schema);
             if (!values.isEmpty()) {
                 return values;
             }
-            return this.resolvePropertyToExample(name, schema);
+            return this.resolvePropertyToExample(name, schema, state);
         }
     }
 
-    private void processSchemaProperties(String name, Schema schema, Map<String, Object> values) {
+    /**
+     * Resolves the example of a schema referenced through {@code schemaRef}, reusing a previously generated example
+     * when the same schema was already generated with the same options and cyclic references context.
+     */
+    private Object resolveReferencedModelToExample(String schemaRef, String name, Schema schema, GenerationState state) {
+        if (exampleMemo == null || !useExamples || schemaRef == null) {
+            /*when not using examples, the result also depends on the schemas already generated by this instance*/
+            return this.resolveModelToExample(name, schema, state);
+        }
+        String key = this.memoKey(schemaRef, name, state);
+        ExampleMemo.MemoisedExample memoised = exampleMemo.get(key);
+        if (memoised != null) {
+            memoised.schemaRefs().forEach((property, ref) -> this.putSchemaRef(state, property, ref));
+            memoised.requestDataTypes().forEach((property, type) -> this.putRequestDataType(state, property, type));
+            return copyOf(memoised.example());
+        }
+
+        Recording recording = new Recording(new LinkedHashMap<>(), new LinkedHashMap<>());
+        state.recordings.push(recording);
+        Object example;
+        try {
+            example = this.resolveModelToExample(name, schema, state);
+        } finally {
+            state.recordings.pop();
+        }
+        exampleMemo.put(key, recording.memoise(example));
+        return example;
+    }
+
+    /**
+     * Besides the schema reference and the generation options, the key includes all the schema references
+     * recorded on the current property path or below it, as they are used to detect cyclic references.
+     */
+    private String memoKey(String schemaRef, String name, GenerationState state) {
+        StringJoiner key = new StringJoiner("|")
+                .add(schemaRef)
+                .add(name)
+                .add(state.currentProperty)
+                .add(String.valueOf(selfReferenceDepth))
+                .add(String.valueOf(useDefaults));
+        new TreeMap<>(state.schemaRefMap).forEach((property, ref) -> {
+            if (state.currentProperty.startsWith(property) || property.startsWith(state.currentProperty)) {
+                key.add(property + "=" + ref);
+            }
+        });
+        return key.toString();
+    }
+
+    private static Object copyOf(Object example) {
+        return switch (example) {
+            case null -> null;
+            case Map<?, ?> map -> {
+                Map<Object, Object> copy = map instanceof LinkedHashMap ? new LinkedHashMap<>() : new HashMap<>();
+                map.forEach((key, value) -> copy.put(key, copyOf(value)));
+                yield copy;
+            }
+            case Object[] array -> Arrays.stream(array).map(OpenAPIModelGenerator::copyOf).toArray();
+            default -> example;
+        };
+    }
+
+    private void putRequestDataType(GenerationState state, String property, Schema schema) {
+        globalContext.getRequestDataTypes().put(property, schema);
+        state.recordings.forEach(recording -> recording.requestDataTypes().put(property, schema));
+    }
+
+    private void putSchemaRef(GenerationState state, String property, String schemaRef) {
+        state.schemaRefMap.put(property, schemaRef);
+        state.recordings.forEach(recording -> recording.schemaRefs().put(property, schemaRef));
+    }
+
+    private void processSchemaProperties(String name, Schema schema, Map<String, Object> values, GenerationState state) {
         if (JsonUtils.isCyclicReference(name, selfReferenceDepth)) {
             return;
         }
@@ -363,10 +448,10 @@ public class OpenAPIModelGenerator {
         if (schema.getDiscriminator() != null) {
             globalContext.getDiscriminators().add(schema.getDiscriminator());
         }
-        String previousPropertyValue = currentProperty;
+        String previousPropertyValue = state.currentProperty;
 
         for (Object propertyName : schema.getProperties().keySet()) {
-            if (JsonUtils.isCyclicSchemaReference(currentProperty, schemaRefMap, selfReferenceDepth)) {
+            if (JsonUtils.isCyclicSchemaReference(state.currentProperty, state.schemaRefMap, selfReferenceDepth)) {
                 return;
             }
             if (propertyName == null) {
@@ -376,26 +461,26 @@ public class OpenAPIModelGenerator {
             String schemaRef = ((Schema) schema.getProperties().get(propertyName)).get$ref();
 
             Schema innerSchema = this.globalContext.getSchemaFromReference(schemaRef != null ? schemaRef : "");
-            currentProperty = StringUtils.isBlank(previousPropertyValue) ? String.valueOf(propertyName) : previousPropertyValue + "#" + propertyName;
+            state.currentProperty = StringUtils.isBlank(previousPropertyValue) ? String.valueOf(propertyName) : previousPropertyValue + "#" + propertyName;
 
             if (schemaRef != null) {
-                schemaRefMap.put(currentProperty, schemaRef);
+                this.putSchemaRef(state, state.currentProperty, schemaRef);
             }
 
-            processInnerSchema(name, schema, values, propertyName, innerSchema);
+            processInnerSchema(name, schema, values, propertyName, schemaRef, innerSchema, state);
         }
-        currentProperty = previousPropertyValue;
+        state.currentProperty = previousPropertyValue;
         schema.setExample(values);
         catsGeneratedExamples.add(schema);
     }
 
-    private void processInnerSchema(String name, Schema schema, Map<String, Object> values, Object propertyName, Schema innerSchema) {
+    private void processInnerSchema(String name, Schema schema, Map<String, Object> values, Object propertyName, String schemaRef, Schema innerSchema, GenerationState state) {
         if (innerSchema == null) {
-            this.parseFromInnerSchema(name, schema, values, propertyName);
+            this.parseFromInnerSchema(name, schema, values, propertyName, state);
         } else if (schema.getDiscriminator() != null && schema.getDiscriminator().getPropertyName().equalsIgnoreCase(propertyName.toString())) {
             values.put(propertyName.toString(), this.matchToEnumOrEmpty(name, innerSchema, propertyName.toString()));
         } else {
-            values.put(propertyName.toString(), this.resolveModelToExample(propertyName.toString(), innerSchema));
+            values.put(propertyName.toString(), this.resolveReferencedModelToExample(schemaRef, propertyName.toString(), innerSchema, state));
         }
     }
 
@@ -439,21 +524,21 @@ public class OpenAPIModelGenerator {
         return Arrays.stream(schemaRefs).anyMatch(entry -> CatsModelUtils.isComposedSchema(globalContext.getSchemaFromReference(entry)));
     }
 
-    private void parseFromInnerSchema(String name, Schema schema, Map<String, Object> values, Object propertyName) {
+    private void parseFromInnerSchema(String name, Schema schema, Map<String, Object> values, Object propertyName, GenerationState state) {
         Schema innerSchema = (Schema) schema.getProperties().get(propertyName.toString());
         if (CatsModelUtils.isObjectSchema(innerSchema)) {
-            values.put(propertyName.toString(), resolveModelToExample(propertyName.toString(), innerSchema));
+            values.put(propertyName.toString(), resolveModelToExample(propertyName.toString(), innerSchema, state));
         }
         if (CatsModelUtils.isComposedSchema(innerSchema)) {
-            this.populateWithComposedSchema(values, propertyName.toString(), innerSchema);
+            this.populateWithComposedSchema(values, propertyName.toString(), innerSchema, state);
         } else if (schema.getDiscriminator() != null && schema.getDiscriminator().getPropertyName().equalsIgnoreCase(propertyName.toString())) {
             values.put(propertyName.toString(), this.matchToEnumOrEmpty(name, innerSchema, propertyName.toString()));
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.putRequestDataType(state, state.currentProperty, innerSchema);
         } else {//maybe here a check for array schema
             logger.trace("Resolving {}", propertyName);
-            Object example = this.resolvePropertyToExample(propertyName.toString(), innerSchema);
+            Object example = this.resolvePropertyToExample(propertyName.toString(), innerSchema, state);
             values.put(propertyName.toString(), example);
-            globalContext.getRequestDataTypes().put(currentProperty, innerSchema);
+            this.putRequestDataType(state, state.currentProperty, innerSchema);
         }
     }
 
@@ -472,11 +557,11 @@ public class OpenAPIModelGenerator {
         return result;
     }
 
-    private void populateWithComposedSchema(Map<String, Object> values, String propertyName, Schema<?> composedSchema) {
+    private void populateWithComposedSchema(Map<String, Object> values, String propertyName, Schema<?> composedSchema, GenerationState state) {
         if (composedSchema.getAllOf() != null) {
             this.keepOriginalSchema(propertyName, composedSchema);
 
-            addXXXOfExamples(values, propertyName, composedSchema.getAllOf(), "ALL_OF");
+            addXXXOfExamples(values, propertyName, composedSchema.getAllOf(), "ALL_OF", state);
             String newKey = "ALL_OF";
             Map<String, Object> finalMap = new HashMap<>();
 
@@ -504,18 +589,18 @@ public class OpenAPIModelGenerator {
         }
         List<Schema> anyOfNonNullSchemas = this.excludeNullSchemas(composedSchema.getAnyOf());
         if (anyOfNonNullSchemas.size() == 1) {
-            values.put(propertyName, resolveModelToExample(propertyName, anyOfNonNullSchemas.getFirst()));
+            values.put(propertyName, resolveModelToExample(propertyName, anyOfNonNullSchemas.getFirst(), state));
         } else if (composedSchema.getAnyOf() != null) {
             mapDiscriminator(composedSchema, anyOfNonNullSchemas);
-            addXXXOfExamples(values, propertyName, anyOfNonNullSchemas, "ANY_OF");
+            addXXXOfExamples(values, propertyName, anyOfNonNullSchemas, "ANY_OF", state);
         }
 
         List<Schema> oneOfNonNullSchemas = this.excludeNullSchemas(composedSchema.getOneOf());
         if (oneOfNonNullSchemas.size() == 1) {
-            values.put(propertyName, resolveModelToExample(propertyName, oneOfNonNullSchemas.getFirst()));
+            values.put(propertyName, resolveModelToExample(propertyName, oneOfNonNullSchemas.getFirst(), state));
         } else if (composedSchema.getOneOf() != null) {
             mapDiscriminator(composedSchema, oneOfNonNullSchemas);
-            addXXXOfExamples(values, propertyName, oneOfNonNullSchemas, "ONE_OF");
+            addXXXOfExamples(values, propertyName, oneOfNonNullSchemas, "ONE_OF", state);
         }
     }
 
@@ -586,7 +671,7 @@ public class OpenAPIModelGenerator {
         }
     }
 
-    private void addXXXOfExamples(Map<String, Object> values, Object propertyName, Collection<Schema> allOf, String of) {
+    private void addXXXOfExamples(Map<String, Object> values, Object propertyName, Collection<Schema> allOf, String of, GenerationState state) {
         Set<String> storedSchemaRefs = new HashSet<>();
         int i = 0;
 
@@ -599,7 +684,8 @@ public class OpenAPIModelGenerator {
             }
 
             Schema schemaToExample = allOfSchema;
-            if (fullSchemaRef != null) {
+            boolean referenced = fullSchemaRef != null;
+            if (referenced) {
                 schemaRef = CatsModelUtils.getSimpleRef(fullSchemaRef);
                 schemaToExample = this.globalContext.getSchemaFromReference(fullSchemaRef);
             } else {
@@ -612,8 +698,28 @@ public class OpenAPIModelGenerator {
                 storedSchemaRefs.add(schemaRef);
             }
             String propertyKey = propertyName.toString() + "_" + schemaRef;
+            String currentProperty = state.currentProperty;
             String keyToStore = currentProperty.contains("#") ? currentProperty.substring(currentProperty.lastIndexOf("#") + 1) : currentProperty;
-            values.put(keyToStore + of + fullSchemaRef, resolveModelToExample(propertyKey, schemaToExample));
+            Object example = referenced ? resolveReferencedModelToExample(fullSchemaRef, propertyKey, schemaToExample, state) : resolveModelToExample(propertyKey, schemaToExample, state);
+            values.put(keyToStore + of + fullSchemaRef, example);
+        }
+    }
+
+    /**
+     * Holds the state of a single {@link #generate(String)} call.
+     */
+    private static final class GenerationState {
+        private final Map<String, String> schemaRefMap = new LinkedHashMap<>();
+        private final Deque<Recording> recordings = new ArrayDeque<>();
+        private String currentProperty = "";
+    }
+
+    /**
+     * Records the side effects of generating an example which is stored in the {@link ExampleMemo}.
+     */
+    private record Recording(Map<String, Schema> requestDataTypes, Map<String, String> schemaRefs) {
+        ExampleMemo.MemoisedExample memoise(Object example) {
+            return new ExampleMemo.MemoisedExample(copyOf(example), requestDataTypes, schemaRefs);
         }
     }
 }
@@ -0,0 +1,410 @@
+package com.endava.cats.openapi;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.ShortNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.SpecVersion;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.links.LinkParameter;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BinarySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.EmailSchema;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.FileSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.PasswordSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.media.XML;
+import io.swagger.v3.oas.models.parameters.CookieParameter;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.OAuthFlow;
+import io.swagger.v3.oas.models.security.OAuthFlows;
+import io.swagger.v3.oas.models.security.Scopes;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.servers.ServerVariable;
+import io.swagger.v3.oas.models.servers.ServerVariables;
+import io.swagger.v3.oas.models.tags.Tag;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache for parsed and resolved OpenAPI contracts.
+ * <p>
+ * Entries are keyed by a hash of the contract content and the content of all the local files it references,
+ * so any change in the contract or its referenced files results in a new parse. Remote contracts are not cached
+ * and neither are contracts referencing remote files or files which cannot be found locally, as changes in those
+ * cannot be detected.
+ * Entries that cannot be read, for example because they were written by a different CATS version, are
+ * discarded and the contract is parsed again.
+ * <p>
+ * At most {@link #MAX_ENTRIES} entries are kept. Loading an entry marks it as recently used and the least recently
+ * used entries are deleted when a new entry is stored.
+ * <p>
+ * Entries are serialized with Kryo. Only the classes in {@link #CACHED_TYPES} can be written or read, so an entry
+ * referencing any other class is rejected instead of instantiating it. Contracts using types outside this set are simply
+ * not cached. The cache is disabled in native builds, as the reflection-based Kryo serializers are not available there.
+ */
+public class OpenApiContractCache {
+    private static final String FORMAT_VERSION = "2";
+    static final int MAX_ENTRIES = 20;
+    private static final String ENTRY_EXTENSION = ".kryo";
+    private static final Pattern EXTERNAL_REF = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+    private static final Path DEFAULT_CACHE_FOLDER = Paths.get(System.getProperty("user.home"), ".cats", "cache", "contracts");
+    private static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+    /**
+     * The only classes that can be part of a cache entry. The registration order is part of the entry format,
+     * so {@link #FORMAT_VERSION} must change when this list changes.
+     */
+    private static final List<Class<?>> CACHED_TYPES = List.of(
+            CacheEntry.class, OpenApiParseResult.class, OpenApiParseResult.OpenApiVersion.class, SwaggerParseResult.class,
+            OpenAPI.class, SpecVersion.class, Info.class, Contact.class, License.class, ExternalDocumentation.class,
+            Server.class, ServerVariables.class, ServerVariable.class, Tag.class,
+            io.swagger.v3.oas.models.Paths.class, PathItem.class, Operation.class, Callback.class,
+            Parameter.class, PathParameter.class, QueryParameter.class, HeaderParameter.class, CookieParameter.class, Parameter.StyleEnum.class,
+            RequestBody.class, Content.class, MediaType.class, Encoding.class, Encoding.StyleEnum.class, Example.class,
+            Header.class, Header.StyleEnum.class, ApiResponses.class, ApiResponse.class, Link.class, LinkParameter.class,
+            Components.class, SecurityScheme.class, SecurityScheme.Type.class, SecurityScheme.In.class,
+            OAuthFlows.class, OAuthFlow.class, Scopes.class, SecurityRequirement.class,
+            Schema.class, ArraySchema.class, BinarySchema.class, BooleanSchema.class, ByteArraySchema.class, ComposedSchema.class,
+            DateSchema.class, DateTimeSchema.class, EmailSchema.class, FileSchema.class, IntegerSchema.class, JsonSchema.class,
+            MapSchema.class, NumberSchema.class, ObjectSchema.class, PasswordSchema.class, StringSchema.class, UUIDSchema.class,
+            Discriminator.class, XML.class,
+            ObjectNode.class, ArrayNode.class, TextNode.class, IntNode.class, LongNode.class, ShortNode.class, BigIntegerNode.class,
+            DoubleNode.class, FloatNode.class, DecimalNode.class, BooleanNode.class, NullNode.class, BinaryNode.class, JsonNodeFactory.class,
+            ArrayList.class, LinkedList.class, HashMap.class, LinkedHashMap.class, TreeMap.class, HashSet.class, LinkedHashSet.class, TreeSet.class,
+            Collections.emptyList().getClass(), Collections.emptyMap().getClass(), Collections.emptySet().getClass(),
+            Object[].class, String[].class, byte[].class, BigDecimal.class, BigInteger.class,
+            Date.class, LocalDate.class, LocalDateTime.class, OffsetDateTime.class, UUID.class);
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(OpenApiContractCache.class);
+    private final Path cacheFolder;
+    private final boolean enabled;
+    private long timeSavedInMs;
+
+    /**
+     * Creates a new cache storing entries in the given folder.
+     *
+     * @param cacheFolder the folder where cache entries are stored
+     * @param enabled     if false, contracts are always parsed and nothing is stored
+     */
+    public OpenApiContractCache(Path cacheFolder, boolean enabled) {
+        this.cacheFolder = cacheFolder;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a cache storing entries in the {@code .cats/cache/contracts} folder from the user home.
+     *
+     * @param enabled if false, contracts are always parsed and nothing is stored
+     * @param clear   if true, all existing cache entries are deleted
+     * @return a new contract cache
+     */
+    public static OpenApiContractCache create(boolean enabled, boolean clear) {
+        OpenApiContractCache cache = new OpenApiContractCache(DEFAULT_CACHE_FOLDER, enabled);
+        if (clear) {
+            cache.clear();
+        }
+        return cache;
+    }
+
+    /**
+     * Reads the given OpenAPI contract from the cache or parses it if not cached.
+     *
+     * @param location the location of the OpenAPI spec
+     * @return an OpenAPI object with all details from the OpenAPI spec
+     * @throws IOException if there is a problem accessing the spec file
+     */
+    public OpenAPI readOpenApi(String location) throws IOException {
+        return readAsParseResult(location).getSwaggerParseResult().getOpenAPI();
+    }
+
+    /**
+     * Reads the given OpenAPI contract from the cache or parses it using {@link OpenApiUtils#readAsParseResult(String)} if not cached.
+     *
+     * @param location the location of the OpenAPI spec
+     * @return an OpenApiParseResult having both OpenAPI spec details and parse result error messages
+     * @throws IOException if there is a problem accessing the spec file
+     */
+    public OpenApiParseResult readAsParseResult(String location) throws IOException {
+        if (!this.isEnabled() || location.startsWith("http")) {
+            return OpenApiUtils.readAsParseResult(location);
+        }
+        Optional<String> cacheKey = cacheKey(Paths.get(location));
+        if (cacheKey.isEmpty()) {
+            logger.debug("Contract {} has references which cannot be resolved locally, not using the cache", location);
+            return OpenApiUtils.readAsParseResult(location);
+        }
+        Path entry = cacheFolder.resolve(cacheKey.get() + ENTRY_EXTENSION);
+        Optional<CacheEntry> cached = this.load(entry);
+        if (cached.isPresent()) {
+            this.markRecentlyUsed(entry);
+            timeSavedInMs = cached.get().parseTimeInMs();
+            logger.debug("Contract {} loaded from cache {}, saving {} ms of parsing", location, entry, timeSavedInMs);
+            return cached.get().parseResult();
+        }
+
+        long t0 = System.currentTimeMillis();
+        OpenApiParseResult parseResult = OpenApiUtils.readAsParseResult(location);
+        long parseTimeInMs = System.currentTimeMillis() - t0;
+        if (parseResult.getSwaggerParseResult().getOpenAPI() != null) {
+            this.store(entry, new CacheEntry(parseTimeInMs, parseResult));
+            this.evictLeastRecentlyUsed();
+        }
+        return parseResult;
+    }
+
+    private boolean isEnabled() {
+        return enabled && System.getProperty(NATIVE_IMAGE_PROPERTY) == null;
+    }
+
+    /**
+     * Returns the time saved by loading the last contract from the cache instead of parsing it.
+     *
+     * @return the time saved in milliseconds or 0 if the last contract was not loaded from the cache
+     */
+    public long getTimeSavedInMs() {
+        return timeSavedInMs;
+    }
+
+    /**
+     * Deletes all cache entries.
+     */
+    public void clear() {
+        if (!Files.isDirectory(cacheFolder)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.list(cacheFolder)) {
+            entries.filter(path -> path.toString().endsWith(ENTRY_EXTENSION)).forEach(this::deleteQuietly);
+            logger.debug("Contract cache {} cleared", cacheFolder);
+        } catch (IOException e) {
+            logger.debug("Unable to clear contract cache {}: {}", cacheFolder, e.getMessage());
+        }
+    }
+
+    private Optional<CacheEntry> load(Path entry) {
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        try (InputStream stream = Files.newInputStream(entry); Input input = new Input(stream)) {
+            return Optional.of(newKryo().readObject(input, CacheEntry.class));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Discarding unreadable contract cache entry {}: {}", entry, e.getMessage());
+            this.deleteQuietly(entry);
+            return Optional.empty();
+        }
+    }
+
+    private void store(Path entry, CacheEntry cacheEntry) {
+        Path tempFile = entry.resolveSibling(entry.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(cacheFolder);
+            try (OutputStream stream = Files.newOutputStream(tempFile); Output output = new Output(stream)) {
+                newKryo().writeObject(output, cacheEntry);
+            }
+            Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Unable to store contract cache entry {}: {}", entry, e.getMessage());
+            this.deleteQuietly(tempFile);
+        }
+    }
+
+    private void markRecentlyUsed(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug("Unable to update contract cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        try (Stream<Path> entries = Files.list(cacheFolder)) {
+            List<Path> leastRecentlyUsedFirst = entries
+                    .filter(path -> path.toString().endsWith(ENTRY_EXTENSION))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+            leastRecentlyUsedFirst.subList(0, Math.max(0, leastRecentlyUsedFirst.size() - MAX_ENTRIES)).forEach(this::deleteQuietly);
+        } catch (IOException e) {
+            logger.debug("Unable to evict contract cache entries from {}: {}", cacheFolder, e.getMessage());
+        }
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Unable to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Computes a hash of the contract content and the content of all local files referenced through {@code $ref},
+     * transitively. As local contracts are parsed from their content, relative references are resolved against the
+     * current folder first and then against the folder of the referencing file.
+     *
+     * @return the hash or empty if any of the references is remote or cannot be found locally
+     */
+    static Optional<String> cacheKey(Path contract) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(FORMAT_VERSION, StandardCharsets.UTF_8)
+                .putString(String.valueOf(OpenAPIV3Parser.class.getPackage().getImplementationVersion()), StandardCharsets.UTF_8);
+        Set<Path> visited = new HashSet<>();
+        Deque<Path> toVisit = new ArrayDeque<>();
+        toVisit.add(contract.toAbsolutePath().normalize());
+
+        while (!toVisit.isEmpty()) {
+            Path current = toVisit.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            String content = Files.readString(current);
+            hasher.putString(current.toString(), StandardCharsets.UTF_8).putString(content, StandardCharsets.UTF_8);
+
+            Matcher matcher = EXTERNAL_REF.matcher(content);
+            while (matcher.find()) {
+                Optional<Path> reference = resolveReference(current, matcher.group(1));
+                if (reference.isEmpty()) {
+                    return Optional.empty();
+                }
+                toVisit.add(reference.get());
+            }
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    private static Optional<Path> resolveReference(Path referencingFile, String reference) {
+        if (reference.startsWith("http")) {
+            return Optional.empty();
+        }
+        return Stream.of(Paths.get(reference), referencingFile.resolveSibling(reference))
+                .map(path -> path.toAbsolutePath().normalize())
+                .filter(Files::isRegularFile)
+                .findFirst();
+    }
+
+    static Kryo newKryo() {
+        Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(true);
+        kryo.setReferences(true);
+        kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        kryo.addDefaultSerializer(UUID.class, new UuidSerializer());
+        CACHED_TYPES.forEach(kryo::register);
+        return kryo;
+    }
+
+    /**
+     * Parsed contracts might contain UUIDs in examples or default values. UUID fields are not accessible through reflection.
+     */
+    private static class UuidSerializer extends Serializer<UUID> {
+        @Override
+        public void write(Kryo kryo, Output output, UUID uuid) {
+            output.writeLong(uuid.getMostSignificantBits());
+            output.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        @Override
+        public UUID read(Kryo kryo, Input input, Class<? extends UUID> type) {
+            return new UUID(input.readLong(), input.readLong());
+        }
+    }
+
+    record CacheEntry(long parseTimeInMs, OpenApiParseResult parseResult) {
+    }
+}
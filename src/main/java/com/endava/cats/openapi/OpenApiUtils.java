@@ -1,6 +1,7 @@
 package com.endava.cats.openapi;
 
 import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.jfr.ContractParseEvent;
 import com.endava.cats.util.CatsModelUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
@@ -83,6 +84,8 @@ public abstract class OpenApiUtils {
      * @throws IOException if there is a problem accessing the spec file
      */
     public static OpenApiParseResult readAsParseResult(String location) throws IOException {
+        ContractParseEvent event = new ContractParseEvent();
+        event.begin();
         OpenApiParseResult openApiParseResult = new OpenApiParseResult();
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
@@ -100,9 +103,22 @@ public abstract class OpenApiUtils {
         }
         LOGGER.debug("Messages {}", parseResult.getMessages());
         openApiParseResult.setSwaggerParseResult(parseResult);
+        commitParseEvent(event, location, openApiParseResult);
         return openApiParseResult;
     }
 
+    private static void commitParseEvent(ContractParseEvent event, String location, OpenApiParseResult openApiParseResult) throws IOException {
+        event.end();
+        if (event.shouldCommit()) {
+            OpenAPI openAPI = openApiParseResult.getSwaggerParseResult().getOpenAPI();
+            event.location = location;
+            event.version = String.valueOf(openApiParseResult.getVersion());
+            event.paths = openAPI == null || openAPI.getPaths() == null ? 0 : openAPI.getPaths().size();
+            event.bytes = location.startsWith("http") ? 0 : Files.size(Paths.get(location));
+            event.commit();
+        }
+    }
+
     private static SwaggerParseResult getOpenAPI(SwaggerParserExtension parserExtension, String location, ParseOptions options) throws IOException {
         if (location.startsWith("http")) {
             LOGGER.debug("Load remote contract {}", location);
@@ -0,0 +1,174 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsTestCase;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Writes individual test case files on a background thread so that fuzzers don't wait for
+ * report rendering and disk I/O. Test cases are kept in a bounded queue and written in batches.
+ * When the queue is full, callers wait until there is room in the queue.
+ * <p>
+ * If {@code --reportQueueSize} is 0, test cases are written synchronously.
+ * If the background writer dies, for example due to an {@link Error}, remaining and new test cases are written by the calling threads.
+ */
+class AsyncTestCaseWriter {
+    private static final long WRITER_CHECK_INTERVAL_MS = 100;
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AsyncTestCaseWriter.class);
+    private final Consumer<CatsTestCase> testCaseExporter;
+    private final ReportingArguments reportingArguments;
+    private final Object lock = new Object();
+    private BlockingQueue<CatsTestCase> queue;
+    private Thread writer;
+    private int pending;
+    private volatile boolean flushRequested;
+
+    /**
+     * Creates a writer which writes test cases using the given function.
+     *
+     * @param testCaseExporter   writes a single test case; it's called on every write, so it must always use the current exporter
+     * @param reportingArguments the reporting arguments
+     */
+    AsyncTestCaseWriter(Consumer<CatsTestCase> testCaseExporter, ReportingArguments reportingArguments) {
+        this.testCaseExporter = testCaseExporter;
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Queues the given test case to be written by the background writer.
+     * Blocks if the queue is full, unless the background writer is no longer running.
+     *
+     * @param testCase the test case to write
+     */
+    void write(CatsTestCase testCase) {
+        BlockingQueue<CatsTestCase> writeQueue = this.getOrStartQueue();
+        if (writeQueue == null) {
+            testCaseExporter.accept(testCase);
+            return;
+        }
+        synchronized (lock) {
+            pending++;
+        }
+        try {
+            while (!writeQueue.offer(testCase, WRITER_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (!writer.isAlive()) {
+                    this.markWritten(1);
+                    this.writeSafely(testCase);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.markWritten(1);
+            testCaseExporter.accept(testCase);
+        }
+    }
+
+    /**
+     * Waits until all queued test cases are written.
+     * Test cases left in the queue by a background writer which is no longer running are written on the current thread.
+     * If the current thread is interrupted, the remaining queued test cases are written on the current thread, as the summary
+     * must not be written before them, and the interrupt flag is restored once everything is written.
+     */
+    void awaitWritten() {
+        flushRequested = true;
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (pending > 0) {
+                if (interrupted || !writer.isAlive()) {
+                    this.writeLeftInQueue();
+                }
+                try {
+                    lock.wait(WRITER_CHECK_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    logger.warn("Interrupted while waiting for {} test cases to be written, writing them synchronously", pending);
+                    interrupted = true;
+                }
+            }
+            flushRequested = false;
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BlockingQueue<CatsTestCase> getOrStartQueue() {
+        synchronized (lock) {
+            if (queue == null && reportingArguments.getReportQueueSize() > 0) {
+                queue = new ArrayBlockingQueue<>(reportingArguments.getReportQueueSize());
+                writer = Thread.ofVirtual().name("cats-report-writer").start(this::writeBatches);
+            }
+            if (writer != null && !writer.isAlive()) {
+                return null;
+            }
+            return queue;
+        }
+    }
+
+    private void writeBatches() {
+        int batchSize = reportingArguments.getReportQueueSize();
+        long flushIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(reportingArguments.getReportFlushInterval());
+        List<CatsTestCase> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + flushIntervalInNanos;
+                queue.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize && !flushRequested) {
+                    CatsTestCase next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                this.writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Error e) {
+            logger.error("Background report writer stopped, remaining test cases will be written synchronously: {}", e.toString());
+            throw e;
+        }
+    }
+
+    private void writeBatch(List<CatsTestCase> batch) {
+        try {
+            batch.forEach(this::writeSafely);
+        } finally {
+            this.markWritten(batch.size());
+        }
+    }
+
+    private void writeLeftInQueue() {
+        List<CatsTestCase> leftInQueue = new ArrayList<>();
+        queue.drainTo(leftInQueue);
+        leftInQueue.forEach(this::writeSafely);
+        pending -= leftInQueue.size();
+    }
+
+    private void writeSafely(CatsTestCase testCase) {
+        try {
+            testCaseExporter.accept(testCase);
+        } catch (RuntimeException e) {
+            logger.error("There was a problem writing test case {}: {}", testCase.getTestId(), e.getMessage());
+            logger.debug("Stacktrace", e);
+        }
+    }
+
+    private void markWritten(int count) {
+        synchronized (lock) {
+            pending -= count;
+            lock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.endava.cats.report;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Sits in front of the root logger handlers when running with {@code --concurrency}.
+ * Records logged by a thread which started buffering are kept aside, along with a copy of their MDC, instead of being
+ * published. They are published later, in commit order, so that console output doesn't interleave between workers.
+ * Records logged by any other thread are published right away.
+ */
+class DeferredConsoleHandler extends Handler {
+    private static final ThreadLocal<List<ExtLogRecord>> BUFFER = new ThreadLocal<>();
+    private volatile Handler[] delegates;
+
+    /**
+     * Starts buffering the records logged by the current thread.
+     */
+    void startBuffering() {
+        this.install();
+        BUFFER.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops buffering the records logged by the current thread.
+     *
+     * @return the records logged since {@link #startBuffering()}, in logging order
+     */
+    List<ExtLogRecord> stopBuffering() {
+        List<ExtLogRecord> records = BUFFER.get();
+        BUFFER.remove();
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * Publishes the given buffered records, after applying the given update on each of them.
+     *
+     * @param records the buffered records
+     * @param update  change applied to each record before publishing, like replacing temporary test ids
+     */
+    void publishBuffered(List<ExtLogRecord> records, Consumer<ExtLogRecord> update) {
+        for (ExtLogRecord logRecord : records) {
+            update.accept(logRecord);
+            this.publishToDelegates(logRecord);
+        }
+    }
+
+    private synchronized void install() {
+        if (delegates != null) {
+            return;
+        }
+        Logger root = LogContext.getLogContext().getLogger("");
+        delegates = root.getHandlers();
+        for (Handler handler : delegates) {
+            root.removeHandler(handler);
+        }
+        root.addHandler(this);
+    }
+
+    @Override
+    public void publish(LogRecord logRecord) {
+        List<ExtLogRecord> records = BUFFER.get();
+        if (records == null) {
+            this.publishToDelegates(logRecord);
+            return;
+        }
+        ExtLogRecord extLogRecord = ExtLogRecord.wrap(logRecord);
+        extLogRecord.copyAll();
+        records.add(extLogRecord);
+    }
+
+    private void publishToDelegates(LogRecord logRecord) {
+        for (Handler handler : delegates) {
+            handler.publish(logRecord);
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (Handler handler : delegates) {
+            handler.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Handler handler : delegates) {
+            handler.close();
+        }
+    }
+}
@@ -1,72 +1,159 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.model.ResponseTimePercentiles;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 import org.fusesource.jansi.Ansi;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 
 /**
  * Listener for tracking execution statistics of CATS tests, including errors, warnings, successes, and skipped tests.
+ * <p>
+ * Counters are lock-free and running totals are kept along with the per path counts, so totals are read
+ * in constant time no matter how many paths were executed.
  */
 @ApplicationScoped
 @DryRun
 public class ExecutionStatisticsListener {
+    static final int MAX_EFFECTIVE_RATES = 1000;
 
     /**
      * Map to track the count of errors per path.
      */
-    private final Map<String, Integer> errors = new HashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of warnings per path.
      */
-    private final Map<String, Integer> warns = new HashMap<>();
+    private final Map<String, LongAdder> warns = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of successful executions per path.
      */
-    private final Map<String, Integer> success = new HashMap<>();
+    private final Map<String, LongAdder> success = new ConcurrentHashMap<>();
+
+    /**
+     * Count of errors across all paths.
+     */
+    private final LongAdder totalErrors = new LongAdder();
+
+    /**
+     * Count of warnings across all paths.
+     */
+    private final LongAdder totalWarns = new LongAdder();
+
+    /**
+     * Count of successful executions across all paths.
+     */
+    private final LongAdder totalSuccess = new LongAdder();
 
     /**
      * Count of skipped tests.
      */
-    @Getter
-    private int skipped;
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
      * Count of authentication errors.
      */
-    @Getter
-    private int authErrors;
+    private final AtomicInteger authErrors = new AtomicInteger();
 
     /**
      * Count of I/O errors.
      */
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger ioErrors = new AtomicInteger();
+
+    /**
+     * Effective request rates recorded when adaptive rate limiting changes the rate.
+     * When {@link #MAX_EFFECTIVE_RATES} is reached, every other rate is dropped.
+     */
+    private final List<EffectiveRate> effectiveRates = new ArrayList<>();
+
+    /**
+     * Count of requests sent to the service.
+     */
+    private final LongAdder requestsSent = new LongAdder();
+
+    /**
+     * Count of requests sent to the service and still waiting for a response.
+     */
+    private final AtomicLong requestsInFlight = new AtomicLong();
+
+    /**
+     * Map to track the count of responses per status class, like 2xx or 4xx.
+     */
+    private final Map<String, LongAdder> responsesPerStatusClass = new ConcurrentHashMap<>();
+
+    /**
+     * Total time spent waiting for the rate limiter, in nanoseconds.
+     */
+    private final LongAdder rateLimiterWaitNanos = new LongAdder();
+
+    /**
+     * Response times per http method and path.
+     */
+    private final Map<String, ResponseTimeHistogram> responseTimesPerPath = new ConcurrentHashMap<>();
+
+    /**
+     * Response times per fuzzer.
+     */
+    private final Map<String, ResponseTimeHistogram> responseTimesPerFuzzer = new ConcurrentHashMap<>();
 
     /**
      * Increases the count of authentication errors.
      */
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of I/O errors.
      */
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of skipped tests.
      */
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
+    }
+
+    /**
+     * Gets the count of skipped tests.
+     *
+     * @return The count of skipped tests.
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the count of authentication errors.
+     *
+     * @return The count of authentication errors.
+     */
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    /**
+     * Gets the count of I/O errors.
+     *
+     * @return The count of I/O errors.
+     */
+    public int getIoErrors() {
+        return this.ioErrors.get();
     }
 
     /**
@@ -75,7 +162,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which errors are increased.
      */
     public void increaseErrors(String path) {
-        this.errors.merge(path, 1, Integer::sum);
+        increase(this.errors, this.totalErrors, path);
     }
 
     /**
@@ -84,7 +171,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which warnings are increased.
      */
     public void increaseWarns(String path) {
-        this.warns.merge(path, 1, Integer::sum);
+        increase(this.warns, this.totalWarns, path);
     }
 
     /**
@@ -93,7 +180,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which successful executions are increased.
      */
     public void increaseSuccess(String path) {
-        this.success.merge(path, 1, Integer::sum);
+        increase(this.success, this.totalSuccess, path);
     }
 
     /**
@@ -102,7 +189,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of errors.
      */
     public int getErrors() {
-        return this.errors.values().stream().reduce(0, Integer::sum);
+        return this.totalErrors.intValue();
     }
 
     /**
@@ -111,7 +198,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of warnings.
      */
     public int getWarns() {
-        return this.warns.values().stream().reduce(0, Integer::sum);
+        return this.totalWarns.intValue();
     }
 
     /**
@@ -120,7 +207,7 @@ public class ExecutionStatisticsListener {
      * @return The total count of successful executions.
      */
     public int getSuccess() {
-        return this.success.values().stream().reduce(0, Integer::sum);
+        return this.totalSuccess.intValue();
     }
 
     /**
@@ -138,7 +225,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many authentication errors, {@code false} otherwise.
      */
     public boolean areManyAuthErrors() {
-        return authErrors > this.getAll() / 2;
+        return this.getAuthErrors() > this.getAll() / 2;
     }
 
     /**
@@ -147,7 +234,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many I/O errors, {@code false} otherwise.
      */
     public boolean areManyIoErrors() {
-        return ioErrors > this.getAll() / 2;
+        return this.getIoErrors() > this.getAll() / 2;
     }
 
     /**
@@ -157,9 +244,207 @@ public class ExecutionStatisticsListener {
      * @return A formatted string representation of the execution results.
      */
     public String resultAsStringPerPath(String path) {
-        String errorsString = Ansi.ansi().fg(Ansi.Color.RED).a("E " + errors.getOrDefault(path, 0)).reset().toString();
-        String warnsString = Ansi.ansi().fg(Ansi.Color.YELLOW).a("W " + warns.getOrDefault(path, 0)).reset().toString();
-        String successString = Ansi.ansi().fg(Ansi.Color.GREEN).a("S " + success.getOrDefault(path, 0)).reset().toString();
+        Snapshot pathSnapshot = this.snapshot(path);
+        String errorsString = Ansi.ansi().fg(Ansi.Color.RED).a("E " + pathSnapshot.errors()).reset().toString();
+        String warnsString = Ansi.ansi().fg(Ansi.Color.YELLOW).a("W " + pathSnapshot.warns()).reset().toString();
+        String successString = Ansi.ansi().fg(Ansi.Color.GREEN).a("S " + pathSnapshot.success()).reset().toString();
         return "%s, %s, %s".formatted(errorsString, warnsString, successString);
     }
+
+    /**
+     * Gets the current counts across all paths. This does not block test case reporting, so counts updated
+     * while taking the snapshot might be reflected only partially.
+     *
+     * @return The current counts across all paths.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(totalSuccess.sum(), totalWarns.sum(), totalErrors.sum(), skipped.get());
+    }
+
+    /**
+     * Gets the current counts for a specific path. Skipped tests are not tracked per path and are always 0.
+     *
+     * @param path The path for which to get the counts.
+     * @return The current counts for the given path.
+     */
+    public Snapshot snapshot(String path) {
+        String key = keyOf(path);
+        return new Snapshot(sumOf(success, key), sumOf(warns, key), sumOf(errors, key), 0);
+    }
+
+    /**
+     * Records the effective request rate used from this point onwards.
+     *
+     * @param requestsPerMinute The number of requests per minute.
+     */
+    public void recordEffectiveRate(double requestsPerMinute) {
+        synchronized (effectiveRates) {
+            if (effectiveRates.size() >= MAX_EFFECTIVE_RATES) {
+                List<EffectiveRate> downsampled = IntStream.range(0, effectiveRates.size())
+                        .filter(index -> index % 2 == 0)
+                        .mapToObj(effectiveRates::get)
+                        .toList();
+                effectiveRates.clear();
+                effectiveRates.addAll(downsampled);
+            }
+            effectiveRates.add(new EffectiveRate(System.currentTimeMillis(), requestsPerMinute));
+        }
+    }
+
+    /**
+     * Gets the effective request rates in the order they were recorded.
+     *
+     * @return The effective request rates or an empty list if adaptive rate limiting is not enabled.
+     */
+    public List<EffectiveRate> getEffectiveRates() {
+        synchronized (effectiveRates) {
+            return List.copyOf(this.effectiveRates);
+        }
+    }
+
+    /**
+     * Records a request sent to the service, along with the time spent waiting for the rate limiter before sending it.
+     *
+     * @param rateLimiterWaitNanos The time spent waiting for the rate limiter in nanoseconds.
+     */
+    public void recordRequestSent(long rateLimiterWaitNanos) {
+        this.requestsSent.increment();
+        this.requestsInFlight.incrementAndGet();
+        this.rateLimiterWaitNanos.add(rateLimiterWaitNanos);
+    }
+
+    /**
+     * Records a response received from the service for a request previously recorded using {@link #recordRequestSent(long)}.
+     *
+     * @param responseCode The http response code.
+     */
+    public void recordResponseReceived(int responseCode) {
+        this.requestsInFlight.decrementAndGet();
+        this.responsesPerStatusClass.computeIfAbsent(responseCode / 100 + "xx", key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a request previously recorded using {@link #recordRequestSent(long)} which failed without a response.
+     */
+    public void recordRequestFailed() {
+        this.requestsInFlight.decrementAndGet();
+    }
+
+    /**
+     * Gets the count of requests sent to the service.
+     *
+     * @return The count of requests sent.
+     */
+    public long getRequestsSent() {
+        return this.requestsSent.sum();
+    }
+
+    /**
+     * Gets the count of requests sent to the service which are still waiting for a response.
+     *
+     * @return The count of requests in flight.
+     */
+    public long getRequestsInFlight() {
+        return this.requestsInFlight.get();
+    }
+
+    /**
+     * Gets the count of responses per status class, sorted by status class.
+     *
+     * @return The count of responses per status class, like 2xx or 4xx.
+     */
+    public Map<String, Long> getResponsesPerStatusClass() {
+        Map<String, Long> responses = new TreeMap<>();
+        this.responsesPerStatusClass.forEach((statusClass, count) -> responses.put(statusClass, count.sum()));
+        return responses;
+    }
+
+    /**
+     * Gets the total time spent waiting for the rate limiter.
+     *
+     * @return The time spent waiting for the rate limiter in nanoseconds.
+     */
+    public long getRateLimiterWaitNanos() {
+        return this.rateLimiterWaitNanos.sum();
+    }
+
+    /**
+     * Records the response time of a test case, both for its http method and path and for its fuzzer.
+     *
+     * @param httpMethod       The http method of the test case.
+     * @param path             The path of the test case.
+     * @param fuzzer           The fuzzer which ran the test case.
+     * @param responseTimeInMs The response time in milliseconds.
+     */
+    public void recordResponseTime(String httpMethod, String path, String fuzzer, long responseTimeInMs) {
+        this.responseTimesPerPath.computeIfAbsent(httpMethod + " " + path, key -> new ResponseTimeHistogram()).record(responseTimeInMs);
+        this.responseTimesPerFuzzer.computeIfAbsent(keyOf(fuzzer), key -> new ResponseTimeHistogram()).record(responseTimeInMs);
+    }
+
+    /**
+     * Gets the response time percentiles for each http method and path, sorted by http method and path.
+     *
+     * @return The response time percentiles per http method and path.
+     */
+    public Map<String, ResponseTimePercentiles> getResponseTimesPerPath() {
+        return percentilesOf(this.responseTimesPerPath);
+    }
+
+    /**
+     * Gets the response time percentiles for each fuzzer, sorted by fuzzer name.
+     *
+     * @return The response time percentiles per fuzzer.
+     */
+    public Map<String, ResponseTimePercentiles> getResponseTimesPerFuzzer() {
+        return percentilesOf(this.responseTimesPerFuzzer);
+    }
+
+    /**
+     * An effective request rate along with the time it started being used.
+     *
+     * @param timestamp         The time in milliseconds when the rate started being used.
+     * @param requestsPerMinute The number of requests per minute.
+     */
+    public record EffectiveRate(long timestamp, double requestsPerMinute) {
+    }
+
+    /**
+     * Point in time counts of executed tests.
+     *
+     * @param success The count of successful executions.
+     * @param warns   The count of warnings.
+     * @param errors  The count of errors.
+     * @param skipped The count of skipped tests.
+     */
+    public record Snapshot(long success, long warns, long errors, long skipped) {
+        /**
+         * Gets the total count of executions (successes + warnings + errors).
+         *
+         * @return The total count of executions.
+         */
+        public long total() {
+            return success + warns + errors;
+        }
+    }
+
+    private static void increase(Map<String, LongAdder> countsPerPath, LongAdder total, String path) {
+        countsPerPath.computeIfAbsent(keyOf(path), key -> new LongAdder()).increment();
+        total.increment();
+    }
+
+    private static long sumOf(Map<String, LongAdder> countsPerPath, String key) {
+        LongAdder count = countsPerPath.get(key);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static Map<String, ResponseTimePercentiles> percentilesOf(Map<String, ResponseTimeHistogram> histograms) {
+        Map<String, ResponseTimePercentiles> percentiles = new TreeMap<>();
+        histograms.forEach((key, histogram) -> percentiles.put(key, histogram.percentiles()));
+        return percentiles;
+    }
+
+    /*ConcurrentHashMap does not accept null keys*/
+    private static String keyOf(String path) {
+        return Objects.requireNonNullElse(path, "");
+    }
 }
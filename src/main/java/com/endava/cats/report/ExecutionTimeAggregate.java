@@ -0,0 +1,94 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.TimeExecution;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Running response time statistics for a single path and http method.
+ * Keeps the count, the total time, the best and worst case and only the slowest executions,
+ * instead of every single execution.
+ */
+public class ExecutionTimeAggregate {
+    private static final Comparator<CatsTestCaseExecutionSummary> BY_RESPONSE_TIME = Comparator.comparingLong(CatsTestCaseExecutionSummary::responseTimeInMs);
+    private final String key;
+    private final int maxExecutionsToKeep;
+    private final PriorityQueue<CatsTestCaseExecutionSummary> slowestExecutions = new PriorityQueue<>(BY_RESPONSE_TIME);
+    private CatsTestCaseExecutionSummary bestCase;
+    private CatsTestCaseExecutionSummary worstCase;
+    private long count;
+    private long totalTimeInMs;
+
+    /**
+     * Creates a new aggregate for the given path and http method.
+     *
+     * @param key                 the http method and path
+     * @param maxExecutionsToKeep the number of slowest executions to keep
+     */
+    public ExecutionTimeAggregate(String key, int maxExecutionsToKeep) {
+        this.key = key;
+        this.maxExecutionsToKeep = maxExecutionsToKeep;
+    }
+
+    /**
+     * Adds a new execution to the aggregate.
+     *
+     * @param execution the execution details
+     */
+    public synchronized void add(CatsTestCaseExecutionSummary execution) {
+        count++;
+        totalTimeInMs += execution.responseTimeInMs();
+        if (bestCase == null || execution.responseTimeInMs() < bestCase.responseTimeInMs()) {
+            bestCase = execution;
+        }
+        if (worstCase == null || execution.responseTimeInMs() >= worstCase.responseTimeInMs()) {
+            worstCase = execution;
+        }
+        slowestExecutions.add(execution);
+        if (slowestExecutions.size() > maxExecutionsToKeep) {
+            slowestExecutions.poll();
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getAverage() {
+        return count == 0 ? 0 : (double) totalTimeInMs / count;
+    }
+
+    public synchronized TimeExecution getBestCase() {
+        return toTimeExecution(bestCase);
+    }
+
+    public synchronized TimeExecution getWorstCase() {
+        return toTimeExecution(worstCase);
+    }
+
+    /**
+     * Returns the slowest executions kept by this aggregate, sorted by response time.
+     *
+     * @return a list of executions sorted by response time
+     */
+    public synchronized List<TimeExecution> getExecutions() {
+        return slowestExecutions.stream()
+                .sorted(BY_RESPONSE_TIME)
+                .map(ExecutionTimeAggregate::toTimeExecution)
+                .toList();
+    }
+
+    private static TimeExecution toTimeExecution(CatsTestCaseExecutionSummary execution) {
+        return TimeExecution.builder()
+                .testId(execution.testId())
+                .executionInMs(execution.responseTimeInMs())
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.ResponseTimePercentiles;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes live run metrics in OpenMetrics text format through a local HTTP listener, so that long runs can be
+ * monitored using Prometheus or similar tools. The listener is started only when {@code --metricsPort} is supplied.
+ */
+@ApplicationScoped
+public class OpenMetricsExporter {
+    static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final String METRICS_PATH = "/metrics";
+    private static final String PREFIX = "cats_";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(OpenMetricsExporter.class);
+    private final ExecutionStatisticsListener executionStatisticsListener;
+    private final ReportingArguments reportingArguments;
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    /**
+     * Creates a new OpenMetricsExporter instance.
+     *
+     * @param executionStatisticsListener the listener providing the run metrics
+     * @param reportingArguments          the reporting arguments holding the listener address
+     */
+    public OpenMetricsExporter(ExecutionStatisticsListener executionStatisticsListener, ReportingArguments reportingArguments) {
+        this.executionStatisticsListener = executionStatisticsListener;
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Starts the HTTP listener if {@code --metricsPort} is supplied. Failing to start the listener does not stop the run.
+     */
+    public synchronized void start() {
+        if (reportingArguments.getMetricsPort() <= 0 || server != null) {
+            return;
+        }
+        try {
+            serverExecutor = Executors.newSingleThreadExecutor();
+            server = HttpServer.create(new InetSocketAddress(reportingArguments.getMetricsHost(), reportingArguments.getMetricsPort()), 0);
+            server.createContext(METRICS_PATH, this::handle);
+            server.setExecutor(serverExecutor);
+            server.start();
+            logger.info("Metrics available at http://{}:{}{}", reportingArguments.getMetricsHost(), server.getAddress().getPort(), METRICS_PATH);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Unable to start the metrics listener on {}:{}: {}", reportingArguments.getMetricsHost(), reportingArguments.getMetricsPort(), e.getMessage());
+            this.stop();
+        }
+    }
+
+    /**
+     * Stops the HTTP listener, if started.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (serverExecutor != null) {
+            serverExecutor.shutdownNow();
+            serverExecutor = null;
+        }
+    }
+
+    /**
+     * Gets the port the HTTP listener is bound to.
+     *
+     * @return the port of the HTTP listener or 0 if not started
+     */
+    public synchronized int getPort() {
+        return server == null ? 0 : server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = this.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        }
+    }
+
+    /**
+     * Renders the current run metrics in OpenMetrics text format.
+     *
+     * @return the current metrics
+     */
+    public String render() {
+        StringBuilder metrics = new StringBuilder();
+        ExecutionStatisticsListener.Snapshot snapshot = executionStatisticsListener.snapshot();
+
+        family(metrics, "requests", "counter", "Requests sent to the service.");
+        sample(metrics, "requests_total", "", executionStatisticsListener.getRequestsSent());
+
+        family(metrics, "responses", "counter", "Responses received from the service per status class.");
+        executionStatisticsListener.getResponsesPerStatusClass()
+                .forEach((statusClass, count) -> sample(metrics, "responses_total", label("status_class", statusClass), count));
+
+        family(metrics, "requests_in_flight", "gauge", "Requests sent to the service and waiting for a response.");
+        sample(metrics, "requests_in_flight", "", executionStatisticsListener.getRequestsInFlight());
+
+        family(metrics, "test_cases", "counter", "Executed test cases per result.");
+        sample(metrics, "test_cases_total", label("result", "success"), snapshot.success());
+        sample(metrics, "test_cases_total", label("result", "warn"), snapshot.warns());
+        sample(metrics, "test_cases_total", label("result", "error"), snapshot.errors());
+        sample(metrics, "test_cases_total", label("result", "skipped"), snapshot.skipped());
+
+        family(metrics, "rate_limiter_wait_seconds", "counter", "Time spent waiting for the rate limiter before sending requests.");
+        sample(metrics, "rate_limiter_wait_seconds_total", "", executionStatisticsListener.getRateLimiterWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+
+        family(metrics, "response_time_milliseconds", "summary", "Response times per http method and path.");
+        for (Map.Entry<String, ResponseTimePercentiles> entry : executionStatisticsListener.getResponseTimesPerPath().entrySet()) {
+            ResponseTimePercentiles percentiles = entry.getValue();
+            long[] values = {percentiles.p50(), percentiles.p90(), percentiles.p99(), percentiles.p999()};
+            String pathLabel = label("path", entry.getKey());
+            for (int i = 0; i < QUANTILES.length; i++) {
+                sample(metrics, "response_time_milliseconds", pathLabel + "," + label("quantile", String.valueOf(QUANTILES[i])), values[i]);
+            }
+            sample(metrics, "response_time_milliseconds_count", pathLabel, percentiles.count());
+        }
+
+        return metrics.append("# EOF\n").toString();
+    }
+
+    private static void family(StringBuilder metrics, String name, String type, String help) {
+        metrics.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+        metrics.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    }
+
+    private static void sample(StringBuilder metrics, String name, String labels, Number value) {
+        metrics.append(PREFIX).append(name);
+        if (!labels.isEmpty()) {
+            metrics.append('{').append(labels).append('}');
+        }
+        metrics.append(' ').append(value).append('\n');
+    }
+
+    private static String label(String name, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+}
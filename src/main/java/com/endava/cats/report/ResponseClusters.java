@@ -0,0 +1,127 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsResponseCluster;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.util.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Groups errors and warnings into clusters as they are reported, so that the same finding, like the same 500 error page
+ * returned for many test cases, doesn't get its own test case files each time.
+ * <p>
+ * Test cases are fingerprinted by result, result reason, response code, response body structure and error tokens found
+ * in the response body, like exception names. Values are not part of the fingerprint, so responses which only differ
+ * in ids or timestamps end up in the same cluster. The first {@code --clusterRepresentatives} test cases of each
+ * cluster are written as usual, while the others are only kept in the summary, pointing to the first test case of the cluster.
+ */
+class ResponseClusters {
+    private static final Pattern ERROR_TOKEN = Pattern.compile("\\b(?:[a-zA-Z_$][\\w$]*\\.)*[A-Z][\\w$]*(?:Exception|Error)\\b");
+    private static final int MAX_ERROR_TOKENS = 5;
+    private static final Set<String> CLUSTERED_RESULTS = Set.of("error", "warn");
+
+    private final ReportingArguments reportingArguments;
+    private final Map<String, Cluster> clusters = new ConcurrentHashMap<>();
+    private final AtomicInteger clusterIds = new AtomicInteger(0);
+
+    ResponseClusters(ReportingArguments reportingArguments) {
+        this.reportingArguments = reportingArguments;
+    }
+
+    /**
+     * Adds the given test case to its cluster.
+     *
+     * @param testCase the test case
+     * @return the test case assignment or null if the test case is not clustered
+     */
+    Assignment assign(CatsTestCase testCase) {
+        int maxRepresentatives = reportingArguments.getClusterRepresentatives();
+        if (maxRepresentatives <= 0 || !CLUSTERED_RESULTS.contains(testCase.getResult())) {
+            return null;
+        }
+        CatsResponse response = testCase.getResponse();
+        String errorTokens = String.join(", ", errorTokens(response.getBody()));
+        String fingerprint = String.join("|", testCase.getResult(), String.valueOf(testCase.getResultReason()),
+                response.responseCodeAsString(), JsonUtils.getJsonStructure(response.getJsonBody()), errorTokens);
+        Cluster cluster = clusters.computeIfAbsent(fingerprint, key -> new Cluster("C" + clusterIds.incrementAndGet(),
+                testCase.getResult(), testCase.getResultReason(), response.getResponseCode(), errorTokens));
+
+        return cluster.add(testCase.getTestId().replace(" ", ""), maxRepresentatives);
+    }
+
+    private static Set<String> errorTokens(String body) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (body == null) {
+            return tokens;
+        }
+        Matcher matcher = ERROR_TOKEN.matcher(body);
+        while (tokens.size() < MAX_ERROR_TOKENS && matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the clusters created so far, the largest first.
+     *
+     * @return a list of clusters
+     */
+    List<CatsResponseCluster> getClusters() {
+        return clusters.values().stream()
+                .map(Cluster::toResponseCluster)
+                .sorted(Comparator.comparingInt(CatsResponseCluster::count).reversed().thenComparing(CatsResponseCluster::id))
+                .toList();
+    }
+
+    /**
+     * The cluster assigned to a test case.
+     *
+     * @param clusterId      the cluster id
+     * @param reportKey      the key of the test case whose test case files must be used for this test case
+     * @param representative whether test case files must be written for this test case
+     */
+    record Assignment(String clusterId, String reportKey, boolean representative) {
+    }
+
+    private static final class Cluster {
+        private final String id;
+        private final String result;
+        private final String resultReason;
+        private final int responseCode;
+        private final String errorTokens;
+        private final List<String> representatives = new ArrayList<>();
+        private int count;
+
+        private Cluster(String id, String result, String resultReason, int responseCode, String errorTokens) {
+            this.id = id;
+            this.result = result;
+            this.resultReason = resultReason;
+            this.responseCode = responseCode;
+            this.errorTokens = errorTokens;
+        }
+
+        synchronized Assignment add(String testKey, int maxRepresentatives) {
+            count++;
+            if (representatives.size() < maxRepresentatives) {
+                representatives.add(testKey);
+                return new Assignment(id, testKey, true);
+            }
+            return new Assignment(id, representatives.getFirst(), false);
+        }
+
+        synchronized CatsResponseCluster toResponseCluster() {
+            return new CatsResponseCluster(id, result, resultReason, responseCode, errorTokens, count, List.copyOf(representatives));
+        }
+    }
+}
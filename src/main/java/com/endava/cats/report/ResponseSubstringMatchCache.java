@@ -0,0 +1,97 @@
+package com.endava.cats.report;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the substring matches of response property names against a documented response.
+ * Documented responses are the examples generated for each operation and response code.
+ * A property name matches if it is a substring of the documented response text, ignoring case. This is a text search,
+ * not a schema validation, so {@code id} matches a documented response containing {@code petId}.
+ * Each documented response is lower-cased and checked for being an array only once for the entire run,
+ * and each property name is searched only once per documented response.
+ */
+final class ResponseSubstringMatchCache {
+    private static final int MAX_CACHED_RESPONSES = 2048;
+    private static final int MAX_CACHED_NAMES = 1024;
+    private static final Cache<String, ResponseSubstringMatchCache> CACHES = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_RESPONSES)
+            .build();
+    private static final ResponseSubstringMatchCache EMPTY = new ResponseSubstringMatchCache("", false);
+
+    private final String lowerCaseResponse;
+    private final boolean array;
+    private final Map<String, Boolean> matchedNames = new ConcurrentHashMap<>();
+
+    private ResponseSubstringMatchCache(String lowerCaseResponse, boolean array) {
+        this.lowerCaseResponse = lowerCaseResponse;
+        this.array = array;
+    }
+
+    /**
+     * Returns the match cache of the given documented response.
+     *
+     * @param documentedResponse the documented response
+     * @return the match cache of the documented response
+     */
+    static ResponseSubstringMatchCache forResponse(String documentedResponse) {
+        if (documentedResponse == null || documentedResponse.isEmpty()) {
+            return EMPTY;
+        }
+        ResponseSubstringMatchCache matchCache = CACHES.getIfPresent(documentedResponse);
+        if (matchCache == null) {
+            matchCache = new ResponseSubstringMatchCache(documentedResponse.toLowerCase(Locale.ROOT), isJsonArray(documentedResponse));
+            CACHES.put(documentedResponse, matchCache);
+        }
+        return matchCache;
+    }
+
+    private static boolean isJsonArray(String documentedResponse) {
+        try {
+            return JsonParser.parseString(documentedResponse).isJsonArray();
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if there is no documented response.
+     *
+     * @return true if the documented response was null or empty, false otherwise
+     */
+    boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Checks if the documented response is a JSON array.
+     *
+     * @return true if the documented response is an array, false otherwise
+     */
+    boolean isArray() {
+        return array;
+    }
+
+    /**
+     * Checks if the given property name is a substring of the documented response, ignoring case.
+     *
+     * @param name the name of the property
+     * @return true if the documented response contains the name, false otherwise
+     */
+    boolean matches(String name) {
+        Boolean matched = matchedNames.get(name);
+        if (matched == null) {
+            matched = lowerCaseResponse.contains(name.toLowerCase(Locale.ROOT));
+            if (matchedNames.size() < MAX_CACHED_NAMES) {
+                matchedNames.put(name, matched);
+            }
+        }
+        return matched;
+    }
+}
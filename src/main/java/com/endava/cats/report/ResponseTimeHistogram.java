@@ -0,0 +1,111 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.ResponseTimePercentiles;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+
+/**
+ * Compact distribution of response times in milliseconds, backed by an HdrHistogram.
+ * <p>
+ * Memory stays constant no matter how many response times are recorded, with values being kept with 3 significant digits.
+ * Histograms can be merged and encoded as a compressed Base64 string, so the latency profile of a run can be
+ * stored and compared with the one of a previous run without keeping each response time.
+ */
+public class ResponseTimeHistogram {
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram histogram;
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public ResponseTimeHistogram() {
+        this(new Histogram(SIGNIFICANT_DIGITS));
+    }
+
+    private ResponseTimeHistogram(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    /**
+     * Records a new response time. Negative values are recorded as 0.
+     *
+     * @param responseTimeInMs the response time in milliseconds
+     */
+    public synchronized void record(long responseTimeInMs) {
+        histogram.recordValue(Math.max(0, responseTimeInMs));
+    }
+
+    /**
+     * Adds all the response times recorded by the given histogram to this histogram.
+     *
+     * @param other the histogram to merge
+     */
+    public void merge(ResponseTimeHistogram other) {
+        Histogram otherCopy = other.copy();
+        synchronized (this) {
+            histogram.add(otherCopy);
+        }
+    }
+
+    /**
+     * Gets the number of recorded response times.
+     *
+     * @return the number of recorded response times
+     */
+    public synchronized long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * Gets the p50, p90, p99, p99.9 and max response times along with the encoded histogram.
+     *
+     * @return the percentiles of the recorded response times
+     */
+    public synchronized ResponseTimePercentiles percentiles() {
+        return new ResponseTimePercentiles(histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue(),
+                this.encode());
+    }
+
+    /**
+     * Encodes the histogram as a compressed Base64 string.
+     *
+     * @return the encoded histogram
+     */
+    public synchronized String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    /**
+     * Creates a histogram from a string created with {@link #encode()}.
+     *
+     * @param encoded the encoded histogram
+     * @return a new histogram having all the response times from the encoded histogram
+     * @throws IllegalArgumentException if the given string is not an encoded histogram
+     */
+    public static ResponseTimeHistogram decode(String encoded) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+            Histogram histogram = Histogram.decodeFromCompressedByteBuffer(buffer, 0);
+            histogram.setAutoResize(true);
+            return new ResponseTimeHistogram(histogram);
+        } catch (DataFormatException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid response time histogram: " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized Histogram copy() {
+        return histogram.copy();
+    }
+}
@@ -4,11 +4,11 @@ import com.endava.cats.annotations.DryRun;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsConfiguration;
 import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.jfr.TestCaseWriteEvent;
 import com.endava.cats.model.CatsTestCase;
-import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.CatsResponseCluster;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.CatsTestReport;
-import com.endava.cats.model.TimeExecution;
 import com.endava.cats.model.TimeExecutionDetails;
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.endava.cats.util.ConsoleUtils;
@@ -20,7 +20,10 @@ import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.Strictness;
+import com.google.gson.stream.JsonWriter;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Inject;
@@ -46,13 +49,15 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -68,6 +73,7 @@ public abstract class TestCaseExporter {
     static final Mustache SUMMARY_MUSTACHE = mustacheFactory.compile("summary.mustache");
     private static final String REPORT_JS = "cats-summary-report.json";
     private static final String EXECUTION_TIME_REPORT = "execution_times.json";
+    private static final String TEST_CASES_FIELD = "testCases";
     private static final String HTML = ".html";
     private static final String JSON = ".json";
     private static final Mustache TEST_CASE_MUSTACHE = mustacheFactory.compile("test-case.mustache");
@@ -157,56 +163,27 @@ public abstract class TestCaseExporter {
      * Writes performance statistics for the executed test cases, including execution time details.
      * The method checks if printing execution statistics is enabled in the reporting arguments before generating and printing the report.
      *
-     * @param executionSummaries a map containing the summaries of executed test cases
+     * @param executionTimes the aggregated execution times for each path and http method
      */
-    public void writePerformanceReport(List<CatsTestCaseExecutionSummary> executionSummaries) {
+    public void writePerformanceReport(Collection<ExecutionTimeAggregate> executionTimes) {
         if (reportingArguments.isPrintExecutionStatistics()) {
-            Map<String, List<CatsTestCaseExecutionSummary>> executionDetails = extractExecutionDetails(executionSummaries);
-
             ConsoleUtils.renderHeader(" Execution time details ");
             ConsoleUtils.emptyLine();
-            executionDetails.forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            executionTimes.stream()
+                    .filter(executionTime -> executionTime.getCount() > 1)
+                    .forEach(this::writeExecutionTimesForPathAndHttpMethod);
         } else {
             ConsoleUtils.emptyLine();
             logger.info("Skip printing time execution statistics. You can use --printExecutionStatistics to enable this feature!");
         }
     }
 
-    private Map<String, List<CatsTestCaseExecutionSummary>> extractExecutionDetails(List<CatsTestCaseExecutionSummary> summaries) {
-        return summaries
-                .stream()
-                .collect(Collectors.groupingBy(testCase -> testCase.httpMethod() + " " + testCase.path()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().size() > 1)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCaseExecutionSummary> value) {
-        double average = value.stream().mapToLong(CatsTestCaseExecutionSummary::responseTimeInMs).average().orElse(0);
-        List<CatsTestCaseExecutionSummary> sortedRuns = value.stream()
-                .sorted(Comparator.comparingLong(CatsTestCaseExecutionSummary::responseTimeInMs))
-                .toList();
-
-        CatsTestCaseExecutionSummary bestCaseTestCase = sortedRuns.getFirst();
-        CatsTestCaseExecutionSummary worstCaseTestCase = sortedRuns.getLast();
-        List<TimeExecution> executions = sortedRuns.stream()
-                .map(tetCase -> TimeExecution.builder()
-                        .testId(tetCase.testId())
-                        .executionInMs(tetCase.responseTimeInMs())
-                        .build())
-                .toList();
-
-        TimeExecutionDetails timeExecutionDetails = TimeExecutionDetails.builder().average(average)
-                .path(key).bestCase(TimeExecution.builder()
-                        .testId(bestCaseTestCase.testId())
-                        .executionInMs(bestCaseTestCase.responseTimeInMs())
-                        .build())
-                .worstCase(TimeExecution.builder()
-                        .testId(worstCaseTestCase.testId())
-                        .executionInMs(worstCaseTestCase.responseTimeInMs())
-                        .build())
-                .executions(executions).build();
+    private void writeExecutionTimesForPathAndHttpMethod(ExecutionTimeAggregate executionTime) {
+        TimeExecutionDetails timeExecutionDetails = TimeExecutionDetails.builder().average(executionTime.getAverage())
+                .path(executionTime.getKey())
+                .bestCase(executionTime.getBestCase())
+                .worstCase(executionTime.getWorstCase())
+                .executions(executionTime.getExecutions()).build();
 
 
         logger.info("Details for path {} ", ansi().fg(Ansi.Color.GREEN).a(timeExecutionDetails.getPath()).reset());
@@ -244,19 +221,31 @@ public abstract class TestCaseExporter {
 
         ConsoleUtils.emptyLine();
         logger.star(finalMessage, duration, executionStatisticsListener.getAll(), executionStatisticsListener.getSuccess(), executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors(), executionStatisticsListener.getSkipped());
+        this.printEffectiveRates(executionStatisticsListener.getEffectiveRates());
+    }
+
+    private void printEffectiveRates(List<ExecutionStatisticsListener.EffectiveRate> effectiveRates) {
+        if (effectiveRates.isEmpty()) {
+            return;
+        }
+        DoubleSummaryStatistics rates = effectiveRates.stream().mapToDouble(ExecutionStatisticsListener.EffectiveRate::requestsPerMinute).summaryStatistics();
+        logger.info("Adaptive rate limiting changed the rate {} times. Final rate {} requests/minute, lowest {}, highest {}",
+                effectiveRates.size() - 1, Math.round(effectiveRates.getLast().requestsPerMinute()), Math.round(rates.getMin()), Math.round(rates.getMax()));
     }
 
 
     /**
-     * Writes a summary report based on the provided test case map and execution statistics.
+     * Writes a summary report based on the provided test case summaries and execution statistics.
      * It creates a CatsTestReport and extracts information such as warnings, success, errors, and total tests.
-     * The gathered information is stored in a context map.
+     * The gathered information is stored in a context map. Summaries are streamed into the report files,
+     * so they are expected to be supplied in test id order.
      *
-     * @param summaries                   the pre-created summary for each test case
+     * @param summaries                   supplies the pre-created summary for each test case, in test id order; each supplied stream is read once and closed
      * @param executionStatisticsListener the listener providing statistics on CATS execution
+     * @param responseClusters            the clusters grouping errors and warnings, the largest first
      */
-    public void writeSummary(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
-        CatsTestReport report = this.createTestReport(summaries, executionStatisticsListener);
+    public void writeSummary(Supplier<Stream<CatsTestCaseSummary>> summaries, ExecutionStatisticsListener executionStatisticsListener, List<CatsResponseCluster> responseClusters) {
+        CatsTestReport report = this.createTestReport(executionStatisticsListener, responseClusters);
 
         Map<String, Object> context = new HashMap<>();
         context.put("WARNINGS", LARGE_NUMBER_FORMAT.format(report.getWarnings()));
@@ -264,11 +253,15 @@ public abstract class TestCaseExporter {
         context.put("ERRORS", LARGE_NUMBER_FORMAT.format(report.getErrors()));
         context.put("TOTAL", LARGE_NUMBER_FORMAT.format(report.getTotalTests()));
         context.put("TIMESTAMP", report.getTimestamp());
-        context.put("TEST_CASES", report.getTestCases());
         context.put("EXECUTION", Duration.ofSeconds(report.getExecutionTime()).toString().toLowerCase(Locale.ROOT).substring(2));
         context.put("VERSION", report.getCatsVersion());
         context.put("JS", this.isJavascript());
         context.put("OS", this.osDetails);
+        context.put("HAS_RESPONSE_TIMES", !report.getResponseTimesPerPath().isEmpty());
+        context.put("RESPONSE_TIMES_PER_PATH", report.getResponseTimesPerPath().entrySet());
+        context.put("RESPONSE_TIMES_PER_FUZZER", report.getResponseTimesPerFuzzer().entrySet());
+        context.put("HAS_RESPONSE_CLUSTERS", !responseClusters.isEmpty());
+        context.put("RESPONSE_CLUSTERS", responseClusters);
 
         double warnPercentage = (double) report.getWarnings() / report.getTotalTests() * 100;
         double errorPercentage = (double) report.getErrors() / report.getTotalTests() * 100;
@@ -288,12 +281,11 @@ public abstract class TestCaseExporter {
             context.put("PATHS", catsConfiguration.paths());
         }
 
-        Writer writer = this.getSummaryTemplate().execute(new StringWriter(), context);
-
-        try {
-            writer.flush();
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), this.getSummaryReportTitle()), writer.toString(), StandardCharsets.UTF_8);
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), REPORT_JS), maskingSerializer.toJson(report), StandardCharsets.UTF_8);
+        try (Writer writer = Files.newBufferedWriter(Paths.get(reportingPath.toFile().getAbsolutePath(), this.getSummaryReportTitle()), StandardCharsets.UTF_8);
+             Stream<CatsTestCaseSummary> templateSummaries = summaries.get()) {
+            context.put("TEST_CASES", (Iterable<CatsTestCaseSummary>) templateSummaries::iterator);
+            this.getSummaryTemplate().execute(writer, context);
+            this.writeJsonSummary(report, summaries);
         } catch (IOException e) {
             logger.error("There was an error writing the report summary: {}. Please check if CATS has proper right to write in the report location: {}",
                     e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -301,14 +293,34 @@ public abstract class TestCaseExporter {
         }
     }
 
-    private CatsTestReport createTestReport(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
-        List<CatsTestCaseSummary> sortedSummaries = summaries.stream().sorted().toList();
+    private void writeJsonSummary(CatsTestReport report, Supplier<Stream<CatsTestCaseSummary>> summaries) throws IOException {
+        JsonObject reportJson = maskingSerializer.toJsonTree(report).getAsJsonObject();
+        try (JsonWriter jsonWriter = maskingSerializer.newJsonWriter(Files.newBufferedWriter(Paths.get(reportingPath.toFile().getAbsolutePath(), REPORT_JS), StandardCharsets.UTF_8));
+             Stream<CatsTestCaseSummary> jsonSummaries = summaries.get()) {
+            jsonWriter.beginObject();
+            for (Map.Entry<String, JsonElement> entry : reportJson.entrySet()) {
+                jsonWriter.name(entry.getKey());
+                if (TEST_CASES_FIELD.equals(entry.getKey())) {
+                    jsonWriter.beginArray();
+                    jsonSummaries.forEach(summary -> maskingSerializer.toJson(summary, CatsTestCaseSummary.class, jsonWriter));
+                    jsonWriter.endArray();
+                } else {
+                    maskingSerializer.toJson(entry.getValue(), jsonWriter);
+                }
+            }
+            jsonWriter.endObject();
+        }
+    }
 
-        return CatsTestReport.builder().testCases(sortedSummaries).errors(executionStatisticsListener.getErrors())
+    private CatsTestReport createTestReport(ExecutionStatisticsListener executionStatisticsListener, List<CatsResponseCluster> responseClusters) {
+        return CatsTestReport.builder().testCases(List.of()).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
                 .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
-                .catsVersion(appVersion).build();
+                .catsVersion(appVersion)
+                .responseTimesPerPath(executionStatisticsListener.getResponseTimesPerPath())
+                .responseTimesPerFuzzer(executionStatisticsListener.getResponseTimesPerFuzzer())
+                .responseClusters(responseClusters).build();
     }
 
     /**
@@ -359,22 +371,38 @@ public abstract class TestCaseExporter {
      */
     @DryRun
     public void writeTestCase(CatsTestCase testCase) {
-        writeHtmlTestCase(testCase);
-        writeJsonTestCase(testCase);
+        //checks already ran on the entire body, so the JSON body is truncated only for the test case files;
+        //it is parsed lazily, so it must be parsed before serializing the test case
+        testCase.getResponse().truncateJsonBody(reportingArguments.getMaxResponseBodyBytes());
+        testCase.getResponse().getJsonBody();
+        TestCaseWriteEvent event = new TestCaseWriteEvent();
+        event.begin();
+        long bytes = writeHtmlTestCase(testCase);
+        bytes += writeJsonTestCase(testCase);
+        event.end();
+        if (event.shouldCommit()) {
+            event.testId = testCase.getTestId();
+            event.fuzzer = testCase.getFuzzer();
+            event.path = testCase.getPath();
+            event.result = testCase.getResult();
+            event.bytes = bytes;
+            event.commit();
+        }
     }
 
-    private void writeJsonTestCase(CatsTestCase testCase) {
+    private long writeJsonTestCase(CatsTestCase testCase) {
         String testFileName = testCase.getTestId().replace(" ", "").concat(JSON);
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), maskingSerializer.toJson(testCase), StandardCharsets.UTF_8);
+            return writeReportFile(testFileName, maskingSerializer.toJson(testCase));
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
             logger.debug(STACKTRACE, e);
         }
+        return 0;
     }
 
-    private void writeHtmlTestCase(CatsTestCase testCase) {
+    private long writeHtmlTestCase(CatsTestCase testCase) {
         StringWriter stringWriter = new StringWriter();
         Map<String, Object> context = new HashMap<>();
         testCase.setJs(this.isJavascript());
@@ -386,7 +414,7 @@ public abstract class TestCaseExporter {
         Writer writer = TEST_CASE_MUSTACHE.execute(stringWriter, context);
         String testFileName = testCase.getTestId().replace(" ", "").concat(HTML);
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), writer.toString(), StandardCharsets.UTF_8);
+            return writeReportFile(testFileName, writer.toString());
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -395,6 +423,13 @@ public abstract class TestCaseExporter {
             logger.debug(e.getMessage());
             logger.debug(STACKTRACE, e);
         }
+        return 0;
+    }
+
+    private long writeReportFile(String testFileName, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        Files.write(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), bytes);
+        return bytes.length;
     }
 
     /**
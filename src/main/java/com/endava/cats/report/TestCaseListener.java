@@ -9,6 +9,7 @@ import com.endava.cats.http.HttpMethod;
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.http.ResponseCodeFamilyDynamic;
 import com.endava.cats.http.ResponseCodeFamilyPredefined;
+import com.endava.cats.jfr.TestCaseEvent;
 import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsResultFactory;
@@ -21,7 +22,6 @@ import com.google.common.collect.Iterators;
 import com.google.common.net.MediaType;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -29,18 +29,19 @@ import jakarta.enterprise.inject.Instance;
 import lombok.Builder;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.fusesource.jansi.Ansi;
+import org.jboss.logmanager.ExtLogRecord;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -48,7 +49,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -73,17 +78,24 @@ public class TestCaseListener {
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501", "413", "431");
     private static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
     private static final List<String> CONTENT_TYPE_DONT_MATCH_SCHEMA = List.of("application/csv", "application/pdf");
-    final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    final Map<String, CatsTestCase> testCaseMap = new ConcurrentHashMap<>();
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
     private final TestCaseExporter testCaseExporter;
+    private final AsyncTestCaseWriter testCaseWriter;
+    private final ResponseClusters responseClusters;
     private final CatsGlobalContext globalContext;
     private final IgnoreArguments ignoreArguments;
     private final ReportingArguments reportingArguments;
-    final List<CatsTestCaseSummary> testCaseSummaryDetails = new ArrayList<>();
-    final List<CatsTestCaseExecutionSummary> testCaseExecutionDetails = new ArrayList<>();
-    private final Set<ProcessingError> recordedErrors = new HashSet<>();
+    private static final int MAX_EXECUTIONS_PER_PATH = 10;
+    final TestCaseSummaryStore testCaseSummaryDetails = new TestCaseSummaryStore();
+    final Map<String, ExecutionTimeAggregate> testCaseExecutionDetails = new ConcurrentHashMap<>();
+    private final Set<ProcessingError> recordedErrors = ConcurrentHashMap.newKeySet();
+    private static final DeferredConsoleHandler DEFERRED_CONSOLE = new DeferredConsoleHandler();
+    private static final ThreadLocal<List<CatsTestCase>> DEFERRED_TEST_CASES = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, List<Consumer<String>>>> DEFERRED_EVENTS = new ThreadLocal<>();
+    private final AtomicInteger deferredKeys = new AtomicInteger(0);
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -110,6 +122,8 @@ public class TestCaseListener {
                 .filter(exporter -> exporter.reportFormat() == reportingArguments.getReportFormat())
                 .findFirst()
                 .orElseThrow();
+        this.testCaseWriter = new AsyncTestCaseWriter(this::writeIndividualTestCase, reportingArguments);
+        this.responseClusters = new ResponseClusters(reportingArguments);
         this.ignoreArguments = filterArguments;
         this.globalContext = catsGlobalContext;
         this.reportingArguments = reportingArguments;
@@ -133,11 +147,7 @@ public class TestCaseListener {
      * @param fuzzer the class representing the fuzzer
      */
     public void beforeFuzz(Class<?> fuzzer, String path, String httpMethod) {
-        String clazz = ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()).replaceAll("[a-z]", "");
-        MDC.put(FUZZER, ConsoleUtils.centerWithAnsiColor(clazz, getKeyDefault().length(), Ansi.Color.MAGENTA));
-        MDC.put(FUZZER_KEY, ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()));
-        MDC.put(CONTRACT_PATH, path);
-        MDC.put(HTTP_METHOD, httpMethod);
+        this.setFuzzerContext(fuzzer, path, httpMethod);
         this.notifySummaryObservers(path);
 
     }
@@ -149,13 +159,105 @@ public class TestCaseListener {
      */
     public void afterFuzz(String path) {
         this.notifySummaryObservers(path);
+        this.clearFuzzerContext();
+    }
 
+    private void setFuzzerContext(Class<?> fuzzer, String path, String httpMethod) {
+        String clazz = ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()).replaceAll("[a-z]", "");
+        MDC.put(FUZZER, ConsoleUtils.centerWithAnsiColor(clazz, getKeyDefault().length(), Ansi.Color.MAGENTA));
+        MDC.put(FUZZER_KEY, ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()));
+        MDC.put(CONTRACT_PATH, path);
+        MDC.put(HTTP_METHOD, httpMethod);
+    }
+
+    private void clearFuzzerContext() {
         MDC.put(FUZZER, this.getKeyDefault());
         MDC.put(FUZZER_KEY, this.getKeyDefault());
         MDC.remove(CONTRACT_PATH);
         MDC.remove(HTTP_METHOD);
     }
 
+    /**
+     * Starts a fuzzing unit executed by a worker thread when running with {@code --concurrency}.
+     * Test cases created on the current thread and console output logged by it are buffered instead of being written, so that
+     * they can later be numbered and written in the same order as a sequential run using {@link #commitDeferredFuzz(DeferredTestCases)}.
+     *
+     * @param fuzzer     the class representing the fuzzer
+     * @param path       the contract path being fuzzed
+     * @param httpMethod the http method being fuzzed
+     */
+    public void beforeDeferredFuzz(Class<?> fuzzer, String path, String httpMethod) {
+        this.setFuzzerContext(fuzzer, path, httpMethod);
+        MDC.put(ID_ANSI, this.getKeyDefault());
+        DEFERRED_TEST_CASES.set(new ArrayList<>());
+        DEFERRED_EVENTS.set(new HashMap<>());
+        DEFERRED_CONSOLE.startBuffering();
+    }
+
+    /**
+     * Ends the fuzzing unit started with {@link #beforeDeferredFuzz(Class, String, String)} on the current thread.
+     *
+     * @return the test cases executed by the fuzzing unit and the console output logged by it, in execution order
+     */
+    public DeferredTestCases afterDeferredFuzz() {
+        List<CatsTestCase> executedTestCases = Optional.ofNullable(DEFERRED_TEST_CASES.get()).orElseGet(Collections::emptyList);
+        Map<String, List<Consumer<String>>> events = Optional.ofNullable(DEFERRED_EVENTS.get()).orElseGet(Collections::emptyMap);
+        DEFERRED_TEST_CASES.remove();
+        DEFERRED_EVENTS.remove();
+        this.clearFuzzerContext();
+        MDC.remove(ID_ANSI);
+
+        return new DeferredTestCases(executedTestCases, events, DEFERRED_CONSOLE.stopBuffering());
+    }
+
+    /**
+     * Assigns the final test ids to the test cases executed by a fuzzing unit, prints their console output and writes them.
+     * This is the single place where final test ids are assigned. Temporary worker test ids are replaced with the final ones
+     * in the console output, and the JFR events of the test cases are committed only now, so that they also have the final test ids.
+     * This must be called from a single thread, in the order in which the fuzzing units were submitted.
+     *
+     * @param deferredTestCases the test cases returned by {@link #afterDeferredFuzz()}
+     */
+    public void commitDeferredFuzz(DeferredTestCases deferredTestCases) {
+        List<CatsTestCase> testCases = deferredTestCases.testCases();
+        List<String> workerIds = testCases.stream().map(testCase -> testCase.getTestId().replace("Test ", "")).toList();
+        Map<String, String> finalIds = new HashMap<>();
+        for (int i = 0; i < testCases.size(); i++) {
+            String finalId = String.valueOf(TEST.incrementAndGet());
+            finalIds.put(workerIds.get(i), finalId);
+            testCases.get(i).setTestId("Test " + finalId);
+        }
+        DEFERRED_CONSOLE.publishBuffered(deferredTestCases.consoleOutput(), logRecord -> replaceWorkerTestId(logRecord, finalIds));
+        for (int i = 0; i < testCases.size(); i++) {
+            CatsTestCase testCase = testCases.get(i);
+            this.writeAndKeepDetails(testCase);
+            deferredTestCases.events().getOrDefault(workerIds.get(i), List.of()).forEach(eventCommit -> eventCommit.accept(testCase.getTestId()));
+        }
+    }
+
+    private static void replaceWorkerTestId(ExtLogRecord logRecord, Map<String, String> finalIds) {
+        String workerId = logRecord.getMdc(ID);
+        String finalId = workerId == null ? null : finalIds.get(workerId);
+        if (finalId == null) {
+            return;
+        }
+        logRecord.putMdc(ID, finalId);
+        logRecord.putMdc(ID_ANSI, ConsoleUtils.centerWithAnsiColor(finalId, 7, Ansi.Color.MAGENTA));
+        if (logRecord.getMessage() != null) {
+            logRecord.setMessage(logRecord.getMessage().replaceAll("Test " + Pattern.quote(workerId) + "\\b", "Test " + finalId));
+        }
+    }
+
+    /**
+     * Test cases and console output buffered by a fuzzing unit executed with {@code --concurrency}.
+     *
+     * @param testCases     the executed test cases, in execution order
+     * @param events        the postponed JFR event commits, by worker test id, in the order in which the events ended
+     * @param consoleOutput the console output logged by the fuzzing unit, in logging order
+     */
+    public record DeferredTestCases(List<CatsTestCase> testCases, Map<String, List<Consumer<String>>> events, List<ExtLogRecord> consoleOutput) {
+    }
+
     /**
      * Creates and executes a test by running the provided runnable.
      * Logs test start, catches exceptions during execution, logs results, and performs necessary cleanup.
@@ -165,6 +267,8 @@ public class TestCaseListener {
      * @param s              the runnable representing the test logic
      */
     public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s, FuzzingData data) {
+        TestCaseEvent event = new TestCaseEvent();
+        event.begin();
         this.startTestCase(data);
         try {
             s.run();
@@ -175,7 +279,43 @@ public class TestCaseListener {
             externalLogger.debug("Detailed stacktrace", e);
             this.checkForIOErrors(e);
         }
-        this.endTestCase();
+        String testId = MDC.get(ID);
+        CatsTestCase testCase = this.endTestCase();
+        event.end();
+        this.commitWithTestId(testId, finalTestId -> commitTestCaseEvent(event, testCase, finalTestId));
+    }
+
+    /**
+     * Commits a JFR event using the id of the test case executed by the current thread, or a null id when no test case is running.
+     * When running with {@code --concurrency}, the commit is postponed until {@link #commitDeferredFuzz(DeferredTestCases)}
+     * assigns the final test id, so that the events have the same test id as the report.
+     *
+     * @param eventCommit commits the event using the given test id
+     */
+    public void commitWithTestId(Consumer<String> eventCommit) {
+        this.commitWithTestId(MDC.get(ID), eventCommit);
+    }
+
+    private void commitWithTestId(String testId, Consumer<String> eventCommit) {
+        if (testId != null && this.isDeferred()) {
+            DEFERRED_EVENTS.get().computeIfAbsent(testId, key -> new ArrayList<>()).add(eventCommit);
+        } else {
+            eventCommit.accept(testId == null ? null : "Test " + testId);
+        }
+    }
+
+    private static void commitTestCaseEvent(TestCaseEvent event, CatsTestCase testCase, String testId) {
+        if (event.shouldCommit()) {
+            event.testId = testId;
+            event.fuzzer = testCase.getFuzzer();
+            event.path = testCase.getPath();
+            event.httpMethod = testCase.getRequest().getHttpMethod();
+            event.result = testCase.getResult();
+            event.responseCode = testCase.getResponse().getResponseCode();
+            event.requestBytes = Optional.ofNullable(testCase.getRequest().getPayload()).map(payload -> payload.getBytes(StandardCharsets.UTF_8).length).orElse(0);
+            event.responseBytes = testCase.getResponse().getContentLengthInBytes();
+            event.commit();
+        }
     }
 
     /**
@@ -196,8 +336,18 @@ public class TestCaseListener {
         return TEST.get();
     }
 
+    /**
+     * Returns the id of the test case being executed by the current thread. When running with {@code --concurrency}
+     * this is the temporary worker test id, like {@code w3}, as the final test id is only assigned when the test case is committed.
+     *
+     * @return the id of the test case being executed by the current thread
+     */
+    public String getCurrentTestId() {
+        return Optional.ofNullable(MDC.get(ID)).orElseGet(() -> String.valueOf(TEST.get()));
+    }
+
     private void startTestCase(FuzzingData data) {
-        String testId = String.valueOf(TEST.incrementAndGet());
+        String testId = this.isDeferred() ? "w" + deferredKeys.incrementAndGet() : String.valueOf(TEST.incrementAndGet());
         MDC.put(ID, testId);
         MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 7, Ansi.Color.MAGENTA));
 
@@ -293,28 +443,55 @@ public class TestCaseListener {
         currentTestCase().setFullRequestPath(fullRequestPath);
     }
 
-    private void endTestCase() {
+    private boolean isDeferred() {
+        return DEFERRED_TEST_CASES.get() != null;
+    }
+
+    private CatsTestCase endTestCase() {
         CatsTestCase currentTestCase = currentTestCase();
         currentTestCase.setFuzzer(MDC.get(FUZZER_KEY));
-        if (currentTestCase.isNotSkipped()) {
-            testCaseExporter.writeTestCase(currentTestCase);
-            keepSummary(currentTestCase);
+        if (this.isDeferred()) {
+            DEFERRED_TEST_CASES.get().add(currentTestCase);
+        } else {
+            this.writeAndKeepDetails(currentTestCase);
         }
-        keepExecutionDetails(currentTestCase);
         testCaseMap.remove(MDC.get(ID));
         MDC.remove(ID);
         MDC.put(ID_ANSI, this.getKeyDefault());
         logger.info(SEPARATOR);
+        return currentTestCase;
+    }
+
+    private void writeAndKeepDetails(CatsTestCase testCase) {
+        if (testCase.isNotSkipped()) {
+            ResponseClusters.Assignment assignment = responseClusters.assign(testCase);
+            if (assignment == null || assignment.representative()) {
+                testCaseWriter.write(testCase);
+            }
+            keepSummary(testCase, assignment);
+        }
+        keepExecutionDetails(testCase);
     }
 
-    private void keepSummary(CatsTestCase testCase) {
-        testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase));
+    private void keepSummary(CatsTestCase testCase, ResponseClusters.Assignment assignment) {
+        if (assignment == null) {
+            testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase));
+        } else {
+            testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase, assignment.clusterId(), assignment.reportKey()));
+        }
     }
 
     private void keepExecutionDetails(CatsTestCase testCase) {
+        if (testCase.notIgnoredForExecutionStatistics()) {
+            executionStatisticsListener.recordResponseTime(testCase.getHttpMethod(), testCase.getPath(),
+                    testCase.getFuzzer(), testCase.getResponse().getResponseTimeInMs());
+        }
         if (testCase.notIgnoredForExecutionStatistics() && reportingArguments.isPrintExecutionStatistics()) {
-            testCaseExecutionDetails.add(new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
-                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
+            String key = testCase.getHttpMethod() + " " + testCase.getPath();
+            int executionsToKeep = reportingArguments.isPrintDetailedExecutionStatistics() ? Integer.MAX_VALUE : MAX_EXECUTIONS_PER_PATH;
+            testCaseExecutionDetails.computeIfAbsent(key, k -> new ExecutionTimeAggregate(k, executionsToKeep))
+                    .add(new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
+                            testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
         }
     }
 
@@ -324,7 +501,7 @@ public class TestCaseListener {
      *
      * @param path the path for which the progress is being reported
      */
-    public void notifySummaryObservers(String path) {
+    public synchronized void notifySummaryObservers(String path) {
         if (!reportingArguments.isSummaryInConsole()) {
             return;
         }
@@ -419,9 +596,10 @@ public class TestCaseListener {
     public void endSession() {
         markPreviousPathAsDone();
         reportingArguments.enableAdditionalLoggingIfSummary();
-        testCaseExporter.writeSummary(testCaseSummaryDetails, executionStatisticsListener);
+        testCaseWriter.awaitWritten();
+        testCaseExporter.writeSummary(testCaseSummaryDetails::stream, executionStatisticsListener, responseClusters.getClusters());
         testCaseExporter.writeHelperFiles();
-        testCaseExporter.writePerformanceReport(testCaseExecutionDetails);
+        testCaseExporter.writePerformanceReport(testCaseExecutionDetails.values());
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
         writeRecordedErrorsIfPresent();
     }
@@ -746,9 +924,7 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().computeIfAbsent(data.getPath(), key -> new ConcurrentLinkedDeque<>()).add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
             globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
@@ -884,8 +1060,13 @@ public class TestCaseListener {
     }
 
     private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, List<String> responses) {
-        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, response.getJsonBody()))
-                && (isFuzzedFieldPresentInResponse(response) || !isErrorResponse(response));
+        long startTime = System.nanoTime();
+        boolean matchesDocumentedResponses = responses != null && responses.stream()
+                .map(ResponseSubstringMatchCache::forResponse)
+                .anyMatch(documentedResponse -> matchesElement(documentedResponse, response.getJsonBody()));
+        logger.debug("Documented responses matching took {} microseconds", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+
+        return matchesDocumentedResponses && (isFuzzedFieldPresentInResponse(response) || !isErrorResponse(response));
     }
 
     private boolean isErrorResponse(CatsResponse response) {
@@ -918,52 +1099,50 @@ public class TestCaseListener {
         return isEmptyString || isEmptyArray || isEmptyJson;
     }
 
-    private boolean matchesElement(String responseSchema, JsonElement element) {
+    private boolean matchesElement(ResponseSubstringMatchCache documentedResponse, JsonElement element) {
         if (element.isJsonArray()) {
-            return matchesArrayElement(responseSchema, element);
+            return matchesArrayElement(documentedResponse, element);
         }
 
-        return matchesSingleElement(responseSchema, element, "ROOT");
+        return matchesSingleElement(documentedResponse, element, "ROOT");
     }
 
-    private boolean matchesArrayElement(String responseSchema, JsonElement element) {
+    private boolean matchesArrayElement(ResponseSubstringMatchCache documentedResponse, JsonElement element) {
         JsonArray jsonArray = ((JsonArray) element);
 
-        if (jsonArray.isEmpty() && JsonParser.parseString(responseSchema).isJsonArray()) {
+        if (jsonArray.isEmpty() && documentedResponse.isArray()) {
             return true;
         } else if (jsonArray.isEmpty()) {
             return false;
         }
 
         JsonElement firstElement = jsonArray.get(0);
-        return matchesSingleElement(responseSchema, firstElement, "ROOT");
+        return matchesSingleElement(documentedResponse, firstElement, "ROOT");
     }
 
-    private boolean matchesSingleElement(String responseSchema, JsonElement element, String name) {
+    private boolean matchesSingleElement(ResponseSubstringMatchCache documentedResponse, JsonElement element, String name) {
         if (element.isJsonObject() && globalContext.getAdditionalProperties().contains(name)) {
             return true;
         }
-        if (doesNotHaveAResponseSchema(responseSchema)) {
+        if (documentedResponse.isEmpty()) {
             return true;
         }
         if (!element.isJsonObject()) {
-            return responseSchema.toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT));
+            return documentedResponse.matches(name);
         }
 
-        boolean matches = true;
         for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
-            matches = matches && matchesSingleElement(responseSchema, inner.getValue(), inner.getKey());
+            if (!matchesSingleElement(documentedResponse, inner.getValue(), inner.getKey())) {
+                return false;
+            }
         }
 
-        return matches;
-    }
-
-    private static boolean doesNotHaveAResponseSchema(String responseSchema) {
-        return responseSchema == null || responseSchema.isEmpty();
+        return true;
     }
 
     private CatsTestCase currentTestCase() {
-        return testCaseMap.get(MDC.get(ID));
+        String testId = MDC.get(ID);
+        return testId == null ? null : testCaseMap.get(testId);
     }
 
     public void recordError(String error) {
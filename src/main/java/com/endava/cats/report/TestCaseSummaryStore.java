@@ -0,0 +1,73 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.google.gson.Gson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Keeps test case summaries in an append-only temporary file instead of the heap.
+ * Each summary is stored as a single JSON line. Streaming the store reads the summaries back
+ * in the order they were added, one at a time, so memory stays flat regardless of the number of tests.
+ * The temporary file is deleted when the JVM exits.
+ */
+class TestCaseSummaryStore {
+    private static final Gson GSON = new Gson();
+    private Path spillFile;
+    private BufferedWriter writer;
+    private int size;
+
+    /**
+     * Appends the given summary at the end of the store.
+     *
+     * @param summary the test case summary
+     */
+    synchronized void add(CatsTestCaseSummary summary) {
+        try {
+            if (writer == null) {
+                spillFile = Files.createTempFile("cats-summary-", ".jsonl");
+                spillFile.toFile().deleteOnExit();
+                writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            }
+            writer.write(GSON.toJson(summary));
+            writer.newLine();
+            size++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Reads the summaries back in the order they were added, one at a time.
+     * The returned stream keeps the temporary file open, so it must be closed, for example using try-with-resources.
+     *
+     * @return a stream of the summaries added so far
+     */
+    synchronized Stream<CatsTestCaseSummary> stream() {
+        if (writer == null) {
+            return Stream.empty();
+        }
+        try {
+            writer.flush();
+            return Files.lines(spillFile, StandardCharsets.UTF_8)
+                    .limit(size)
+                    .map(line -> GSON.fromJson(line, CatsTestCaseSummary.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.strategy;
 
 import com.endava.cats.generator.simple.StringGenerator;
+import com.endava.cats.model.FuzzingData;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
@@ -331,25 +332,44 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      */
     public static FuzzingResult replaceField(String payload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
         if (StringUtils.isNotBlank(payload)) {
-            String jsonPropToGetValue = jsonPropertyForReplacement;
-            if (JsonUtils.isJsonArray(payload)) {
-                jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
-                jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
-            }
-            DocumentContext jsonDocument = JsonPath.parse(payload);
-            Object oldValue = jsonDocument.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
-            if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
-                oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
-                jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
-            }
-            Object valueToSet = fuzzingStrategyToApply.process(oldValue);
-            if (mergeFuzzing) {
-                valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
-            }
-            CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
+            return replaceField(JsonPath.parse(payload), jsonPropertyForReplacement, fuzzingStrategyToApply, mergeFuzzing);
+        }
+        return FuzzingResult.empty();
+    }
 
-            return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+    /**
+     * Replaces a specific field in the payload of the given FuzzingData using the provided fuzzing strategy.
+     * The replacement is done on a copy of the payload document parsed once for the FuzzingData, instead of parsing the payload again.
+     *
+     * @param data                       the FuzzingData with the original payload containing the field to be replaced
+     * @param jsonPropertyForReplacement the JSON property representing the field to be replaced
+     * @param fuzzingStrategyToApply     the fuzzing strategy to apply for replacement
+     * @return a FuzzingResult containing the modified payload and information about the replacement
+     */
+    public static FuzzingResult replaceField(FuzzingData data, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply) {
+        if (StringUtils.isNotBlank(data.getPayload())) {
+            return replaceField(data.getMutablePayloadDocument(), jsonPropertyForReplacement, fuzzingStrategyToApply, false);
         }
         return FuzzingResult.empty();
     }
+
+    private static FuzzingResult replaceField(DocumentContext jsonDocument, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
+        String jsonPropToGetValue = jsonPropertyForReplacement;
+        if (jsonDocument.json() instanceof JSONArray) {
+            jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
+            jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
+        }
+        Object oldValue = jsonDocument.read(JsonUtils.compileJsonPath(jsonPropToGetValue));
+        if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
+            oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
+            jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
+        }
+        Object valueToSet = fuzzingStrategyToApply.process(oldValue);
+        if (mergeFuzzing) {
+            valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
+        }
+        CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
+
+        return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+    }
 }
@@ -3,9 +3,11 @@ package com.endava.cats.util;
 import com.endava.cats.dsl.CatsDSLParser;
 import com.endava.cats.dsl.api.Parser;
 import com.endava.cats.exception.CatsException;
+import com.endava.cats.model.FuzzingData;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.github.javafaker.Faker;
+import com.google.gson.JsonArray;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -113,10 +115,26 @@ public abstract class CatsUtil {
      * @return a result with the payload replaced
      */
     public static FuzzingResult justReplaceField(String payload, String jsonPropertyForReplacement, Object with) {
-        if (JsonUtils.isJsonArray(payload)) {
+        return justReplaceField(JsonPath.parse(payload, GSON_CONFIGURATION), jsonPropertyForReplacement, with);
+    }
+
+    /**
+     * Same as {@link #justReplaceField(String, String, Object)}, but replacing the field in the payload of the given FuzzingData.
+     * The replacement is done on a copy of the payload document parsed once for the FuzzingData, instead of parsing the payload again.
+     *
+     * @param data                       the FuzzingData holding the JSON payload
+     * @param jsonPropertyForReplacement the JSON property path to replace
+     * @param with                       the value to replace with
+     * @return a result with the payload replaced
+     */
+    public static FuzzingResult justReplaceField(FuzzingData data, String jsonPropertyForReplacement, Object with) {
+        return justReplaceField(data.getMutableGsonPayloadDocument(), jsonPropertyForReplacement, with);
+    }
+
+    private static FuzzingResult justReplaceField(DocumentContext jsonDocument, String jsonPropertyForReplacement, Object with) {
+        if (jsonDocument.json() instanceof JsonArray) {
             jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
         }
-        DocumentContext jsonDocument = JsonPath.parse(payload, GSON_CONFIGURATION);
         replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, with);
 
         return new FuzzingResult(jsonDocument.jsonString(), with);
@@ -128,12 +146,12 @@ public abstract class CatsUtil {
                 jsonPropertyForReplacement = removeArrayTermination(jsonPropertyForReplacement);
             }
             try {
-                jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), JsonUtils.JSON_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
+                jsonDocument.set(JsonUtils.compileJsonPath(jsonPropertyForReplacement), JsonUtils.parsePermissive(String.valueOf(valueToSet)));
             } catch (ParseException e) {
                 throw new CatsException(e);
             }
         } else {
-            jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), valueToSet);
+            jsonDocument.set(JsonUtils.compileJsonPath(jsonPropertyForReplacement), valueToSet);
         }
     }
 
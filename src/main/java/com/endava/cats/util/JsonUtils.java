@@ -3,6 +3,9 @@ package com.endava.cats.util;
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
@@ -27,6 +30,7 @@ import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
 import net.minidev.json.JSONValue;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
@@ -36,9 +40,11 @@ import java.io.StringReader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -64,12 +70,14 @@ public abstract class JsonUtils {
     public static final String ALL_ELEMENTS_ROOT_ARRAY = "$[*]#";
 
     /**
-     * A permissive JSON parser.
+     * A permissive JSON parser. JSONParser keeps parsing state, so it must not be shared between threads.
+     * Use {@link #parsePermissive(String)} when parsing from several threads.
      */
     public static final JSONParser JSON_PERMISSIVE_PARSER = new JSONParser(JSONParser.MODE_PERMISSIVE);
 
     /**
-     * A more strict JSON parser adhering to the RFC4627.
+     * A more strict JSON parser adhering to the RFC4627. JSONParser keeps parsing state, so it must not be shared between threads.
+     * Use {@link #isValidJson(String)} when parsing from several threads.
      */
     public static final JSONParser JSON_STRICT_PARSER = new JSONParser(JSONParser.MODE_RFC4627);
 
@@ -100,6 +108,12 @@ public abstract class JsonUtils {
 
     private static final ParseContext PARSE_CONTEXT = new ParseContextImpl(JACKSON_JSON_NODE_CONFIGURATION);
 
+    /*
+     * Field names repeat across all the tests of a run, so escaping and compiling JsonPath expressions is done once per field.
+     */
+    private static final Cache<String, String> SANITIZED_PATHS = CacheBuilder.newBuilder().maximumSize(10000).recordStats().build();
+    private static final Cache<String, JsonPath> COMPILED_PATHS = CacheBuilder.newBuilder().maximumSize(10000).recordStats().build();
+
     private JsonUtils() {
         //ntd
     }
@@ -135,7 +149,43 @@ public abstract class JsonUtils {
      * @return a path replacing "#"  with "."
      */
     public static String sanitizeToJsonPath(String input) {
-        return escapeFullPath(escapeSpaces(input.replace("#", ".")));
+        String sanitizedPath = SANITIZED_PATHS.getIfPresent(input);
+        if (sanitizedPath == null) {
+            sanitizedPath = escapeFullPath(escapeSpaces(input.replace("#", ".")));
+            SANITIZED_PATHS.put(input, sanitizedPath);
+        }
+        return sanitizedPath;
+    }
+
+    /**
+     * Returns the compiled JsonPath for the given field. The field is sanitized using {@link #sanitizeToJsonPath(String)}.
+     * Compiled paths are cached, so the same field is only escaped and compiled once.
+     *
+     * @param field the field path, using "#" as separator for nested fields
+     * @return a compiled JsonPath for the given field
+     * @throws InvalidPathException if the resulting path is not a valid JsonPath
+     */
+    public static JsonPath compileJsonPath(String field) {
+        String sanitizedPath = sanitizeToJsonPath(field);
+        JsonPath compiledPath = COMPILED_PATHS.getIfPresent(sanitizedPath);
+        if (compiledPath == null) {
+            compiledPath = JsonPath.compile(sanitizedPath);
+            COMPILED_PATHS.put(sanitizedPath, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    /**
+     * Returns the hit and miss statistics of the cache used for compiled JsonPath expressions.
+     *
+     * @return a summary of the JsonPath cache statistics
+     */
+    public static String getJsonPathCacheStats() {
+        CacheStats compiled = COMPILED_PATHS.stats();
+        CacheStats sanitized = SANITIZED_PATHS.stats();
+        return "compiled paths: size %d, hits %d, misses %d; sanitized paths: size %d, hits %d, misses %d".formatted(
+                COMPILED_PATHS.size(), compiled.hitCount(), compiled.missCount(),
+                SANITIZED_PATHS.size(), sanitized.hitCount(), sanitized.missCount());
     }
 
     /**
@@ -181,6 +231,17 @@ public abstract class JsonUtils {
         return JsonUtils.parseAsJsonElement(GSON.toJson(keyValueMap));
     }
 
+    /**
+     * Parses the given text using a new permissive JSON parser, so it can be called from several threads.
+     *
+     * @param text the given text
+     * @return the parsed JSON element
+     * @throws ParseException if the text cannot be parsed
+     */
+    public static Object parsePermissive(String text) throws ParseException {
+        return new JSONParser(JSONParser.MODE_PERMISSIVE).parse(text);
+    }
+
     /**
      * Checks if the given string is a valid JSON. Empty strings are not considered valid JSONs.
      *
@@ -189,7 +250,7 @@ public abstract class JsonUtils {
      */
     public static boolean isValidJson(String text) {
         try {
-            JSON_STRICT_PARSER.parse(text);
+            new JSONParser(JSONParser.MODE_RFC4627).parse(text);
         } catch (Exception e) {
             return false;
         }
@@ -272,6 +333,26 @@ public abstract class JsonUtils {
         return JsonPath.parse(payload).read("$") instanceof JSONArray;
     }
 
+    /**
+     * Creates a deep copy of a JSON document parsed with the default JsonPath configuration.
+     *
+     * @param document the parsed JSON document, as returned by {@code DocumentContext#json()}
+     * @return a copy of the document which can be modified without affecting the original; objects and arrays print as JSON, like {@link JSONArray}
+     */
+    public static Object deepCopy(Object document) {
+        if (document instanceof Map<?, ?> map) {
+            JsonObjectCopy copy = new JsonObjectCopy(map.size());
+            map.forEach((key, value) -> copy.put(String.valueOf(key), deepCopy(value)));
+            return copy;
+        }
+        if (document instanceof List<?> list) {
+            JSONArray copy = new JSONArray(list.size());
+            list.forEach(element -> copy.add(deepCopy(element)));
+            return copy;
+        }
+        return document;
+    }
+
     /**
      * Deletes the specified JSON node from the given JSON payload.
      *
@@ -282,7 +363,7 @@ public abstract class JsonUtils {
     public static String deleteNode(String payload, String node) {
         if (StringUtils.isNotBlank(payload)) {
             try {
-                return JsonPath.parse(payload).delete(sanitizeToJsonPath(node)).jsonString();
+                return JsonPath.parse(payload).delete(compileJsonPath(node)).jsonString();
             } catch (PathNotFoundException e) {
                 return payload;
             }
@@ -310,7 +391,7 @@ public abstract class JsonUtils {
             if (!payload.contains("_OF")) {
                 return payload;
             }
-            String interimPayload = JsonPath.parse(payload).set(escapeFullPath(nodeKey), JSON_PERMISSIVE_PARSER.parse(nodeValue)).jsonString();
+            String interimPayload = JsonPath.parse(payload).set(escapeFullPath(nodeKey), parsePermissive(nodeValue)).jsonString();
             DocumentContext finalPayload = removeElements(toEliminate, interimPayload, nodeKey.substring(0, nodeKey.lastIndexOf(".")));
             return finalPayload.jsonString();
         } catch (PathNotFoundException e) {
@@ -429,7 +510,7 @@ public abstract class JsonUtils {
     public static Object getVariableFromJson(String jsonPayload, String value) {
         try {
             DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
-            return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            return jsonDoc.read(compileJsonPath(value));
         } catch (JsonPathException | IllegalArgumentException e) {
             LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
             return NOT_SET;
@@ -529,6 +610,53 @@ public abstract class JsonUtils {
         return "{\"notAJson\": \"" + JSONValue.escape(rawResponse.substring(0, Math.min(500, rawResponse.length()))) + "\"}";
     }
 
+    /**
+     * Describes the structure of the given JSON: object keys and value types, without the actual values.
+     * Object keys are sorted and arrays are described by the structure of their first element.
+     * Objects used as maps with dynamic keys, i.e. all keys contain a digit, like ids or dates, and all values have the same
+     * structure, are described as a single {@code *} key, so that responses which only differ in such keys have the same structure.
+     *
+     * @param element the JSON element
+     * @return a string describing the JSON structure
+     */
+    public static String getJsonStructure(JsonElement element) {
+        StringBuilder structure = new StringBuilder();
+        appendJsonStructure(element, structure);
+        return structure.toString();
+    }
+
+    private static boolean isMapWithDynamicKeys(Map<String, String> properties) {
+        return !properties.isEmpty()
+                && properties.keySet().stream().allMatch(key -> key.chars().anyMatch(Character::isDigit))
+                && properties.values().stream().distinct().count() == 1;
+    }
+
+    private static void appendJsonStructure(JsonElement element, StringBuilder structure) {
+        if (element == null || element.isJsonNull()) {
+            structure.append("null");
+        } else if (element.isJsonObject()) {
+            Map<String, String> properties = new TreeMap<>();
+            element.getAsJsonObject().entrySet().forEach(property -> properties.put(property.getKey(), getJsonStructure(property.getValue())));
+            Map<String, String> described = isMapWithDynamicKeys(properties) ? Map.of("*", properties.values().iterator().next()) : properties;
+            structure.append('{');
+            described.forEach((key, value) -> structure.append(key).append(':').append(value).append(','));
+            structure.append('}');
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            structure.append('[');
+            if (!array.isEmpty()) {
+                appendJsonStructure(array.get(0), structure);
+            }
+            structure.append(']');
+        } else if (element.getAsJsonPrimitive().isNumber()) {
+            structure.append("number");
+        } else if (element.getAsJsonPrimitive().isBoolean()) {
+            structure.append("boolean");
+        } else {
+            structure.append("string");
+        }
+    }
+
 
     /**
      * Extracts all fields from a JSON string with their fully qualified names.
@@ -608,4 +736,19 @@ public abstract class JsonUtils {
 
         return false;
     }
+
+    /**
+     * Object node of a document copy. Keeps the key order of the parsed payload and prints as JSON, so that values read
+     * from a copy, like the old value of a fuzzed field, look the same as in the payload.
+     */
+    private static final class JsonObjectCopy extends LinkedHashMap<String, Object> {
+        private JsonObjectCopy(int size) {
+            super(size * 4 / 3 + 1);
+        }
+
+        @Override
+        public String toString() {
+            return JSONObject.toJSONString(this);
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.endava.cats.command;
 import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.CheckArguments;
 import com.endava.cats.args.FilterArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.factory.FuzzingDataFactory;
@@ -39,6 +40,8 @@ class CatsCommandTest {
     ReportingArguments reportingArguments;
     @Inject
     ApiArguments apiArguments;
+    @Inject
+    ProcessingArguments processingArguments;
     @InjectSpy
     FuzzingDataFactory fuzzingDataFactory;
     @InjectSpy
@@ -179,6 +182,31 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldRunFuzzersOnWorkersWhenConcurrencyIsSupplied() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(processingArguments, "concurrency", 4);
+        ReflectionTestUtils.setField(reportingArguments, "verbosity", ReportingArguments.Verbosity.SUMMARY);
+
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(
+                List.of("/pet", "/pets", "/pet/findByStatus", "/pet/findByTags", "/pet/{petId}", "/pet/{petId}/uploadImage", "/store/inventory"));
+
+        catsMain.run();
+        Mockito.verify(testCaseListener, Mockito.times(0)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(9)).beforeDeferredFuzz(Mockito.eq(PathTagsLinterFuzzer.class), Mockito.anyString(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).beforeDeferredFuzz(Mockito.eq(CheckDeletedResourcesNotAvailableFuzzer.class), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(13)).commitDeferredFuzz(Mockito.any());
+
+        ReflectionTestUtils.setField(processingArguments, "concurrency", 1);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
     @Test
     void shouldReturnErrorsExitCode() {
         Mockito.when(executionStatisticsListener.getErrors()).thenReturn(190);
@@ -0,0 +1,46 @@
+package com.endava.cats.dsl.impl;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@QuarkusTest
+class SpringELParserTest {
+
+    @Test
+    void shouldEvaluateCachedExpressionAgainstEachContext() {
+        SpringELParser parser = new SpringELParser();
+        String expression = "T(java.lang.Integer).parseInt(value) + 1";
+
+        for (int i = 0; i < 300; i++) {
+            String result = parser.parse(expression, Map.of("value", String.valueOf(i)));
+            Assertions.assertThat(result).isEqualTo(String.valueOf(i + 1));
+        }
+    }
+
+    @Test
+    void shouldFallbackToResponseWhenPropertyMissingAfterManyEvaluations() {
+        SpringELParser parser = new SpringELParser();
+        String expression = "name";
+
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertThat(parser.parse(expression, Map.of("name", "abc"))).isEqualTo("abc");
+        }
+        String result = parser.parse(expression, Map.of("response", """
+                {"name": "abcd"}
+                """));
+
+        Assertions.assertThat(result).isEqualTo("abcd");
+    }
+
+    @Test
+    void shouldReturnExpressionWhenNotParsable() {
+        SpringELParser parser = new SpringELParser();
+        String expression = "T(java.lang.Integer).parseInt(";
+
+        Assertions.assertThat(parser.parse(expression, Map.of())).isEqualTo(expression);
+        Assertions.assertThat(parser.parse(expression, Map.of())).isEqualTo(expression);
+    }
+}
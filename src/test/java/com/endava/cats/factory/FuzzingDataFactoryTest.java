@@ -23,6 +23,8 @@ import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 import java.io.IOException;
@@ -32,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 @QuarkusTest
 class FuzzingDataFactoryTest {
@@ -217,6 +220,14 @@ class FuzzingDataFactoryTest {
     }
 
     private List<FuzzingData> setupFuzzingData(String path, String contract, boolean resolve) throws IOException {
+        OpenAPI openAPI = loadContract(contract, resolve);
+        PathItem pathItem = openAPI.getPaths().get(path);
+
+        Mockito.when(filesArguments.isNotUrlParam(Mockito.anyString())).thenReturn(true);
+        return fuzzingDataFactory.fromPathItem(path, pathItem, openAPI);
+    }
+
+    private OpenAPI loadContract(String contract, boolean resolve) throws IOException {
         OpenAPIParser openAPIV3Parser = new OpenAPIParser();
         ParseOptions options = new ParseOptions();
         options.setResolve(resolve);
@@ -229,11 +240,38 @@ class FuzzingDataFactoryTest {
         catsGlobalContext.getExampleMap().putAll(OpenApiUtils.getExamples(openAPI));
         catsGlobalContext.getSchemaMap().put(NoMediaType.EMPTY_BODY, NoMediaType.EMPTY_BODY_SCHEMA);
         catsGlobalContext.getSchemaMap().remove("");
-        PathItem pathItem = openAPI.getPaths().get(path);
         catsGlobalContext.setOpenAPI(openAPI);
+        return openAPI;
+    }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"src/test/resources/petstore.yml", "src/test/resources/issue_69.yml"})
+    void shouldPrepareSameFuzzingDataWhenPrefetchingPaths(String contract) throws Exception {
         Mockito.when(filesArguments.isNotUrlParam(Mockito.anyString())).thenReturn(true);
-        return fuzzingDataFactory.fromPathItem(path, pathItem, openAPI);
+
+        List<String> sequential = prepareAllPaths(contract, 0);
+        List<String> prefetched = prepareAllPaths(contract, 3);
+
+        Assertions.assertThat(prefetched).isNotEmpty().containsExactlyElementsOf(sequential);
+    }
+
+    private List<String> prepareAllPaths(String contract, int prefetchPaths) throws IOException {
+        OpenAPI openAPI = loadContract(contract, true);
+        List<Map.Entry<String, PathItem>> paths = List.copyOf(new TreeMap<>(openAPI.getPaths()).entrySet());
+
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, prefetchPaths)) {
+            return paths.stream()
+                    .flatMap(path -> prefetcher.next().stream())
+                    .map(data -> data.getMethod() + " " + data.getPath() + " " + jsonStructure(data.getPayload()) + " "
+                            + new TreeMap<>(data.getResponses()).entrySet().stream()
+                            .map(response -> response.getKey() + "=" + response.getValue().stream().map(this::jsonStructure).toList())
+                            .toList())
+                    .toList();
+        }
+    }
+
+    private String jsonStructure(String json) {
+        return json == null ? "null" : JsonUtils.getJsonStructure(JsonParser.parseString(json));
     }
 
     @Test
@@ -0,0 +1,69 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.model.FuzzingData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class FuzzingDataPrefetcherTest {
+    private FuzzingDataFactory fuzzingDataFactory;
+    private OpenAPI openAPI;
+    private List<Map.Entry<String, PathItem>> paths;
+
+    @BeforeEach
+    void setup() {
+        fuzzingDataFactory = Mockito.mock(FuzzingDataFactory.class);
+        openAPI = new OpenAPI();
+        paths = IntStream.range(0, 10).mapToObj(i -> Map.entry("/path" + i, new PathItem())).toList();
+        Mockito.when(fuzzingDataFactory.fromPathItem(Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> List.of(FuzzingData.builder().path(invocation.getArgument(0)).build()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 20})
+    void shouldReturnFuzzingDataInPathsOrder(int lookAhead) {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, lookAhead)) {
+            List<String> preparedPaths = paths.stream().map(path -> prefetcher.next().getFirst().getPath()).toList();
+
+            Assertions.assertThat(preparedPaths).containsExactlyElementsOf(paths.stream().map(Map.Entry::getKey).toList());
+        }
+    }
+
+    @Test
+    void shouldNotPreparePathsWhenNoLookAhead() {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, 0)) {
+            Mockito.verifyNoInteractions(fuzzingDataFactory);
+            prefetcher.next();
+            Mockito.verify(fuzzingDataFactory).fromPathItem(Mockito.eq("/path0"), Mockito.any(), Mockito.any());
+        }
+    }
+
+    @Test
+    void shouldThrowWhenNoMorePaths() {
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths.subList(0, 1), 2)) {
+            prefetcher.next();
+            Assertions.assertThatThrownBy(prefetcher::next).isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void shouldPropagateFailures() {
+        Mockito.when(fuzzingDataFactory.fromPathItem(Mockito.eq("/path0"), Mockito.any(), Mockito.any())).thenThrow(new IllegalArgumentException("Scheme is not declared"));
+
+        try (FuzzingDataPrefetcher prefetcher = new FuzzingDataPrefetcher(fuzzingDataFactory, openAPI, paths, 2)) {
+            Assertions.assertThatThrownBy(prefetcher::next).isInstanceOf(IllegalArgumentException.class).hasMessage("Scheme is not declared");
+        }
+    }
+}
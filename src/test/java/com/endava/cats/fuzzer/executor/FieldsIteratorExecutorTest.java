@@ -10,6 +10,7 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.jayway.jsonpath.JsonPath;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
@@ -102,6 +103,7 @@ class FieldsIteratorExecutorTest {
                     "field": "cats"
                  }
                 """);
+        Mockito.when(data.getMutablePayloadDocument()).thenAnswer(invocation -> JsonPath.parse(data.getPayload()));
 
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.from(
                 200, "{}", "POST", 20
@@ -9,6 +9,8 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.Schema;
@@ -61,6 +63,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("""
                     {"myField": 3}
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         iterateThroughEnumValuesFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -76,6 +79,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("""
                     {"myField": 3}
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         iterateThroughEnumValuesFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(0)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
     }
@@ -95,6 +99,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         iterateThroughEnumValuesFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(3)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.TWOXX));
     }
@@ -8,6 +8,7 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import org.assertj.core.api.Assertions;
@@ -42,6 +43,7 @@ class NullValuesInFieldsFuzzerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("id"));
         Mockito.when(data.getPayload()).thenReturn("{}");
+        Mockito.when(data.getMutablePayloadDocument()).thenAnswer(invocation -> JsonPath.parse(data.getPayload()));
         nullValuesInFieldsFuzzer.fuzz(data);
 
         Mockito.verify(testCaseListener).skipTest(Mockito.any(), Mockito.any());
@@ -11,6 +11,8 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -68,6 +70,7 @@ class OverflowArraySizeFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("""
                     {"primitiveField": 3}
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowArraySizeFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -85,6 +88,7 @@ class OverflowArraySizeFieldsFuzzerTest {
                         }]
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowArraySizeFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
     }
@@ -102,6 +106,7 @@ class OverflowArraySizeFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowArraySizeFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
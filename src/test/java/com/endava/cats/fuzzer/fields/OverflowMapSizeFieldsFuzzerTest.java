@@ -11,6 +11,8 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.MapSchema;
@@ -70,6 +72,7 @@ class OverflowMapSizeFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("""
                     {"primitiveField": 3}
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowMapSizeFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -88,6 +91,7 @@ class OverflowMapSizeFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowMapSizeFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
     }
@@ -104,6 +108,7 @@ class OverflowMapSizeFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowMapSizeFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -123,6 +128,7 @@ class OverflowMapSizeFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         overflowMapSizeFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -10,6 +10,8 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import org.assertj.core.api.Assertions;
@@ -59,6 +61,7 @@ class ReplaceArraysWithPrimitivesFieldsFuzzerTest {
         Mockito.when(data.getPayload()).thenReturn("""
                     {"primitiveField": 3}
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         replaceArraysWithPrimitivesFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -74,6 +77,7 @@ class ReplaceArraysWithPrimitivesFieldsFuzzerTest {
                         }]
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         replaceArraysWithPrimitivesFieldsFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(1)).reportResult(Mockito.any(), Mockito.eq(data), Mockito.any(), Mockito.eq(ResponseCodeFamilyPredefined.FOURXX));
     }
@@ -91,6 +95,7 @@ class ReplaceArraysWithPrimitivesFieldsFuzzerTest {
                         }
                     }
                 """);
+        Mockito.when(data.getMutableGsonPayloadDocument()).thenAnswer(invocation -> JsonPath.using(JsonUtils.GSON_CONFIGURATION).parse(data.getPayload()));
         replaceArraysWithPrimitivesFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(testCaseListener);
     }
@@ -7,6 +7,7 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import org.assertj.core.api.Assertions;
@@ -48,6 +49,7 @@ class ZeroWidthCharsInValuesFieldsSanitizeValidateFuzzerTest {
     void shouldNotRunWithEmptyPayload(String payload) {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getPayload()).thenReturn(payload);
+        Mockito.when(data.getMutablePayloadDocument()).thenAnswer(invocation -> JsonPath.parse(data.getPayload()));
         zeroWidthCharsInValuesFieldsSanitizeValidateFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(serviceCaller);
         Mockito.verifyNoInteractions(testCaseListener);
@@ -75,6 +77,7 @@ class ZeroWidthCharsInValuesFieldsSanitizeValidateFuzzerTest {
                     }
                 }
                 """);
+        Mockito.when(data.getMutablePayloadDocument()).thenAnswer(invocation -> JsonPath.parse(data.getPayload()));
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().responseCode(400).build());
         zeroWidthCharsInValuesFieldsSanitizeValidateFuzzer.fuzz(data);
         Mockito.verify(testCaseListener, Mockito.times(18)).reportResult(Mockito.any(), Mockito.any(),
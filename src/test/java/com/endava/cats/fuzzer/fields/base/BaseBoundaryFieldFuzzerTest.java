@@ -5,6 +5,7 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
@@ -116,6 +117,7 @@ class BaseBoundaryFieldFuzzerTest {
         schemaMap.put("field", new StringSchema());
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getPayload()).thenReturn("{\"field\":\"value\"}");
+        Mockito.when(data.getMutablePayloadDocument()).thenAnswer(invocation -> JsonPath.parse(data.getPayload()));
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
         return data;
     }
@@ -0,0 +1,125 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.http.HttpMethod;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class MutationCorpusTest {
+    private static final FuzzingData DATA = FuzzingData.builder().method(HttpMethod.POST).path("/pets/{id}").build();
+    private static final String PAYLOAD = "{\"id\": \"x\", \"name\": \"a\", \"details\": {\"age\": 1, \"tags\": [\"t\"]}}";
+
+    @TempDir
+    File corpusFolder;
+
+    @Test
+    void shouldNotStoreEntriesWhenNoCorpusFolder() {
+        MutationCorpus corpus = new MutationCorpus(null, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+
+        Assertions.assertThat(corpus.size()).isZero();
+        Assertions.assertThat(corpus.selectSeed("{\"id\": \"y\"}", "id")).isEqualTo("{\"id\": \"y\"}");
+    }
+
+    @Test
+    void shouldLoadEntriesStoredByPreviousRuns() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.ERROR));
+        corpus.add("not json", CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.ERROR));
+
+        MutationCorpus nextRun = new MutationCorpus(corpusFolder, DATA);
+
+        Assertions.assertThat(nextRun.size()).isEqualTo(1);
+        Assertions.assertThat(new File(corpusFolder, "POST__pets__id_").listFiles()).hasSize(1);
+        Assertions.assertThat(new MutationCorpus(corpusFolder, FuzzingData.builder().method(HttpMethod.PUT).path("/pets/{id}").build()).size()).isZero();
+    }
+
+    @Test
+    void shouldSeedMutationsFromCorpusEntriesContainingTheField() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+        Set<String> seeds = new HashSet<>();
+
+        IntStream.range(0, 100).forEach(i -> seeds.add(corpus.selectSeed("{\"id\": \"y\"}", "id")));
+
+        Assertions.assertThat(seeds).containsOnly(PAYLOAD, "{\"id\": \"y\"}");
+        Assertions.assertThat(corpus.selectSeed("{\"other\": \"y\"}", "other")).isEqualTo("{\"other\": \"y\"}");
+    }
+
+    @Test
+    void shouldMinimiseToSmallestPayloadWithSameOutcome() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{\"error\": \"boom\"}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+        Function<String, CatsResponse> replay = payload -> JsonUtils.isFieldInJson(payload, "id") ?
+                CatsResponse.from(500, "{\"error\": \"other\"}", "POST", 10) : CatsResponse.from(400, "{\"error\": \"missing\"}", "POST", 10);
+
+        corpus.minimise(replay);
+
+        MutationCorpus nextRun = new MutationCorpus(corpusFolder, DATA);
+        Set<String> seeds = new HashSet<>();
+        IntStream.range(0, 100).forEach(i -> seeds.add(nextRun.selectSeed("{\"id\": \"y\"}", "id")));
+        seeds.remove("{\"id\": \"y\"}");
+
+        Assertions.assertThat(nextRun.size()).isEqualTo(1);
+        Assertions.assertThat(seeds).hasSize(1);
+        Assertions.assertThat(JsonUtils.equalAsJson(seeds.iterator().next(), "{\"id\": \"x\"}")).isTrue();
+    }
+
+    @Test
+    void shouldKeepOnlySmallestPayloadForEachOutcome() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+        corpus.add("{\"id\": \"x\"}", CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.ERROR));
+        corpus.add("{\"id\": \"x\", \"name\": \"a\"}", CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.ERROR));
+        corpus.add(PAYLOAD, CatsResponse.from(400, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+
+        Assertions.assertThat(corpus.getEntries()).extracting(MutationCorpus.Entry::payload).containsExactlyInAnyOrder("{\"id\": \"x\"}", PAYLOAD);
+        Assertions.assertThat(new File(corpusFolder, "POST__pets__id_").listFiles()).hasSize(2);
+    }
+
+    @Test
+    void shouldStoreAtMostMaxEntriesPerPath() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        IntStream.range(0, MutationCorpus.MAX_ENTRIES_PER_PATH + 10).forEach(i -> corpus.add("{\"id\": \"" + i + "\"}", CatsResponse.from(200, "{\"field" + i + "x\": 1, \"name\": 1}", "POST", 10),
+                "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_STRUCTURE)));
+
+        Assertions.assertThat(corpus.size()).isEqualTo(MutationCorpus.MAX_ENTRIES_PER_PATH);
+        Assertions.assertThat(new MutationCorpus(corpusFolder, DATA).size()).isEqualTo(MutationCorpus.MAX_ENTRIES_PER_PATH);
+    }
+
+    @Test
+    void shouldMinimiseEntriesStoredByPreviousRuns() {
+        new MutationCorpus(corpusFolder, DATA).add(PAYLOAD, CatsResponse.from(500, "{}", "POST", 10), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.NEW_RESPONSE_CODE));
+        MutationCorpus nextRun = new MutationCorpus(corpusFolder, DATA);
+
+        nextRun.minimise(payload -> JsonUtils.isFieldInJson(payload, "id") ? CatsResponse.from(500, "{}", "POST", 10) : CatsResponse.from(400, "{}", "POST", 10));
+
+        MutationCorpus.Entry entry = new MutationCorpus(corpusFolder, DATA).getEntries().iterator().next();
+        Assertions.assertThat(JsonUtils.equalAsJson(entry.payload(), "{\"id\": \"x\"}")).isTrue();
+        Assertions.assertThat(entry.minimised()).isTrue();
+    }
+
+    @Test
+    void shouldNotMinimiseLatencyOutliers() {
+        MutationCorpus corpus = new MutationCorpus(corpusFolder, DATA);
+        corpus.add(PAYLOAD, CatsResponse.from(200, "{}", "POST", 5000), "NullStringMutator", "id", Set.of(MutatorsScheduler.Yield.LATENCY_OUTLIER));
+
+        corpus.minimise(payload -> {
+            throw new IllegalStateException("Should not replay");
+        });
+
+        Assertions.assertThat(new MutationCorpus(corpusFolder, DATA).size()).isEqualTo(1);
+    }
+}
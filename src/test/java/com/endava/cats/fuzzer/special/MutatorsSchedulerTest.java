@@ -0,0 +1,108 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.fuzzer.special.mutators.api.Mutator;
+import com.endava.cats.fuzzer.special.mutators.impl.NullStringMutator;
+import com.endava.cats.fuzzer.special.mutators.impl.RandomAbugidasMutator;
+import com.endava.cats.model.CatsResponse;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+@QuarkusTest
+class MutatorsSchedulerTest {
+    private final Mutator productiveMutator = new NullStringMutator();
+    private final Mutator unproductiveMutator = new RandomAbugidasMutator();
+
+    @Test
+    void shouldPickProductiveMutatorsMoreOftenWhenAdaptive() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator, unproductiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.ADAPTIVE);
+        int productiveSelections = 0;
+
+        for (int i = 0; i < 200; i++) {
+            Mutator mutator = scheduler.selectMutator();
+            boolean productive = mutator == productiveMutator;
+            productiveSelections += productive ? 1 : 0;
+            scheduler.record(mutator, scheduler.selectField(), CatsResponse.from(200, "{}", "POST", 10), productive, 10);
+        }
+
+        Assertions.assertThat(productiveSelections).isGreaterThan(150);
+    }
+
+    @Test
+    void shouldYieldForNewResponseCodesAndStructures() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"id\": 1}", "POST", 10), false, 10))
+                .containsOnly(MutatorsScheduler.Yield.NEW_RESPONSE_CODE, MutatorsScheduler.Yield.NEW_RESPONSE_STRUCTURE);
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"id\": 2}", "POST", 10), false, 10)).isEmpty();
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"id\": \"2\"}", "POST", 10), false, 10))
+                .containsOnly(MutatorsScheduler.Yield.NEW_RESPONSE_STRUCTURE);
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(500, "{\"id\": \"2\"}", "POST", 10), false, 10))
+                .containsOnly(MutatorsScheduler.Yield.NEW_RESPONSE_CODE);
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", null, true, 10)).containsOnly(MutatorsScheduler.Yield.ERROR);
+    }
+
+    @Test
+    void shouldNotYieldForResponsesWhichOnlyDifferInDynamicKeys() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+        scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"123\": {\"name\": \"a\"}}", "POST", 10), false, 10);
+
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"456\": {\"name\": \"b\"}, \"789\": {\"name\": \"c\"}}", "POST", 10), false, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldStopYieldingForNewResponseStructuresWhenTooManySeen() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+        for (int i = 0; i < MutatorsScheduler.MAX_SEEN_RESPONSE_STRUCTURES; i++) {
+            Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"field" + i + "x\": 1, \"name\": 1}", "POST", 10), false, 10))
+                    .contains(MutatorsScheduler.Yield.NEW_RESPONSE_STRUCTURE);
+        }
+
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{\"other\": 1}", "POST", 10), false, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldNotYieldForOutcomesMarkedAsSeen() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+        scheduler.markSeen(500, "{id:number,}");
+
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(500, "{\"id\": 1}", "POST", 10), false, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldYieldForLatencyOutliers() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+        for (int i = 0; i < 50; i++) {
+            scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{}", "POST", 10 + i % 3), false, 10);
+        }
+
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{}", "POST", 11), false, 10)).isEmpty();
+        Assertions.assertThat(scheduler.record(productiveMutator, "id", CatsResponse.from(200, "{}", "POST", 500), false, 10)).containsOnly(MutatorsScheduler.Yield.LATENCY_OUTLIER);
+    }
+
+    @Test
+    void shouldReportMutatorsStats() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator, unproductiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.RANDOM);
+        scheduler.record(unproductiveMutator, "id", null, false, 30);
+        scheduler.record(productiveMutator, "id", null, true, 10);
+        scheduler.record(productiveMutator, "id", null, false, 20);
+
+        List<MutatorsScheduler.MutatorStats> stats = scheduler.getMutatorsStats();
+
+        Assertions.assertThat(stats).extracting(MutatorsScheduler.MutatorStats::mutator).containsExactly("NullStringMutator", "RandomAbugidasMutator");
+        Assertions.assertThat(stats.getFirst().yieldRate()).isEqualTo(0.5);
+        Assertions.assertThat(stats.getFirst().averageTimeMs()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldNotSelectDiscardedFields() {
+        MutatorsScheduler scheduler = new MutatorsScheduler(List.of(productiveMutator), Set.of("id"), ProcessingArguments.MutatorsScheduling.ADAPTIVE);
+        scheduler.discardField("id");
+
+        Assertions.assertThat(scheduler.selectField()).isNull();
+    }
+}
@@ -2,9 +2,11 @@ package com.endava.cats.fuzzer.special;
 
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.args.MatchArguments;
+import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.args.StopArguments;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
+import com.endava.cats.fuzzer.executor.SimpleExecutorContext;
 import com.endava.cats.fuzzer.special.mutators.api.Mutator;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsResponse;
@@ -19,6 +21,7 @@ import org.assertj.core.api.Assertions;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -35,6 +38,7 @@ class RandomFuzzerTest {
     private ReportingArguments reportingArguments;
     private RandomFuzzer randomFuzzer;
     private FilesArguments filesArguments;
+    private ProcessingArguments processingArguments;
     @Inject
     Instance<Mutator> mutators;
 
@@ -47,11 +51,12 @@ class RandomFuzzerTest {
         matchArguments = Mockito.mock(MatchArguments.class);
         testCaseListener = Mockito.mock(TestCaseListener.class);
         filesArguments = Mockito.mock(FilesArguments.class);
+        processingArguments = Mockito.mock(ProcessingArguments.class);
 
         randomFuzzer = new RandomFuzzer(simpleExecutor, testCaseListener,
                 executionStatisticsListener,
                 matchArguments, mutators,
-                stopArguments, filesArguments);
+                stopArguments, filesArguments, processingArguments);
         ReflectionTestUtils.setField(testCaseListener, "testCaseExporter", Mockito.mock(TestCaseExporter.class));
     }
 
@@ -79,6 +84,37 @@ class RandomFuzzerTest {
         Mockito.verify(simpleExecutor, Mockito.times(3)).execute(Mockito.any());
     }
 
+    @Test
+    void shouldRunWithAdaptiveScheduling() {
+        Mockito.when(processingArguments.getMutatorsScheduling()).thenReturn(ProcessingArguments.MutatorsScheduling.ADAPTIVE);
+        FuzzingData data = mockData();
+        randomFuzzer.fuzz(data);
+        Mockito.verify(simpleExecutor, Mockito.times(3)).execute(Mockito.any());
+    }
+
+    @Test
+    void shouldStoreYieldingPayloadsInCorpus(@TempDir File corpusFolder) {
+        Mockito.when(filesArguments.getCorpusFolder()).thenReturn(corpusFolder);
+        Mockito.doAnswer(invocation -> {
+            SimpleExecutorContext context = invocation.getArgument(0);
+            context.getResponseProcessor().accept(CatsResponse.from(500, "{}", "POST", 10), context.getFuzzingData());
+            return null;
+        }).when(simpleExecutor).execute(Mockito.any());
+        FuzzingData data = mockData();
+
+        randomFuzzer.fuzz(data);
+
+        Assertions.assertThat(new File(corpusFolder, "POST__path").listFiles()).hasSize(1);
+    }
+
+    @Test
+    void shouldStopWhenNoFieldInPayload() {
+        FuzzingData data = mockData();
+        Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("notInPayload", "otherNotInPayload"));
+        randomFuzzer.fuzz(data);
+        Mockito.verifyNoInteractions(simpleExecutor);
+    }
+
     @Test
     void shouldReportError() {
         CatsResponse response = CatsResponse.empty();
@@ -86,8 +122,9 @@ class RandomFuzzerTest {
         Mockito.when(matchArguments.isMatchResponse(response)).thenReturn(true);
         Mockito.when(matchArguments.getMatchString()).thenReturn(" test");
 
-        randomFuzzer.processResponse(response, data);
+        boolean error = randomFuzzer.processResponse(response, data);
 
+        Assertions.assertThat(error).isTrue();
         Mockito.verify(testCaseListener, Mockito.times(1))
                 .reportResultError(Mockito.any(), Mockito.eq(data),
                         Mockito.eq("Response matches arguments"), Mockito.eq("Response matches test"));
@@ -35,4 +35,21 @@ class ValidDataFormatTest {
         List<ValidDataFormatGenerator> validDataFormatList = validDataFormat.getGenerators(schema, "");
         Assertions.assertThat(validDataFormatList).hasSize(1);
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {"email;email", "uuid;id", "date-time;createdAt", "null;street", "null;countryCode", "null;other#phoneNumber2", "null;unknown"},
+            delimiter = ';', nullValues = "null")
+    void shouldReturnSameGeneratorsAsCheckingEachGenerator(String format, String propertyName) {
+        Schema<?> schema = new Schema<>();
+        schema.setFormat(format);
+        List<ValidDataFormatGenerator> expected = validDataFormat.generators.stream()
+                .filter(generator -> generator.appliesTo(format == null ? "" : format, propertyName))
+                .toList();
+
+        List<ValidDataFormatGenerator> firstLookup = validDataFormat.getGenerators(schema, propertyName);
+        List<ValidDataFormatGenerator> secondLookup = validDataFormat.getGenerators(schema, propertyName);
+
+        Assertions.assertThat(firstLookup).containsExactlyElementsOf(expected);
+        Assertions.assertThat(secondLookup).isSameAs(firstLookup);
+    }
 }
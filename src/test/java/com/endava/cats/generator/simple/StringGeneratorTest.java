@@ -9,6 +9,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 @QuarkusTest
 class StringGeneratorTest {
@@ -168,4 +169,23 @@ class StringGeneratorTest {
         String generated = StringGenerator.generateLeftBoundString(schema);
         Assertions.assertThat(generated).hasSize(9);
     }
+
+    @Test
+    void shouldReuseCompiledPattern() {
+        Pattern first = StringGenerator.compilePattern("[a-z]{3}-cached");
+        Pattern second = StringGenerator.compilePattern("[a-z]{3}-cached");
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(StringGenerator.matchesPattern("abc-cached", "[a-z]{3}-cached")).isTrue();
+        Assertions.assertThat(StringGenerator.matchesPattern("abcd-cached", "[a-z]{3}-cached")).isFalse();
+    }
+
+    @Test
+    void shouldGenerateMatchingValuesWhenCalledRepeatedlyForSamePattern() {
+        String pattern = "^(?!0000)[0-9]{4}-[A-Z]{2}$";
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThat(StringGenerator.generate(pattern, 7, 7)).matches("[0-9]{4}-[A-Z]{2}");
+        }
+        Assertions.assertThat(StringGenerator.getPatternCacheStats()).contains("patterns with a known generator");
+    }
 }
@@ -0,0 +1,139 @@
+package com.endava.cats.io;
+
+import com.endava.cats.report.ExecutionStatisticsListener;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTest
+class AdaptiveRateLimiterTest {
+    private ExecutionStatisticsListener executionStatisticsListener;
+
+    @BeforeEach
+    void setup() {
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+    }
+
+    @Test
+    void shouldNotChangeRateWhenNotAdaptive() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.fixed(600);
+        rateLimiter.onResponse(429, 10, null);
+
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(600);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"429", "503"})
+    void shouldHalveRateWhenThrottled(int responseCode) {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        rateLimiter.onResponse(responseCode, 10, null);
+
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(300);
+        Mockito.verify(executionStatisticsListener).recordEffectiveRate(600);
+        Mockito.verify(executionStatisticsListener).recordEffectiveRate(300);
+    }
+
+    @Test
+    void shouldNotGoBelowFloor() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(200, 600, executionStatisticsListener);
+        rateLimiter.onResponse(429, 0, null);
+        rateLimiter.onResponse(429, 0, null);
+        rateLimiter.onResponse(429, 0, null);
+
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldHalveRateOnlyOnceForRequestsSentBeforeTheLastDecrease() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        rateLimiter.onResponse(429, 10, null);
+        rateLimiter.onResponse(429, 1000, null);
+        rateLimiter.onResponse(503, 1000, null);
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(300);
+
+        rateLimiter.onResponse(429, 0, null);
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(150);
+    }
+
+    @Test
+    void shouldNotPauseWhenNoRetryAfter() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+
+        Assertions.assertThat(rateLimiter.acquire()).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void shouldIncreaseRateAfterAdjustmentInterval() throws Exception {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        rateLimiter.onResponse(429, 10, null);
+        rateLimiter.onResponse(200, 10, null);
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(300);
+
+        Thread.sleep(1100);
+        rateLimiter.onResponse(200, 10, null);
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(330);
+    }
+
+    @Test
+    void shouldReduceRateWhenResponseTimesIncrease() throws Exception {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onResponse(200, 10, null);
+        }
+        Thread.sleep(1100);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onResponse(200, 200, null);
+        }
+
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(480);
+    }
+
+    @Test
+    void shouldStopReducingRateWhenResponseTimesStayHigh() throws Exception {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        rateLimiter.onResponse(429, 10, null);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onResponse(200, 10, null);
+        }
+        for (int i = 0; i < 500; i++) {
+            rateLimiter.onResponse(200, 200, null);
+        }
+        Thread.sleep(1100);
+        rateLimiter.onResponse(200, 200, null);
+
+        Assertions.assertThat(rateLimiter.getRatePerMinute()).isEqualTo(330);
+    }
+
+    @Test
+    void shouldPauseRequestsWhenRetryAfter() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(60, 600, executionStatisticsListener);
+        rateLimiter.onResponse(503, 10, "1");
+
+        long t0 = System.currentTimeMillis();
+        long waitNanos = rateLimiter.acquire();
+        Assertions.assertThat(System.currentTimeMillis() - t0).isGreaterThan(900);
+        Assertions.assertThat(waitNanos).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"10;10", "-1;0", "invalid;0", "null;0", "' ';0"}, delimiter = ';', nullValues = "null")
+    void shouldParseRetryAfterSeconds(String retryAfter, long expected) {
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryAfter)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldParseRetryAfterDate() {
+        String retryAfter = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryAfter)).isBetween(28L, 30L);
+    }
+}
@@ -0,0 +1,47 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class ResponseBodyReaderTest {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "\n", "{\"id\": 1}", "first line\nsecond line\r\nthird", "trailing\n\n\n", "\n\nleading",
+            "tabs\tand\fform feeds", "pipes|are|separators", "  multiple   spaces  ", "unicode ăîșț 😀 text\n"})
+    void shouldCountSameAsTokenizingAndSplitting(String body) throws IOException {
+        ResponseBodyReader.CapturedBody captured = ResponseBodyReader.read(ResponseBody.create(body, JSON));
+
+        Assertions.assertThat(captured.body()).isEqualTo(body);
+        Assertions.assertThat(captured.bytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(captured.words()).isEqualTo(new StringTokenizer(body).countTokens());
+        Assertions.assertThat(captured.lines()).isEqualTo(body.split("[\r|\n]").length);
+    }
+
+    @Test
+    void shouldSkipByteOrderMark() throws IOException {
+        ResponseBodyReader.CapturedBody captured = ResponseBodyReader.read(ResponseBody.create("\uFEFF{}", JSON));
+
+        Assertions.assertThat(captured.body()).isEqualTo("{}");
+        Assertions.assertThat(captured.bytes()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldReturnEmptyBodyWhenNoBody() throws IOException {
+        ResponseBodyReader.CapturedBody captured = ResponseBodyReader.read(null);
+
+        Assertions.assertThat(captured.body()).isEmpty();
+        Assertions.assertThat(captured.bytes()).isZero();
+        Assertions.assertThat(captured.lines()).isEqualTo(1);
+    }
+}
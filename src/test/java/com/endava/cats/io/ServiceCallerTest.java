@@ -7,7 +7,9 @@ import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
+import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.KeyValuePair;
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -27,14 +29,18 @@ import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.Proxy;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @QuarkusTest
@@ -51,6 +57,7 @@ class ServiceCallerTest {
     CatsGlobalContext catsGlobalContext;
     FilesArguments filesArguments;
     private ServiceCaller serviceCaller;
+    private ExecutionStatisticsListener executionStatisticsListener;
 
     @BeforeAll
     public static void setup() {
@@ -67,6 +74,9 @@ class ServiceCallerTest {
         wireMockServer.stubFor(WireMock.get("/pets/fault/malformed").willReturn(WireMock.aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK)));
         wireMockServer.stubFor(WireMock.get("/pets/fault/random").willReturn(WireMock.aResponse().withFault(Fault.RANDOM_DATA_THEN_CLOSE)));
 
+        wireMockServer.stubFor(WireMock.get("/pets/slow").willReturn(WireMock.aResponse().withFixedDelay(5000).withBody("{'pet':'pet'}")));
+        wireMockServer.stubFor(WireMock.get("/pets/throttled").willReturn(WireMock.aResponse().withStatus(429).withHeader("Retry-After", "1")));
+
         wireMockServer.stubFor(WireMock.delete("/pets/1").willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.head(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
         wireMockServer.stubFor(WireMock.trace(WireMock.urlEqualTo("/pets/1")).willReturn(WireMock.aResponse()));
@@ -82,7 +92,8 @@ class ServiceCallerTest {
     public void setupEach() throws Exception {
         filesArguments = new FilesArguments();
         TestCaseListener testCaseListener = Mockito.mock(TestCaseListener.class);
-        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, filesArguments, authArguments, apiArguments, processingArguments);
+        executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
+        serviceCaller = new ServiceCaller(catsGlobalContext, testCaseListener, executionStatisticsListener, filesArguments, authArguments, apiArguments, processingArguments);
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:" + wireMockServer.port());
         ReflectionTestUtils.setField(authArguments, "basicAuth", "user:password");
         ReflectionTestUtils.setField(filesArguments, "refDataFile", new File("src/test/resources/refFields.yml"));
@@ -118,6 +129,99 @@ class ServiceCallerTest {
         Assertions.assertThat(t1 - t0).isGreaterThan(3900);
     }
 
+    @Test
+    void shouldConfigureDispatcherAndConnectionPool() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsInFlight", 20);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsInFlightPerHost", 7);
+        serviceCaller.initHttpClient();
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequests()).isEqualTo(20);
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(7);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsInFlight", 64);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsInFlightPerHost", 10);
+    }
+
+    @Test
+    void shouldCallServiceThroughTheDispatcher() throws Exception {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        CatsRequest catsRequest = CatsRequest.builder().httpMethod("GET").url("http://localhost:" + wireMockServer.port() + "/pets/1")
+                .headers(List.of(new KeyValuePair<>("Content-Type", "application/json"))).build();
+
+        CatsResponse catsResponse = serviceCaller.callService(catsRequest, Set.of("field"));
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'pet':'pet'}");
+        Assertions.assertThat(catsResponse.getFuzzedField()).isEqualTo("field");
+    }
+
+    @Test
+    void shouldProcessResponseOnTheCallingThread() throws Exception {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        CatsRequest catsRequest = CatsRequest.builder().httpMethod("GET").url("http://localhost:" + wireMockServer.port() + "/pets/1")
+                .headers(List.of()).build();
+        List<Thread> processingThreads = new ArrayList<>();
+        Mockito.doAnswer(invocation -> processingThreads.add(Thread.currentThread())).when(executionStatisticsListener).recordResponseReceived(Mockito.anyInt());
+
+        serviceCaller.callService(catsRequest, Set.of());
+
+        Assertions.assertThat(processingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shouldReduceRateAndHonourRetryAfterWhenAdaptiveRateLimitAndThrottled() throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "adaptiveRateLimit", true);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", 600);
+        ReflectionTestUtils.setField(apiArguments, "minRequestsPerMinute", 60);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        CatsRequest catsRequest = CatsRequest.builder().httpMethod("GET").url("http://localhost:" + wireMockServer.port() + "/pets/throttled")
+                .headers(List.of()).build();
+
+        long t0 = System.currentTimeMillis();
+        serviceCaller.callService(catsRequest, Set.of());
+        serviceCaller.callService(catsRequest, Set.of());
+        long t1 = System.currentTimeMillis();
+        ReflectionTestUtils.setField(apiArguments, "adaptiveRateLimit", false);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", 10000);
+
+        Assertions.assertThat(t1 - t0).isGreaterThan(900);
+        Mockito.verify(executionStatisticsListener).recordEffectiveRate(600);
+        Mockito.verify(executionStatisticsListener).recordEffectiveRate(300);
+        Mockito.verify(executionStatisticsListener).recordEffectiveRate(150);
+    }
+
+    @Test
+    void shouldThrowIOExceptionWhenCallFails() {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        CatsRequest catsRequest = CatsRequest.builder().httpMethod("GET").url("http://localhost:" + wireMockServer.port() + "/pets/fault/reset")
+                .headers(List.of()).build();
+
+        Assertions.assertThatThrownBy(() -> serviceCaller.callService(catsRequest, Set.of()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldCancelCallWhenInterruptedWhileWaitingForResponse() throws Exception {
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+        CatsRequest catsRequest = CatsRequest.builder().httpMethod("GET").url("http://localhost:" + wireMockServer.port() + "/pets/slow")
+                .headers(List.of()).build();
+
+        Thread.currentThread().interrupt();
+        Assertions.assertThatThrownBy(() -> serviceCaller.callService(catsRequest, Set.of()))
+                .isInstanceOf(InterruptedIOException.class);
+        Assertions.assertThat(Thread.interrupted()).isTrue();
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (serviceCaller.okHttpClient.dispatcher().runningCallsCount() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().runningCallsCount()).isZero();
+    }
+
     @Test
     void shouldNotSetRateLimiter() {
         serviceCaller.initRateLimiter();
@@ -172,6 +276,22 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldKeepEntireResponseBodyAndCountIt() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/not-json").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThat(catsResponse.getBody()).hasSize(17);
+        Assertions.assertThat(catsResponse.getContentLengthInBytes()).isEqualTo(17);
+        Assertions.assertThat(catsResponse.getNumberOfWordsInResponse()).isEqualTo(1);
+        Assertions.assertThat(catsResponse.getNumberOfLinesInResponse()).isEqualTo(1);
+        Mockito.verify(executionStatisticsListener).recordRequestSent(Mockito.anyLong());
+        Mockito.verify(executionStatisticsListener).recordResponseReceived(200);
+    }
+
     @ParameterizedTest
     @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/malformed,957,protocol exception", "/pets/fault/random,952,empty reply from server", "/pets/fault/empty,952,empty reply from server"})
     void shouldHandleIOExceptions(String path, String responseCode, String expectedBody) {
@@ -184,6 +304,7 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo(responseCode);
         Assertions.assertThat(catsResponse.getBody()).contains(expectedBody);
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
+        Mockito.verify(executionStatisticsListener).recordRequestSent(Mockito.anyLong());
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.endava.cats.jfr;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.openapi.OpenApiUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@QuarkusTest
+class FlightRecordingTest {
+    private static final String CONTRACT = "src/test/resources/petstore.yml";
+    private ReportingArguments reportingArguments;
+    private FlightRecording flightRecording;
+
+    @BeforeEach
+    void setup() {
+        reportingArguments = new ReportingArguments();
+        flightRecording = new FlightRecording(reportingArguments);
+    }
+
+    @Test
+    void shouldNotRecordWhenNoFile() {
+        flightRecording.start();
+
+        Assertions.assertThat(flightRecording.isRecording()).isFalse();
+        flightRecording.stop();
+    }
+
+    @Test
+    void shouldRecordCatsEvents(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("cats.jfr");
+        ReflectionTestUtils.setField(reportingArguments, "jfr", file.toString());
+
+        flightRecording.start();
+        Assertions.assertThat(flightRecording.isRecording()).isTrue();
+        OpenApiUtils.readAsParseResult(CONTRACT);
+        flightRecording.stop();
+
+        Assertions.assertThat(flightRecording.isRecording()).isFalse();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("cats.ContractParse"))
+                .toList();
+        Assertions.assertThat(events).isNotEmpty();
+        RecordedEvent event = events.getFirst();
+        Assertions.assertThat(event.getString("location")).isEqualTo(CONTRACT);
+        Assertions.assertThat(event.getString("version")).isEqualTo("V30");
+        Assertions.assertThat(event.getInt("paths")).isPositive();
+        Assertions.assertThat(event.getLong("bytes")).isPositive();
+    }
+
+    @Test
+    void shouldNotFailWhenRecordingCannotBeWritten(@TempDir Path tempDir) {
+        ReflectionTestUtils.setField(reportingArguments, "jfr", tempDir.resolve("missing").resolve("cats.jfr").toString());
+
+        flightRecording.start();
+        flightRecording.stop();
+
+        Assertions.assertThat(flightRecording.isRecording()).isFalse();
+    }
+}
@@ -20,6 +20,40 @@ class CatsResponseTest {
         Assertions.assertThat(catsResponse.getJsonBody()).isNotNull();
     }
 
+    @ParameterizedTest
+    @CsvSource(value = {"{\"test\": \"value\"}|{\"test\":\"value\"}", "<html>error</html>|{\"notAJson\":\"<html>error</html>\"}"}, delimiter = '|')
+    void shouldParseJsonBodyFromBodyWhenNotSet(String body, String expectedJson) {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body(body).build();
+
+        Assertions.assertThat(catsResponse.getJsonBody()).hasToString(expectedJson);
+        Assertions.assertThat(catsResponse.getJsonBody()).isSameAs(catsResponse.getJsonBody());
+    }
+
+    @Test
+    void shouldReturnNullJsonBodyWhenNoBody() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).build();
+
+        Assertions.assertThat(catsResponse.getJsonBody()).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"0|{\"id\":\"123456\"}", "100|{\"id\":\"123456\"}", "8|{\"notAJson\":\"{\\\"id\\\": \\\"\"}"}, delimiter = '|')
+    void shouldTruncateJsonBodyOnlyWhenBiggerThanMax(long maxBodyBytes, String expectedJson) {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("{\"id\": \"123456\"}").build();
+        catsResponse.truncateJsonBody(maxBodyBytes);
+
+        Assertions.assertThat(catsResponse.getJsonBody()).hasToString(expectedJson);
+        Assertions.assertThat(catsResponse.getBody()).isEqualTo("{\"id\": \"123456\"}");
+    }
+
+    @Test
+    void shouldNotSplitMultiByteCharactersWhenTruncatingJsonBody() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("ab😀cd").build();
+        catsResponse.truncateJsonBody(5);
+
+        Assertions.assertThat(catsResponse.getJsonBody()).hasToString("{\"notAJson\":\"ab\"}");
+    }
+
     @ParameterizedTest
     @CsvSource({"100,0,false", "100,1000,false", "100,100,false", "1000,100,true"})
     void shouldTestResponseTimeExceeding(int responseTime, int maxResponseTime, boolean expected) {
@@ -1,11 +1,16 @@
 package com.endava.cats.model;
 
+import com.endava.cats.http.HttpMethod;
+import com.google.common.collect.Iterables;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import net.minidev.json.JSONArray;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,7 +21,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class FuzzingDataTest {
@@ -169,8 +177,50 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 0, 0);
         Assertions.assertThat(setOfFields).hasSize(15);
+        Assertions.assertThat(setOfFields.size()).isEqualTo(15);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,4", "2,10", "3,14", "4,15", "10,15"})
+    void shouldGetPowerSetUpToMaxFieldsToRemove(int maxFieldsToRemove, int expected) {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
+        FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
+
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, maxFieldsToRemove, 0);
+        Assertions.assertThat(setOfFields).hasSize(expected).allMatch(subset -> subset.size() <= maxFieldsToRemove);
+    }
+
+    @Test
+    void shouldSampleFieldsSubsets() {
+        ObjectSchema baseSchema = new ObjectSchema();
+        baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
+        FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
+
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 0, 5);
+        Assertions.assertThat(setOfFields).hasSize(5).doesNotHaveDuplicates().doesNotContain(Set.of());
+        Assertions.assertThat(setOfFields).containsExactlyElementsOf(setOfFields);
+    }
+
+    @Test
+    void shouldGetSubsetsLazilyInIncreasingSizeForLargeSets() {
+        Set<Integer> elements = IntStream.range(0, 60).boxed().collect(Collectors.toSet());
+        Subsets<Integer> subsets = FuzzingData.SetFuzzingStrategy.upToSize(elements, 0);
+
+        Assertions.assertThat(subsets.size()).isEqualTo((1L << 60) - 1);
+        Assertions.assertThat(subsets.iterator().next()).hasSize(1);
+        Assertions.assertThat(Iterables.get(subsets, 60)).hasSize(2);
+    }
+
+    @Test
+    void shouldSampleSubsetsOfLargeSets() {
+        Set<Integer> elements = IntStream.range(0, 60).boxed().collect(Collectors.toSet());
+        Subsets<Integer> subsets = Subsets.upToSize(elements, 60).sample(100, new Random(1));
+
+        Assertions.assertThat(subsets.size()).isEqualTo(100);
+        Assertions.assertThat(subsets).hasSize(100).doesNotHaveDuplicates().allMatch(subset -> !subset.isEmpty());
     }
 
     @ParameterizedTest
@@ -180,7 +230,7 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove, 0);
         Assertions.assertThat(setOfFields).hasSize(expected);
     }
 
@@ -225,6 +275,37 @@ class FuzzingDataTest {
                 .doesNotContain(Set.of("a", "b", "c", "d"));
     }
 
+    @Test
+    void shouldReturnIndependentMutableDocumentsForSamePayload() {
+        FuzzingData data = FuzzingData.builder().method(HttpMethod.POST).reqSchema(new ObjectSchema())
+                .payload("""
+                        {"name": "cats", "tags": ["a", "b"], "owner": {"id": 1}}
+                        """).build();
+        DocumentContext first = data.getMutablePayloadDocument();
+        first.set("$.owner.id", 2);
+        first.add("$.tags", "c");
+        DocumentContext second = data.getMutablePayloadDocument();
+
+        Assertions.assertThat(first.jsonString()).contains("\"id\":2").contains("\"c\"");
+        Assertions.assertThat(second.jsonString()).isEqualTo(JsonPath.parse(data.getPayload()).jsonString());
+        Assertions.assertThat((Object) second.json()).isInstanceOf(Map.class);
+        Assertions.assertThat((Object) second.read("$.tags")).isInstanceOf(JSONArray.class);
+    }
+
+    @Test
+    void shouldReturnIndependentMutableGsonDocumentsForSamePayload() {
+        FuzzingData data = FuzzingData.builder().method(HttpMethod.POST).reqSchema(new ObjectSchema())
+                .payload("""
+                        [{"name": "cats"}]
+                        """).build();
+        DocumentContext first = data.getMutableGsonPayloadDocument();
+        first.set("$[0].name", "changed");
+        DocumentContext second = data.getMutableGsonPayloadDocument();
+
+        Assertions.assertThat(first.jsonString()).contains("changed");
+        Assertions.assertThat(second.jsonString()).contains("cats").doesNotContain("changed");
+    }
+
     public Map<String, Schema> getBasePropertiesRequired() {
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("address", new StringSchema());
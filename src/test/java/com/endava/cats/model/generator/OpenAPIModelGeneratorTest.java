@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class OpenAPIModelGeneratorTest {
@@ -94,6 +95,36 @@ class OpenAPIModelGeneratorTest {
         Assertions.assertThat(JsonUtils.getVariableFromJson(exampleJson, "$#timeOfVaccination")).asString().matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}.\\d{1,16}Z");
     }
 
+    @Test
+    void shouldReuseMemoisedExamplesForReferencedSchemas() throws Exception {
+        setupPayloadGenerator();
+        ExampleMemo exampleMemo = new ExampleMemo();
+        String firstExample = new OpenAPIModelGenerator(globalContext, validDataFormat, true, 3, true, exampleMemo).generate("CyclicPet").get("example");
+        int memoSize = exampleMemo.size();
+        String secondExample = new OpenAPIModelGenerator(globalContext, validDataFormat, true, 3, true, exampleMemo).generate("CyclicPet").get("example");
+
+        Assertions.assertThat(memoSize).isPositive();
+        Assertions.assertThat(exampleMemo.size()).isEqualTo(memoSize);
+        Assertions.assertThat(JsonUtils.getVariableFromJson(secondExample, "$#parent")).isEqualTo(JsonUtils.getVariableFromJson(firstExample, "$#parent"));
+        Assertions.assertThat(JsonUtils.getVariableFromJson(secondExample, "$#parent#parent#code")).isNotEqualTo("NOT_SET");
+        Assertions.assertThat(JsonUtils.getVariableFromJson(secondExample, "$#parent#parent#parent#parent#parent#parent#code")).isEqualTo("NOT_SET");
+        Assertions.assertThat(globalContext.getRequestDataTypes()).containsKeys("parent", "parent#parent");
+    }
+
+    @Test
+    void shouldGenerateFromSeveralThreadsWithSameInstance() throws Exception {
+        OpenAPIModelGenerator generator = setupPayloadGenerator();
+
+        List<String> examples = IntStream.range(0, 16).parallel()
+                .mapToObj(i -> generator.generate("CyclicPet").get("example"))
+                .toList();
+
+        Assertions.assertThat(examples).allSatisfy(exampleJson -> {
+            Assertions.assertThat(JsonUtils.getVariableFromJson(exampleJson, "$#parent#parent#code")).isNotEqualTo("NOT_SET");
+            Assertions.assertThat(JsonUtils.getVariableFromJson(exampleJson, "$#parent#parent#parent#parent#parent#parent#code")).isEqualTo("NOT_SET");
+        });
+    }
+
     @ParameterizedTest
     @CsvSource(value = {"null,1,1", "null,null,2", "1,null,1", "2,3,3"}, nullValues = "null")
     void shouldComputeProperArrayLength(Integer min, Integer max, int expected) {
@@ -0,0 +1,127 @@
+package com.endava.cats.openapi;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class OpenApiContractCacheTest {
+    private static final String CONTRACT = "src/test/resources/petstore.yml";
+
+    @Test
+    void shouldStoreAndLoadContractFromCache(@TempDir Path cacheFolder) throws Exception {
+        OpenApiContractCache cache = new OpenApiContractCache(cacheFolder, true);
+        OpenAPI parsed = cache.readOpenApi(CONTRACT);
+        Assertions.assertThat(cache.getTimeSavedInMs()).isZero();
+        Assertions.assertThat(cacheEntries(cacheFolder)).isEqualTo(1);
+
+        OpenAPI cached = new OpenApiContractCache(cacheFolder, true).readOpenApi(CONTRACT);
+
+        Assertions.assertThat(cached).isNotSameAs(parsed);
+        Assertions.assertThat(Json.pretty(cached)).isEqualTo(Json.pretty(parsed));
+        Schema<?> parsedSchema = parsed.getComponents().getSchemas().get("MegaPet");
+        Schema<?> cachedSchema = cached.getComponents().getSchemas().get("MegaPet");
+        Assertions.assertThat(cachedSchema.getClass()).isEqualTo(parsedSchema.getClass());
+    }
+
+    @Test
+    void shouldNotStoreWhenDisabled(@TempDir Path cacheFolder) throws Exception {
+        OpenAPI openAPI = new OpenApiContractCache(cacheFolder, false).readOpenApi(CONTRACT);
+
+        Assertions.assertThat(openAPI).isNotNull();
+        Assertions.assertThat(cacheEntries(cacheFolder)).isZero();
+    }
+
+    @Test
+    void shouldParseAgainWhenCacheEntryIsCorrupted(@TempDir Path cacheFolder) throws Exception {
+        OpenApiContractCache cache = new OpenApiContractCache(cacheFolder, true);
+        cache.readOpenApi(CONTRACT);
+        try (Stream<Path> entries = Files.list(cacheFolder)) {
+            Files.writeString(entries.findFirst().orElseThrow(), "not a cache entry");
+        }
+
+        OpenAPI openAPI = cache.readOpenApi(CONTRACT);
+
+        Assertions.assertThat(openAPI.getPaths()).isNotEmpty();
+        Assertions.assertThat(cache.getTimeSavedInMs()).isZero();
+    }
+
+    @Test
+    void shouldClearCache(@TempDir Path cacheFolder) throws Exception {
+        OpenApiContractCache cache = new OpenApiContractCache(cacheFolder, true);
+        cache.readOpenApi(CONTRACT);
+        cache.clear();
+
+        Assertions.assertThat(cacheEntries(cacheFolder)).isZero();
+    }
+
+    @Test
+    void shouldChangeKeyWhenReferencedFileChanges(@TempDir Path contractFolder) throws Exception {
+        Path contract = contractFolder.resolve("contract.yml");
+        Path schemas = contractFolder.resolve("schemas.yml");
+        Files.writeString(contract, "openapi: 3.0.0\ncomponents:\n  schemas:\n    Pet:\n      $ref: 'schemas.yml#/Pet'\n");
+        Files.writeString(schemas, "Pet:\n  type: string\n");
+        String initialKey = OpenApiContractCache.cacheKey(contract).orElseThrow();
+
+        Files.writeString(schemas, "Pet:\n  type: integer\n");
+
+        Assertions.assertThat(OpenApiContractCache.cacheKey(contract)).isPresent().get().isNotEqualTo(initialKey);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'https://example.com/schemas.yml#/Pet'", "'missing.yml#/Pet'"})
+    void shouldNotComputeKeyWhenReferencedFileIsNotLocal(String reference, @TempDir Path contractFolder) throws Exception {
+        Path contract = contractFolder.resolve("contract.yml");
+        Files.writeString(contract, "openapi: 3.0.0\ncomponents:\n  schemas:\n    Pet:\n      $ref: '" + reference + "'\n");
+
+        Assertions.assertThat(OpenApiContractCache.cacheKey(contract)).isEmpty();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries(@TempDir Path cacheFolder, @TempDir Path contractFolder) throws Exception {
+        OpenApiContractCache cache = new OpenApiContractCache(cacheFolder, true);
+        for (int i = 0; i <= OpenApiContractCache.MAX_ENTRIES; i++) {
+            Path contract = contractFolder.resolve("contract" + i + ".yml");
+            Files.writeString(contract, "openapi: 3.0.0\ninfo:\n  title: contract\n  version: '" + i + "'\npaths: {}\n");
+            cache.readOpenApi(contract.toString());
+        }
+
+        Assertions.assertThat(cacheEntries(cacheFolder)).isEqualTo(OpenApiContractCache.MAX_ENTRIES);
+    }
+
+    @Test
+    void shouldNotUseCacheInNativeBuilds(@TempDir Path cacheFolder) throws Exception {
+        System.setProperty("org.graalvm.nativeimage.imagecode", "runtime");
+        try {
+            OpenAPI openAPI = new OpenApiContractCache(cacheFolder, true).readOpenApi(CONTRACT);
+
+            Assertions.assertThat(openAPI).isNotNull();
+            Assertions.assertThat(cacheEntries(cacheFolder)).isZero();
+        } finally {
+            System.clearProperty("org.graalvm.nativeimage.imagecode");
+        }
+    }
+
+    @Test
+    void shouldRejectClassesOutsideTheCachedTypes() {
+        Assertions.assertThatThrownBy(() -> OpenApiContractCache.newKryo().getRegistration(File.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long cacheEntries(Path cacheFolder) throws Exception {
+        try (Stream<Path> entries = Files.list(cacheFolder)) {
+            return entries.count();
+        }
+    }
+}
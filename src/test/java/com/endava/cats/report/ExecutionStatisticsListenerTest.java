@@ -1,12 +1,19 @@
 package com.endava.cats.report;
 
+import com.endava.cats.model.ResponseTimePercentiles;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 @QuarkusTest
 class ExecutionStatisticsListenerTest {
@@ -81,4 +88,97 @@ class ExecutionStatisticsListenerTest {
 
         Assertions.assertThat(listener.areManyIoErrors()).isEqualTo(expected);
     }
+
+    @Test
+    void shouldRecordEffectiveRatesInOrder() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.recordEffectiveRate(600);
+        listener.recordEffectiveRate(300);
+
+        Assertions.assertThat(listener.getEffectiveRates()).extracting(ExecutionStatisticsListener.EffectiveRate::requestsPerMinute).containsExactly(600d, 300d);
+    }
+
+    @Test
+    void shouldDownsampleEffectiveRatesWhenLimitReached() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        for (int i = 0; i <= ExecutionStatisticsListener.MAX_EFFECTIVE_RATES; i++) {
+            listener.recordEffectiveRate(i);
+        }
+
+        Assertions.assertThat(listener.getEffectiveRates()).hasSize(ExecutionStatisticsListener.MAX_EFFECTIVE_RATES / 2 + 1);
+        Assertions.assertThat(listener.getEffectiveRates().getFirst().requestsPerMinute()).isZero();
+        Assertions.assertThat(listener.getEffectiveRates().getLast().requestsPerMinute()).isEqualTo(ExecutionStatisticsListener.MAX_EFFECTIVE_RATES);
+    }
+
+    @Test
+    void shouldTrackRequestsInFlightAndResponsesPerStatusClass() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.recordRequestSent(100);
+        listener.recordRequestSent(200);
+        listener.recordRequestSent(0);
+        listener.recordResponseReceived(201);
+        listener.recordResponseReceived(404);
+
+        Assertions.assertThat(listener.getRequestsSent()).isEqualTo(3);
+        Assertions.assertThat(listener.getRequestsInFlight()).isOne();
+        Assertions.assertThat(listener.getResponsesPerStatusClass()).containsExactly(Map.entry("2xx", 1L), Map.entry("4xx", 1L));
+        Assertions.assertThat(listener.getRateLimiterWaitNanos()).isEqualTo(300);
+
+        listener.recordRequestFailed();
+        Assertions.assertThat(listener.getRequestsInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRecordResponseTimesPerPathAndFuzzer() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        LongStream.rangeClosed(1, 100).forEach(time -> listener.recordResponseTime("GET", "/pets", "FirstFuzzer", time));
+        listener.recordResponseTime("POST", "/pets", "SecondFuzzer", 500);
+
+        Assertions.assertThat(listener.getResponseTimesPerPath()).containsOnlyKeys("GET /pets", "POST /pets");
+        Assertions.assertThat(listener.getResponseTimesPerFuzzer()).containsOnlyKeys("FirstFuzzer", "SecondFuzzer");
+        ResponseTimePercentiles percentiles = listener.getResponseTimesPerPath().get("GET /pets");
+        Assertions.assertThat(percentiles.count()).isEqualTo(100);
+        Assertions.assertThat(percentiles.p50()).isEqualTo(50);
+        Assertions.assertThat(percentiles.p99()).isEqualTo(99);
+        Assertions.assertThat(percentiles.max()).isEqualTo(100);
+        Assertions.assertThat(listener.getResponseTimesPerFuzzer().get("SecondFuzzer").max()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldReturnSnapshotWithTotalsAndPerPathCounts() {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        listener.increaseErrors("/pets");
+        listener.increaseErrors("/pets");
+        listener.increaseWarns("/pets");
+        listener.increaseSuccess("/orders");
+        listener.increaseSuccess(null);
+        listener.increaseSkipped();
+
+        ExecutionStatisticsListener.Snapshot snapshot = listener.snapshot();
+        Assertions.assertThat(snapshot).isEqualTo(new ExecutionStatisticsListener.Snapshot(2, 1, 2, 1));
+        Assertions.assertThat(snapshot.total()).isEqualTo(5);
+        Assertions.assertThat(listener.snapshot("/pets")).isEqualTo(new ExecutionStatisticsListener.Snapshot(0, 1, 2, 0));
+        Assertions.assertThat(listener.snapshot(null).success()).isOne();
+        Assertions.assertThat(listener.snapshot("/unknown").total()).isZero();
+    }
+
+    @Test
+    void shouldCountConcurrentUpdates() throws Exception {
+        ExecutionStatisticsListener listener = new ExecutionStatisticsListener();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> updates = IntStream.range(0, 8000)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        listener.increaseErrors("/path" + (i % 10));
+                        listener.increaseSuccess("/path" + (i % 10));
+                    }))
+                    .toList();
+            for (Future<?> update : updates) {
+                update.get();
+            }
+        }
+
+        Assertions.assertThat(listener.getErrors()).isEqualTo(8000);
+        Assertions.assertThat(listener.getAll()).isEqualTo(16000);
+        Assertions.assertThat(listener.snapshot("/path3").errors()).isEqualTo(800);
+    }
 }
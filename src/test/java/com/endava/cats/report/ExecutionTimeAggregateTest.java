@@ -0,0 +1,27 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.TimeExecution;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+class ExecutionTimeAggregateTest {
+
+    @Test
+    void shouldKeepRunningStatisticsAndOnlySlowestExecutions() {
+        ExecutionTimeAggregate aggregate = new ExecutionTimeAggregate("POST /pets", 2);
+        aggregate.add(new CatsTestCaseExecutionSummary("Test 1", "/pets", "POST", 30));
+        aggregate.add(new CatsTestCaseExecutionSummary("Test 2", "/pets", "POST", 10));
+        aggregate.add(new CatsTestCaseExecutionSummary("Test 3", "/pets", "POST", 50));
+        aggregate.add(new CatsTestCaseExecutionSummary("Test 4", "/pets", "POST", 20));
+
+        Assertions.assertThat(aggregate.getKey()).isEqualTo("POST /pets");
+        Assertions.assertThat(aggregate.getCount()).isEqualTo(4);
+        Assertions.assertThat(aggregate.getAverage()).isEqualTo(27.5);
+        Assertions.assertThat(aggregate.getBestCase().executionTimeString()).isEqualTo("Test 2 - 10ms");
+        Assertions.assertThat(aggregate.getWorstCase().executionTimeString()).isEqualTo("Test 3 - 50ms");
+        Assertions.assertThat(aggregate.getExecutions()).extracting(TimeExecution::getTestId).containsExactly("Test 1", "Test 3");
+    }
+}
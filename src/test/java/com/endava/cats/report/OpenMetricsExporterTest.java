@@ -0,0 +1,93 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+@QuarkusTest
+class OpenMetricsExporterTest {
+    private ExecutionStatisticsListener executionStatisticsListener;
+    private ReportingArguments reportingArguments;
+    private OpenMetricsExporter openMetricsExporter;
+
+    @BeforeEach
+    void setup() {
+        executionStatisticsListener = new ExecutionStatisticsListener();
+        reportingArguments = new ReportingArguments();
+        openMetricsExporter = new OpenMetricsExporter(executionStatisticsListener, reportingArguments);
+    }
+
+    @Test
+    void shouldRenderRunMetrics() {
+        executionStatisticsListener.recordRequestSent(1_500_000_000L);
+        executionStatisticsListener.recordRequestSent(0);
+        executionStatisticsListener.recordResponseReceived(200);
+        executionStatisticsListener.increaseSuccess("/pets");
+        executionStatisticsListener.increaseErrors("/pets");
+        executionStatisticsListener.recordResponseTime("GET", "/pets\"", "Fuzzer", 20);
+
+        String metrics = openMetricsExporter.render();
+
+        Assertions.assertThat(metrics).contains(
+                "# TYPE cats_requests counter\n",
+                "cats_requests_total 2\n",
+                "cats_responses_total{status_class=\"2xx\"} 1\n",
+                "cats_requests_in_flight 1\n",
+                "cats_test_cases_total{result=\"success\"} 1\n",
+                "cats_test_cases_total{result=\"error\"} 1\n",
+                "cats_rate_limiter_wait_seconds_total 1.5\n",
+                "cats_response_time_milliseconds{path=\"GET /pets\\\"\",quantile=\"0.99\"} 20\n",
+                "cats_response_time_milliseconds_count{path=\"GET /pets\\\"\"} 1\n");
+        Assertions.assertThat(metrics).endsWith("# EOF\n");
+    }
+
+    @Test
+    void shouldNotStartListenerWhenNoPort() {
+        openMetricsExporter.start();
+
+        Assertions.assertThat(openMetricsExporter.getPort()).isZero();
+    }
+
+    @Test
+    void shouldServeMetricsOverHttp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        ReflectionTestUtils.setField(reportingArguments, "metricsPort", port);
+        executionStatisticsListener.recordRequestSent(0);
+        openMetricsExporter.start();
+
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            Assertions.assertThat(response.statusCode()).isEqualTo(200);
+            Assertions.assertThat(response.headers().firstValue("Content-Type")).contains(OpenMetricsExporter.CONTENT_TYPE);
+            Assertions.assertThat(response.body()).contains("cats_requests_total 1\n");
+        } finally {
+            openMetricsExporter.stop();
+        }
+        Assertions.assertThat(openMetricsExporter.getPort()).isZero();
+    }
+
+    @Test
+    void shouldNotFailWhenPortNotAvailable() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            ReflectionTestUtils.setField(reportingArguments, "metricsPort", socket.getLocalPort());
+            openMetricsExporter.start();
+
+            Assertions.assertThat(openMetricsExporter.getPort()).isZero();
+        }
+    }
+}
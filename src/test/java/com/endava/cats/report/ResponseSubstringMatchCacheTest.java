@@ -0,0 +1,45 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+@QuarkusTest
+class ResponseSubstringMatchCacheTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void shouldBeEmptyWhenNoDocumentedResponse(String documentedResponse) {
+        Assertions.assertThat(ResponseSubstringMatchCache.forResponse(documentedResponse).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldMatchNamesContainedInTheDocumentedResponseIgnoringCase() {
+        ResponseSubstringMatchCache matchCache = ResponseSubstringMatchCache.forResponse("[{\"petId\": 1, \"owner\": {\"firstName\": \"valid\"}, \"tags\": [{\"label\": \"x\"}]}]");
+
+        Assertions.assertThat(matchCache.isArray()).isTrue();
+        Assertions.assertThat(matchCache.matches("FIRSTNAME")).isTrue();
+        Assertions.assertThat(matchCache.matches("label")).isTrue();
+        Assertions.assertThat(matchCache.matches("id")).isTrue();
+        Assertions.assertThat(matchCache.matches("name")).isTrue();
+        Assertions.assertThat(matchCache.matches("lastName")).isFalse();
+    }
+
+    @Test
+    void shouldCreateMatchCacheOnlyOncePerDocumentedResponse() {
+        String documentedResponse = "{\"cached\": true}";
+
+        Assertions.assertThat(ResponseSubstringMatchCache.forResponse(documentedResponse)).isSameAs(ResponseSubstringMatchCache.forResponse(documentedResponse));
+    }
+
+    @Test
+    void shouldMatchTextWhenDocumentedResponseIsNotJsonObjectOrArray() {
+        ResponseSubstringMatchCache matchCache = ResponseSubstringMatchCache.forResponse("plain text response");
+
+        Assertions.assertThat(matchCache.isEmpty()).isFalse();
+        Assertions.assertThat(matchCache.isArray()).isFalse();
+        Assertions.assertThat(matchCache.matches("TEXT")).isTrue();
+    }
+}
@@ -0,0 +1,73 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.ResponseTimePercentiles;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+@QuarkusTest
+class ResponseTimeHistogramTest {
+
+    @Test
+    void shouldComputePercentiles() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        LongStream.rangeClosed(1, 1000).forEach(histogram::record);
+
+        ResponseTimePercentiles percentiles = histogram.percentiles();
+
+        Assertions.assertThat(percentiles.count()).isEqualTo(1000);
+        Assertions.assertThat(percentiles.p50()).isEqualTo(500);
+        Assertions.assertThat(percentiles.p90()).isEqualTo(900);
+        Assertions.assertThat(percentiles.p99()).isEqualTo(990);
+        Assertions.assertThat(percentiles.p999()).isEqualTo(999);
+        Assertions.assertThat(percentiles.max()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldRecordNegativeValuesAsZero() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        histogram.record(-5);
+
+        Assertions.assertThat(histogram.percentiles().max()).isZero();
+        Assertions.assertThat(histogram.getCount()).isOne();
+    }
+
+    @Test
+    void shouldMergeHistograms() {
+        ResponseTimeHistogram first = new ResponseTimeHistogram();
+        first.record(10);
+        ResponseTimeHistogram second = new ResponseTimeHistogram();
+        second.record(20);
+        second.record(3_600_000);
+
+        first.merge(second);
+
+        Assertions.assertThat(first.getCount()).isEqualTo(3);
+        Assertions.assertThat(first.percentiles().max()).isCloseTo(3_600_000L, Assertions.withinPercentage(0.1));
+        Assertions.assertThat(second.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDecodeEncodedHistogramAndKeepMerging() {
+        ResponseTimeHistogram histogram = new ResponseTimeHistogram();
+        LongStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        ResponseTimeHistogram decoded = ResponseTimeHistogram.decode(histogram.encode());
+        Assertions.assertThat(decoded.percentiles()).isEqualTo(histogram.percentiles());
+
+        ResponseTimeHistogram slower = new ResponseTimeHistogram();
+        slower.record(1_000_000);
+        decoded.merge(slower);
+
+        Assertions.assertThat(decoded.getCount()).isEqualTo(101);
+        Assertions.assertThat(decoded.percentiles().max()).isCloseTo(1_000_000L, Assertions.withinPercentage(0.1));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDecodingInvalidHistogram() {
+        Assertions.assertThatThrownBy(() -> ResponseTimeHistogram.decode("not a histogram"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -22,18 +22,26 @@ import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.StringSchema;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.assertj.core.api.Assertions;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.LogContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -95,13 +103,158 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
         }, FuzzingData.builder().build());
 
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(0)).isNotNull();
+        Assertions.assertThat(firstSummary()).isNotNull();
         Mockito.verify(testCaseExporter).writeTestCase(Mockito.any());
     }
 
+    @Test
+    void shouldBufferDeferredTestCasesAndNumberThemWhenCommitted() {
+        testCaseListener.beforeDeferredFuzz(Fuzzer.class, "/path", "POST");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "first"), FuzzingData.builder().build());
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "second"), FuzzingData.builder().build());
+        TestCaseListener.DeferredTestCases deferredTestCases = testCaseListener.afterDeferredFuzz();
+        List<CatsTestCase> executedTestCases = deferredTestCases.testCases();
+
+        Assertions.assertThat(executedTestCases).hasSize(2);
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.isEmpty()).isTrue();
+        Mockito.verify(testCaseExporter, Mockito.times(0)).writeTestCase(Mockito.any());
+
+        TestCaseListener.TEST.set(5);
+        testCaseListener.commitDeferredFuzz(deferredTestCases);
+
+        Assertions.assertThat(executedTestCases).extracting(CatsTestCase::getTestId).containsExactly("Test 6", "Test 7");
+        Assertions.assertThat(executedTestCases).extracting(CatsTestCase::getScenario).containsExactly("first", "second");
+        Mockito.verify(testCaseExporter, Mockito.times(2)).writeTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldRecordTestCaseEventsWithFinalTestIdsWhenDeferred(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("cats.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("cats.TestCase");
+            recording.start();
+            testCaseListener.beforeDeferredFuzz(Fuzzer.class, "/path", "POST");
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "first"), FuzzingData.builder().build());
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "second"), FuzzingData.builder().build());
+            TestCaseListener.DeferredTestCases deferredTestCases = testCaseListener.afterDeferredFuzz();
+            TestCaseListener.TEST.set(5);
+            testCaseListener.commitDeferredFuzz(deferredTestCases);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Assertions.assertThat(RecordingFile.readAllEvents(file)).extracting(event -> event.getString("testId"))
+                .containsExactly("Test 6", "Test 7");
+    }
+
+    @Test
+    void shouldCommitEventsWithFinalTestIdsWhenDeferred() {
+        List<String> eventTestIds = new ArrayList<>();
+        testCaseListener.beforeDeferredFuzz(Fuzzer.class, "/path", "POST");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.commitWithTestId(eventTestIds::add), FuzzingData.builder().build());
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.commitWithTestId(eventTestIds::add), FuzzingData.builder().build());
+        TestCaseListener.DeferredTestCases deferredTestCases = testCaseListener.afterDeferredFuzz();
+
+        Assertions.assertThat(eventTestIds).isEmpty();
+
+        TestCaseListener.TEST.set(5);
+        testCaseListener.commitDeferredFuzz(deferredTestCases);
+
+        Assertions.assertThat(eventTestIds).containsExactly("Test 6", "Test 7");
+    }
+
+    @Test
+    void shouldCommitEventsRightAwayWhenNotDeferred() {
+        List<String> eventTestIds = new ArrayList<>();
+        TestCaseListener.TEST.set(5);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.commitWithTestId(eventTestIds::add), FuzzingData.builder().build());
+
+        Assertions.assertThat(eventTestIds).containsExactly("Test 6");
+    }
+
+    @Test
+    void shouldBufferDeferredConsoleOutputAndReplaceWorkerTestIdsWhenCommitted() {
+        java.util.logging.Logger consoleLogger = LogContext.getLogContext().getLogger("com.endava.cats.deferred");
+        testCaseListener.beforeDeferredFuzz(Fuzzer.class, "/path", "POST");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> consoleLogger.warning("Running Test " + MDC.get(TestCaseListener.ID)), FuzzingData.builder().build());
+        TestCaseListener.DeferredTestCases deferredTestCases = testCaseListener.afterDeferredFuzz();
+
+        Assertions.assertThat(deferredTestCases.consoleOutput()).hasSize(1);
+        ExtLogRecord logRecord = deferredTestCases.consoleOutput().getFirst();
+        Assertions.assertThat(logRecord.getMessage()).matches("Running Test w\\d+");
+
+        TestCaseListener.TEST.set(5);
+        testCaseListener.commitDeferredFuzz(deferredTestCases);
+
+        Assertions.assertThat(logRecord.getMessage()).isEqualTo("Running Test 6");
+        Assertions.assertThat(logRecord.getMdc(TestCaseListener.ID)).isEqualTo("6");
+    }
+
+    @Test
+    void shouldWriteTestCasesInBackgroundAndWaitForThemBeforeSummary() {
+        Mockito.when(reportingArguments.getReportQueueSize()).thenReturn(2);
+        Mockito.when(reportingArguments.getReportFlushInterval()).thenReturn(10);
+
+        for (int i = 0; i < 5; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "scenario"), FuzzingData.builder().build());
+        }
+        testCaseListener.endSession();
+
+        InOrder inOrder = Mockito.inOrder(testCaseExporter);
+        inOrder.verify(testCaseExporter, Mockito.times(5)).writeTestCase(Mockito.any());
+        inOrder.verify(testCaseExporter).writeSummary(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldWriteRemainingTestCasesWhenBackgroundWriterDies() {
+        Mockito.when(reportingArguments.getReportQueueSize()).thenReturn(2);
+        Mockito.when(reportingArguments.getReportFlushInterval()).thenReturn(10);
+        Mockito.doThrow(new StackOverflowError()).doNothing().when(testCaseExporter).writeTestCase(Mockito.any());
+
+        for (int i = 0; i < 5; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "scenario"), FuzzingData.builder().build());
+        }
+        testCaseListener.endSession();
+
+        Mockito.verify(testCaseExporter, Mockito.atLeast(4)).writeTestCase(Mockito.any());
+        Mockito.verify(testCaseExporter).writeSummary(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldWriteAllTestCasesBeforeSummaryWhenInterrupted() {
+        Mockito.when(reportingArguments.getReportQueueSize()).thenReturn(2);
+        Mockito.when(reportingArguments.getReportFlushInterval()).thenReturn(10);
+
+        for (int i = 0; i < 5; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "scenario"), FuzzingData.builder().build());
+        }
+        Thread.currentThread().interrupt();
+        testCaseListener.endSession();
+
+        Assertions.assertThat(Thread.interrupted()).isTrue();
+        InOrder inOrder = Mockito.inOrder(testCaseExporter);
+        inOrder.verify(testCaseExporter, Mockito.times(5)).writeTestCase(Mockito.any());
+        inOrder.verify(testCaseExporter).writeSummary(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void shouldWriteTestCasesUsingTheCurrentExporter() {
+        Mockito.when(reportingArguments.getReportQueueSize()).thenReturn(2);
+        TestCaseExporter replacedExporter = Mockito.mock(TestCaseExporter.class);
+        ReflectionTestUtils.setField(testCaseListener, "testCaseExporter", replacedExporter);
+
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.addScenario(logger, "scenario"), FuzzingData.builder().build());
+        testCaseListener.endSession();
+
+        Mockito.verify(replacedExporter).writeTestCase(Mockito.any());
+        Mockito.verify(testCaseExporter, Mockito.never()).writeTestCase(Mockito.any());
+    }
+
     @Test
     void givenAFunction_whenExecutingATestCaseAndAddingDetails_thenTheDetailsAreCorrectlyAttachedToTheTestCase() {
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.isEmpty()).isTrue();
 
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
             testCaseListener.addScenario(logger, "Given a {} field", "string");
@@ -113,7 +266,7 @@ class TestCaseListenerTest {
             testCaseListener.reportWarn(logger, "Warn {} happened", "1");
         }, FuzzingData.builder().build());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase).isNotNull();
         Assertions.assertThat(testCase.getPath()).isEqualTo("path");
         Assertions.assertThat(testCase.getScenario()).isEqualTo("Given a string field");
@@ -126,7 +279,7 @@ class TestCaseListenerTest {
         testCaseListener.endSession();
 
         Mockito.verify(testCaseExporter, Mockito.times(1)).writeHelperFiles();
-        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.anyList(), Mockito.any());
+        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -142,7 +295,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.WARN.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Warn 1 happened");
     }
@@ -155,6 +308,14 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.times(times)).increaseAuthErrors();
     }
 
+    @ParameterizedTest
+    @CsvSource({"200,1", "999,0"})
+    void shouldRecordResponseTimeForValidResponses(int respCode, int times) {
+        CatsResponse response = CatsResponse.builder().body("{}").responseCode(respCode).responseTimeInMs(120).build();
+        prepareTestCaseListenerSimpleSetup(response, () -> testCaseListener.reportResultInfo(logger, FuzzingData.builder().build(), "Everything is fine"));
+        Mockito.verify(executionStatisticsListener, Mockito.times(times)).recordResponseTime(Mockito.eq("method"), Mockito.eq("path"), Mockito.any(), Mockito.eq(120L));
+    }
+
     @Test
     void shouldIncreaseTheNumberOfIOErrors() {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -342,11 +503,52 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.ERROR.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Error 1 happened");
     }
 
+    @Test
+    void shouldWriteOnlyClusterRepresentativesWhenClusteringEnabled() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        Mockito.when(reportingArguments.getClusterRepresentatives()).thenReturn(1);
+        List<String> bodies = List.of("{\"error\": \"java.lang.NullPointerException for id 12\"}",
+                "{\"error\": \"java.lang.NullPointerException for id 13\"}",
+                "{\"error\": \"java.lang.IllegalStateException for id 14\"}");
+
+        for (String body : bodies) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                testCaseListener.addResponse(CatsResponse.builder().responseCode(500).body(body).build());
+                testCaseListener.reportError(logger, "Error happened");
+            }, FuzzingData.builder().build());
+        }
+        testCaseListener.endSession();
+
+        Mockito.verify(testCaseExporter, Mockito.times(2)).writeTestCase(Mockito.any());
+        List<CatsTestCaseSummary> summaries;
+        try (Stream<CatsTestCaseSummary> summaryStream = testCaseListener.testCaseSummaryDetails.stream()) {
+            summaries = summaryStream.toList();
+        }
+        Assertions.assertThat(summaries).extracting(CatsTestCaseSummary::getClusterId).containsExactly("C1", "C1", "C2");
+        Assertions.assertThat(summaries).extracting(CatsTestCaseSummary::getReportKey).containsExactly("Test1", "Test1", "Test3");
+        Mockito.verify(testCaseExporter).writeSummary(Mockito.any(), Mockito.any(), Mockito.argThat(clusters -> clusters.size() == 2 && clusters.getFirst().count() == 2));
+    }
+
+    @Test
+    void shouldWriteAllTestCasesWhenClusteringDisabled() {
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+
+        for (int i = 0; i < 3; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                testCaseListener.addResponse(CatsResponse.builder().responseCode(500).body("{}").build());
+                testCaseListener.reportError(logger, "Error happened");
+            }, FuzzingData.builder().build());
+        }
+
+        Mockito.verify(testCaseExporter, Mockito.times(3)).writeTestCase(Mockito.any());
+        Assertions.assertThat(firstSummary().getClusterId()).isNull();
+    }
+
     @Test
     void givenATestCase_whenExecutingItAndASuccessHappens_thenTheSuccessIsCorrectlyReportedWithinTheTestCase() {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -359,7 +561,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResult()).isEqualTo("success");
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Success 1 happened");
     }
@@ -373,7 +575,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
 
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.isEmpty()).isTrue();
     }
 
     @Test
@@ -409,10 +611,28 @@ class TestCaseListenerTest {
         }, FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code");
     }
 
+    @Test
+    void shouldMatchSchemaWhenResponsePropertyIsPartOfADocumentedPropertyName() {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        Mockito.when(response.getBody()).thenReturn("{'id':1}");
+        Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'id':1}"));
+        Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
+        Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("{'petId':2}")));
+        Mockito.when(response.responseCodeAsString()).thenReturn("200");
+
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        }, FuzzingData.builder().build());
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
+        Mockito.verify(executionStatisticsListener, Mockito.never()).increaseWarns(Mockito.any());
+    }
+
     @Test
     void givenAnUndocumentedResponseThatMatchesTheResponseCode_whenReportingTheResult_thenTheResultIsCorrectlyReported() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
@@ -429,7 +649,7 @@ class TestCaseListenerTest {
         }, FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER");
     }
 
@@ -462,7 +682,7 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX), FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = firstSummary();
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Unexpected behaviour");
     }
 
@@ -801,6 +1021,16 @@ class TestCaseListenerTest {
         Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(1);
     }
 
+    @Test
+    void shouldReturnWorkerTestIdWhenDeferred() {
+        testCaseListener.beforeDeferredFuzz(Fuzzer.class, "/path", "POST");
+        String[] currentTestId = new String[1];
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> currentTestId[0] = testCaseListener.getCurrentTestId(), FuzzingData.builder().build());
+        testCaseListener.afterDeferredFuzz();
+
+        Assertions.assertThat(currentTestId[0]).matches("w\\d+");
+    }
+
     @Test
     void shouldReturnCurrentFuzzer() {
         testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "test", "post");
@@ -828,4 +1058,10 @@ class TestCaseListenerTest {
             runnable.run();
         }, FuzzingData.builder().build());
     }
+
+    private CatsTestCaseSummary firstSummary() {
+        try (Stream<CatsTestCaseSummary> summaries = testCaseListener.testCaseSummaryDetails.stream()) {
+            return summaries.findFirst().orElseThrow();
+        }
+    }
 }
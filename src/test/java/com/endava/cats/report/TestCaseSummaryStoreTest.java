@@ -0,0 +1,66 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.model.CatsTestCaseSummary;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class TestCaseSummaryStoreTest {
+
+    @Test
+    void shouldBeEmptyWhenNothingAdded() {
+        TestCaseSummaryStore store = new TestCaseSummaryStore();
+
+        Assertions.assertThat(store.isEmpty()).isTrue();
+        try (Stream<CatsTestCaseSummary> summaries = store.stream()) {
+            Assertions.assertThat(summaries).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReadSummariesInTheOrderTheyWereAdded() {
+        TestCaseSummaryStore store = new TestCaseSummaryStore();
+        store.add(summary("Test 1", "success"));
+        store.add(summary("Test 2", "error"));
+
+        Assertions.assertThat(store.size()).isEqualTo(2);
+        Assertions.assertThat(readAll(store)).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2");
+        Assertions.assertThat(readAll(store)).extracting(CatsTestCaseSummary::getError).containsExactly(false, true);
+
+        store.add(summary("Test 3", "warning"));
+        Assertions.assertThat(readAll(store)).extracting(CatsTestCaseSummary::getId).containsExactly("Test 1", "Test 2", "Test 3");
+    }
+
+    @Test
+    void shouldReadFirstSummaryWithoutReadingTheRest() {
+        TestCaseSummaryStore store = new TestCaseSummaryStore();
+        store.add(summary("Test 1", "success"));
+        store.add(summary("Test 2", "error"));
+
+        try (Stream<CatsTestCaseSummary> summaries = store.stream()) {
+            Assertions.assertThat(summaries.findFirst()).map(CatsTestCaseSummary::getId).contains("Test 1");
+        }
+    }
+
+    private static List<CatsTestCaseSummary> readAll(TestCaseSummaryStore store) {
+        try (Stream<CatsTestCaseSummary> summaries = store.stream()) {
+            return summaries.toList();
+        }
+    }
+
+    private static CatsTestCaseSummary summary(String id, String result) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId(id);
+        testCase.setResult(result);
+        testCase.setResponse(CatsResponse.builder().responseTimeInMs(100).build());
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        return CatsTestCaseSummary.fromCatsTestCase(testCase);
+    }
+}
@@ -281,4 +281,29 @@ class FuzzingStrategyTest {
         FuzzingResult result = FuzzingStrategy.replaceField(payload, "arrayWithInteger", FuzzingStrategy.replace().withData(List.of(55, 66)));
         Assertions.assertThat(result.json()).contains("55").contains("66").contains("USA").doesNotContain("88").doesNotContain("99");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUseJsonFormOfObjectValuedFieldsWhenPrefixing() {
+        String payload = """
+                {
+                  "owner": {"id": 1, "name": "cats"},
+                  "country": "USA"
+                }
+                """;
+        FuzzingResult result = FuzzingStrategy.replaceField(payload, "owner", FuzzingStrategy.prefix().withData("test"));
+        Assertions.assertThat(result.fuzzedValue()).isEqualTo("test{\"id\":1,\"name\":\"cats\"}");
+    }
+
+    @Test
+    void shouldUseJsonFormOfObjectValuedFieldsWhenTrailing() {
+        String payload = """
+                {
+                  "owner": {"id": 1, "name": "cats"},
+                  "country": "USA"
+                }
+                """;
+        FuzzingResult result = FuzzingStrategy.replaceField(payload, "owner", FuzzingStrategy.trail().withData("test"));
+        Assertions.assertThat(result.fuzzedValue()).isEqualTo("{\"id\":1,\"name\":\"cats\"}test");
+        Assertions.assertThat(result.json()).contains("USA");
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.util;
 
 import com.google.gson.JsonElement;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -269,4 +270,34 @@ class JsonUtilsTest {
         JsonElement parsed = JsonUtils.parseOrConvertToJsonElement(queryParams);
         Assertions.assertThat(JsonUtils.equalAsJson(payload, parsed.toString())).isTrue();
     }
+
+    @Test
+    void shouldReuseCompiledJsonPath() {
+        JsonPath first = JsonUtils.compileJsonPath("owner#petName");
+        JsonPath second = JsonUtils.compileJsonPath("owner#petName");
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(JsonUtils.getVariableFromJson("{\"owner\": {\"petName\": \"cats\"}}", "owner#petName")).isEqualTo("cats");
+        Assertions.assertThat(JsonUtils.getJsonPathCacheStats()).contains("compiled paths").contains("hits");
+    }
+
+    @Test
+    void shouldDescribeJsonStructureWithoutValues() {
+        String first = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"id\": 1, \"tags\": [\"a\", \"b\"], \"owner\": {\"name\": \"cats\", \"active\": true}}"));
+        String second = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"owner\": {\"active\": false, \"name\": \"dogs\"}, \"tags\": [\"c\"], \"id\": 2}"));
+        String different = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"id\": \"1\", \"tags\": [], \"owner\": null}"));
+
+        Assertions.assertThat(first).isEqualTo(second).isEqualTo("{id:number,owner:{active:boolean,name:string,},tags:[string],}");
+        Assertions.assertThat(different).isNotEqualTo(first);
+    }
+
+    @Test
+    void shouldDescribeObjectsWithDynamicKeysAsMaps() {
+        String first = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"users\": {\"u1\": {\"name\": \"a\"}, \"u2\": {\"name\": \"b\"}}}"));
+        String second = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"users\": {\"2024-01-01\": {\"name\": \"c\"}}}"));
+        String record = JsonUtils.getJsonStructure(JsonUtils.parseAsJsonElement("{\"name\": \"a\", \"email\": \"b\"}"));
+
+        Assertions.assertThat(first).isEqualTo(second).isEqualTo("{users:{*:{name:string,},},}");
+        Assertions.assertThat(record).isEqualTo("{email:string,name:string,}");
+    }
 }